@@ -0,0 +1,114 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.headless.HeadlessHost;
+import de.mossgrabers.benchmark.headless.HeadlessSettingsUI;
+import de.mossgrabers.benchmark.headless.HeadlessSetupFactory;
+import de.mossgrabers.controller.generic.CommandSlot;
+import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.controller.generic.GenericFlexiControllerSetup;
+import de.mossgrabers.controller.generic.controller.FlexiCommand;
+import de.mossgrabers.controller.launchpad.LaunchpadControllerSetup;
+import de.mossgrabers.controller.mcu.MCUControllerSetup;
+import de.mossgrabers.controller.push.PushControllerSetup;
+import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.mode.Modes;
+
+
+/**
+ * The controller setups which can be benchmarked.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ControllerType
+{
+    /** Ableton Push 1 with the text display. */
+    PUSH1,
+    /** Ableton Push 2 with the graphics display. */
+    PUSH2,
+    /** Novation Launchpad MkII. */
+    LAUNCHPAD_MKII,
+    /** Novation Launchpad Pro. */
+    LAUNCHPAD_PRO,
+    /** Mackie Control Universal. */
+    MCU,
+    /** Mackie Control Universal with 3 extenders. */
+    MCU_WITH_EXTENDERS,
+    /** Generic Flexi with a mapping for 8 tracks and 8 parameters. */
+    GENERIC_FLEXI;
+
+
+    /**
+     * Create the setup for the controller.
+     *
+     * @param host The headless host
+     * @param factory The headless factory
+     * @param settings The headless settings
+     * @return The setup, not yet initialized
+     */
+    public IControllerSetup createSetup (final HeadlessHost host, final HeadlessSetupFactory factory, final HeadlessSettingsUI settings)
+    {
+        switch (this)
+        {
+            case PUSH1:
+                return new PushControllerSetup (host, factory, settings, false);
+            case PUSH2:
+                return new PushControllerSetup (host, factory, settings, true);
+            case LAUNCHPAD_MKII:
+                return new LaunchpadControllerSetup (host, factory, settings, false);
+            case LAUNCHPAD_PRO:
+                return new LaunchpadControllerSetup (host, factory, settings, true);
+            case MCU:
+                return new MCUControllerSetup (host, factory, settings, 1);
+            case MCU_WITH_EXTENDERS:
+                return new MCUControllerSetup (host, factory, settings, 4);
+            case GENERIC_FLEXI:
+            default:
+                return new GenericFlexiControllerSetup (host, factory, settings);
+        }
+    }
+
+
+    /**
+     * Apply additional configuration after the setup was initialized, e.g. the mapping of the
+     * Generic Flexi.
+     *
+     * @param setup The initialized setup
+     */
+    public void configure (final IControllerSetup setup)
+    {
+        // Push has no active mode on startup, volume mode shows the VU meters
+        if (this == PUSH1 || this == PUSH2)
+        {
+            ((PushControllerSetup) setup).getSurface ().getModeManager ().setActiveMode (Modes.MODE_VOLUME);
+            return;
+        }
+
+        if (this != GENERIC_FLEXI)
+            return;
+
+        final CommandSlot [] slots = ((GenericFlexiConfiguration) setup.getConfiguration ()).getCommandSlots ();
+        for (int i = 0; i < 8; i++)
+        {
+            setSlot (slots[i], CommandSlot.TYPE_CC, i, FlexiCommand.values ()[FlexiCommand.TRACK_1_SET_VOLUME.ordinal () + i]);
+            setSlot (slots[8 + i], CommandSlot.TYPE_CC, 8 + i, FlexiCommand.values ()[FlexiCommand.TRACK_1_SET_PANORAMA.ordinal () + i]);
+            setSlot (slots[16 + i], CommandSlot.TYPE_CC, 16 + i, FlexiCommand.values ()[FlexiCommand.DEVICE_SET_PARAMETER_1.ordinal () + i]);
+            setSlot (slots[24 + i], CommandSlot.TYPE_NOTE, i, FlexiCommand.values ()[FlexiCommand.TRACK_1_TOGGLE_MUTE.ordinal () + i]);
+        }
+        setSlot (slots[32], CommandSlot.TYPE_CC, 32, FlexiCommand.MASTER_SET_VOLUME);
+        setSlot (slots[33], CommandSlot.TYPE_NOTE, 32, FlexiCommand.TRANSPORT_PLAY);
+    }
+
+
+    private static void setSlot (final CommandSlot slot, final int type, final int number, final FlexiCommand command)
+    {
+        slot.setType (type);
+        slot.setNumber (number);
+        slot.setMidiChannel (0);
+        slot.setCommand (command);
+        slot.setSendValue (true);
+    }
+}
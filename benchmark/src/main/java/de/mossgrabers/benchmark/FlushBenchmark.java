@@ -0,0 +1,133 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the latency of a flush of a controller setup, which runs on every flush of the DAW. The
+ * MIDI messages and bytes sent per flush are reported as secondary results. Run with
+ * <code>-prof gc</code> to get the allocations per flush (gc.alloc.rate.norm).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlushBenchmark
+{
+    @Param(
+    {
+        "PUSH1",
+        "PUSH2",
+        "LAUNCHPAD_MKII",
+        "LAUNCHPAD_PRO",
+        "MCU",
+        "MCU_WITH_EXTENDERS",
+        "GENERIC_FLEXI"
+    })
+    private ControllerType     controller;
+
+    /** True to simulate a running transport, which moves the VU meters on every flush. */
+    @Param(
+    {
+        "false",
+        "true"
+    })
+    private boolean            animate;
+
+    private HeadlessController headlessController;
+
+
+    /**
+     * The data sent to the controller, normalized to one flush.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class FlushCounters
+    {
+        /** The number of flushes. */
+        public long flushes;
+        /** The number of MIDI messages. */
+        public long midiMessages;
+        /** The number of MIDI bytes. */
+        public long midiBytes;
+        /** The number of bytes sent via USB. */
+        public long usbBytes;
+
+
+        /**
+         * Clear the counters before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void clear ()
+        {
+            this.flushes = 0;
+            this.midiMessages = 0;
+            this.midiBytes = 0;
+            this.usbBytes = 0;
+        }
+    }
+
+
+    /**
+     * Create and start the controller.
+     */
+    @Setup(Level.Trial)
+    public void setup ()
+    {
+        this.headlessController = new HeadlessController (this.controller);
+    }
+
+
+    /**
+     * Shutdown the controller.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown ()
+    {
+        this.headlessController.exit ();
+    }
+
+
+    /**
+     * One flush of the DAW.
+     *
+     * @param counters Collects the sent data
+     */
+    @Benchmark
+    public void flush (final FlushCounters counters)
+    {
+        final HeadlessController c = this.headlessController;
+        if (this.animate)
+            c.animate ();
+        c.resetCounters ();
+        c.flush ();
+
+        counters.flushes++;
+        counters.midiMessages += c.getMidiMessages ();
+        counters.midiBytes += c.getMidiBytes ();
+        counters.usbBytes += c.getUsbBytes ();
+    }
+}
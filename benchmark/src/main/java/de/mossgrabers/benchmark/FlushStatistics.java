@@ -0,0 +1,66 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+/**
+ * Prints the data which is sent to the controllers per flush without running the full benchmark.
+ * Useful to quickly check the effect of an optimization on the number of sent messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushStatistics
+{
+    private static final int NUM_FLUSHES = 100;
+
+
+    /**
+     * Private due to utility class.
+     */
+    private FlushStatistics ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Main method.
+     *
+     * @param args Optional names of controller types, all if empty
+     */
+    public static void main (final String [] args)
+    {
+        final ControllerType [] types;
+        if (args.length == 0)
+            types = ControllerType.values ();
+        else
+        {
+            types = new ControllerType [args.length];
+            for (int i = 0; i < args.length; i++)
+                types[i] = ControllerType.valueOf (args[i]);
+        }
+
+        System.out.println (String.format ("%-20s %8s %14s %14s %14s", "Controller", "Animate", "Messages/Flush", "Bytes/Flush", "USB/Flush"));
+        for (final ControllerType type: types)
+        {
+            for (final boolean animate: new boolean []
+            {
+                false,
+                true
+            })
+            {
+                final HeadlessController controller = new HeadlessController (type);
+                for (int i = 0; i < NUM_FLUSHES; i++)
+                {
+                    if (animate)
+                        controller.animate ();
+                    controller.flush ();
+                }
+                System.out.println (String.format ("%-20s %8s %14.1f %14.1f %14.1f", type, Boolean.toString (animate), Double.valueOf (controller.getMidiMessages () / (double) NUM_FLUSHES), Double.valueOf (controller.getMidiBytes () / (double) NUM_FLUSHES), Double.valueOf (controller.getUsbBytes () / (double) NUM_FLUSHES)));
+                controller.exit ();
+            }
+        }
+        System.exit (0);
+    }
+}
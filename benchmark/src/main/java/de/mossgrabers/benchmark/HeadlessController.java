@@ -0,0 +1,216 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.headless.HeadlessHost;
+import de.mossgrabers.benchmark.headless.HeadlessMidiInput;
+import de.mossgrabers.benchmark.headless.HeadlessMidiOutput;
+import de.mossgrabers.benchmark.headless.HeadlessModel;
+import de.mossgrabers.benchmark.headless.HeadlessSettingsUI;
+import de.mossgrabers.benchmark.headless.HeadlessSetupFactory;
+import de.mossgrabers.framework.controller.AbstractControllerSetup;
+import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.daw.midi.CoalescingMidiOutput;
+import de.mossgrabers.framework.utils.FrameworkException;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Runs a controller setup without the DAW. The headless host executes the flush tasks of the
+ * surfaces and displays directly and rate limited midi outputs are bypassed, so that
+ * {@link #flush()} returns after all MIDI data of the flush was sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessController
+{
+    private final HeadlessHost             host     = new HeadlessHost ();
+    private final HeadlessSetupFactory     factory  = new HeadlessSetupFactory (this.host);
+    private final HeadlessSettingsUI       settings = new HeadlessSettingsUI ();
+    private final IControllerSetup         setup;
+    private final List<IControlSurface<?>> surfaces = new ArrayList<> ();
+    private int                            tick;
+
+
+    /**
+     * Constructor. Initializes and starts the setup.
+     *
+     * @param type The controller to create
+     */
+    public HeadlessController (final ControllerType type)
+    {
+        this.setup = type.createSetup (this.host, this.factory, this.settings);
+        this.setup.init ();
+        this.settings.notifyObservers ();
+        type.configure (this.setup);
+
+        this.surfaces.addAll (getSurfaces (this.setup));
+        for (final IControlSurface<?> surface: this.surfaces)
+        {
+            if (surface.getOutput () instanceof CoalescingMidiOutput)
+                ((CoalescingMidiOutput) surface.getOutput ()).shutdown ();
+        }
+
+        this.setup.startup ();
+        this.host.runScheduledTasks (true);
+        this.flush ();
+        this.resetCounters ();
+    }
+
+
+    /**
+     * Flush all surfaces of the setup, like the DAW does after processing changes.
+     */
+    public void flush ()
+    {
+        this.setup.flush ();
+    }
+
+
+    /**
+     * Simulate a running transport, e.g. moving VU meters.
+     */
+    public void animate ()
+    {
+        this.tick = (this.tick + 1) % 1000000;
+        this.getModel ().animate (this.tick);
+    }
+
+
+    /**
+     * Simulate a midi message received from the first controller.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    public void receive (final int status, final int data1, final int data2)
+    {
+        this.getInput ().receive (status, data1, data2);
+    }
+
+
+    /**
+     * Shutdown the setup.
+     */
+    public void exit ()
+    {
+        this.setup.exit ();
+    }
+
+
+    /**
+     * Get the number of midi messages sent to all controllers since the last reset.
+     *
+     * @return The number of messages
+     */
+    public long getMidiMessages ()
+    {
+        long sum = 0;
+        for (final HeadlessMidiOutput output: this.factory.getMidiAccess ().getOutputs ())
+            sum += output.getMessages ();
+        return sum;
+    }
+
+
+    /**
+     * Get the number of midi bytes sent to all controllers since the last reset.
+     *
+     * @return The number of bytes
+     */
+    public long getMidiBytes ()
+    {
+        long sum = 0;
+        for (final HeadlessMidiOutput output: this.factory.getMidiAccess ().getOutputs ())
+            sum += output.getBytes ();
+        return sum;
+    }
+
+
+    /**
+     * Get the number of bytes sent via USB (e.g. the Push 2 display) since the last reset.
+     *
+     * @return The number of bytes
+     */
+    public long getUsbBytes ()
+    {
+        return this.host.getUsbDevice ().getBytes ();
+    }
+
+
+    /**
+     * Reset the midi and USB counters.
+     */
+    public void resetCounters ()
+    {
+        for (final HeadlessMidiOutput output: this.factory.getMidiAccess ().getOutputs ())
+            output.reset ();
+        this.host.getUsbDevice ().reset ();
+    }
+
+
+    /**
+     * Get the host.
+     *
+     * @return The host
+     */
+    public HeadlessHost getHost ()
+    {
+        return this.host;
+    }
+
+
+    /**
+     * Get the model.
+     *
+     * @return The model
+     */
+    public HeadlessModel getModel ()
+    {
+        return this.factory.getModel ();
+    }
+
+
+    /**
+     * Get the midi input of the first controller.
+     *
+     * @return The input
+     */
+    public HeadlessMidiInput getInput ()
+    {
+        return this.factory.getMidiAccess ().getInput (0);
+    }
+
+
+    /**
+     * Get the surfaces of the setup.
+     *
+     * @return The surfaces
+     */
+    public List<IControlSurface<?>> getSurfaces ()
+    {
+        return this.surfaces;
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private static List<IControlSurface<?>> getSurfaces (final IControllerSetup setup)
+    {
+        try
+        {
+            final Field field = AbstractControllerSetup.class.getDeclaredField ("surfaces");
+            field.setAccessible (true);
+            return (List<IControlSurface<?>>) field.get (setup);
+        }
+        catch (final ReflectiveOperationException ex)
+        {
+            throw new FrameworkException ("Could not access the surfaces of the setup.", ex);
+        }
+    }
+}
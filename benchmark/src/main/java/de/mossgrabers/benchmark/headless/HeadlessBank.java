@@ -0,0 +1,120 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.AbstractBank;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.data.IItem;
+
+import java.util.function.IntFunction;
+
+
+/**
+ * A bank of the headless model. The bank contains exactly one page, which is filled with existing
+ * items. Scrolling is ignored.
+ *
+ * @param <T> The type of the items
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessBank<T extends IItem> extends AbstractBank<T>
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param pageSize The number of items
+     * @param itemFactory Creates the item for an index
+     */
+    public HeadlessBank (final IHost host, final int pageSize, final IntFunction<T> itemFactory)
+    {
+        super (host, pageSize);
+
+        for (int i = 0; i < pageSize; i++)
+            this.items.add (itemFactory.apply (i));
+        if (pageSize > 0)
+            this.items.get (0).setSelected (true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void initItems ()
+    {
+        // Intentionally empty, the items are created by the constructor
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getItemCount ()
+    {
+        return this.pageSize;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getScrollPosition ()
+    {
+        return 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollPageBackwards ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollPageForwards ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollBackwards ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollForwards ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTo (final int position)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTo (final int position, final boolean adjustPage)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,99 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
+import de.mossgrabers.framework.graphics.IRenderer;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+
+/**
+ * A bitmap in memory which is rendered with Java2D. The encoded data uses the same BGRA byte order
+ * as the bitmaps of the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessBitmap implements IBitmap
+{
+    private final BufferedImage image;
+    private final int []        pixels;
+    private final ByteBuffer    imageBuffer;
+    private long                renderCount;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the bitmap
+     * @param height The height of the bitmap
+     */
+    public HeadlessBitmap (final int width, final int height)
+    {
+        this.image = new BufferedImage (width, height, BufferedImage.TYPE_INT_ARGB);
+        this.pixels = ((DataBufferInt) this.image.getRaster ().getDataBuffer ()).getData ();
+        // 0xAARRGGBB in little endian order gives B, G, R, A
+        this.imageBuffer = ByteBuffer.allocateDirect (width * height * 4).order (ByteOrder.LITTLE_ENDIAN);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDisplayWindowTitle (final String title)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showDisplayWindow ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void render (final IRenderer renderer)
+    {
+        final Graphics2D g = this.image.createGraphics ();
+        try
+        {
+            renderer.render (new HeadlessGraphicsContext (g));
+        }
+        finally
+        {
+            g.dispose ();
+        }
+        this.renderCount++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode (final IEncoder encoder)
+    {
+        this.imageBuffer.clear ();
+        this.imageBuffer.asIntBuffer ().put (this.pixels);
+        encoder.encode (this.imageBuffer, this.image.getWidth (), this.image.getHeight ());
+    }
+
+
+    /**
+     * Get the number of times the bitmap was rendered.
+     *
+     * @return The number of render calls
+     */
+    public long getRenderCount ()
+    {
+        return this.renderCount;
+    }
+}
@@ -0,0 +1,322 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.IChannelBank;
+import de.mossgrabers.framework.daw.ICursorDevice;
+import de.mossgrabers.framework.daw.IDeviceBank;
+import de.mossgrabers.framework.daw.IDrumPadBank;
+import de.mossgrabers.framework.daw.ILayerBank;
+import de.mossgrabers.framework.daw.IParameterBank;
+import de.mossgrabers.framework.daw.IParameterPageBank;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+
+/**
+ * An enabled device of the headless model.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessCursorDevice extends HeadlessItem implements ICursorDevice
+{
+    private final IParameterBank     parameterBank;
+    private final IParameterPageBank parameterPageBank;
+    private final IDeviceBank        deviceBank;
+    private final ILayerBank         layerBank;
+    private final IDrumPadBank       drumPadBank;
+
+
+    /**
+     * Constructor.
+     *
+     * @param parameterBank The parameters of the device
+     * @param parameterPageBank The parameter pages of the device
+     * @param deviceBank The devices of the device chain
+     * @param layerBank The layers of the device
+     * @param drumPadBank The drum pads of the device
+     */
+    public HeadlessCursorDevice (final IParameterBank parameterBank, final IParameterPageBank parameterPageBank, final IDeviceBank deviceBank, final ILayerBank layerBank, final IDrumPadBank drumPadBank)
+    {
+        super (0, "Device");
+
+        this.parameterBank = parameterBank;
+        this.parameterPageBank = parameterPageBank;
+        this.deviceBank = deviceBank;
+        this.layerBank = layerBank;
+        this.drumPadBank = drumPadBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getID ()
+    {
+        return "Device";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browseToReplaceDevice ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browseToInsertBeforeDevice ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browseToInsertAfterDevice ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectParent ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectChannel ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEnabled ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlugin ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canSelectPreviousFX ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canSelectNextFX ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isExpanded ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isParameterPageSectionVisible ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isWindowOpen ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNested ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDrumPads ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasLayers ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSlots ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPinned ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePinned ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleEnabledState ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleWindowOpen ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPrevious ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNext ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleExpanded ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleParameterPageSectionVisible ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDeviceBank getDeviceBank ()
+    {
+        return this.deviceBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameterPageBank getParameterPageBank ()
+    {
+        return this.parameterPageBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameterBank getParameterBank ()
+    {
+        return this.parameterBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ILayerBank getLayerBank ()
+    {
+        return this.layerBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDrumPadBank getDrumPadBank ()
+    {
+        return this.drumPadBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IChannelBank<?> getLayerOrDrumPadBank ()
+    {
+        return this.layerBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final IValueObserver<Void> observer)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Intentionally empty
+    }
+}
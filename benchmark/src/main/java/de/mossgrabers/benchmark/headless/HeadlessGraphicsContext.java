@@ -0,0 +1,280 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.graphics.Align;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
+import de.mossgrabers.framework.graphics.IImage;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+
+
+/**
+ * Implementation for the graphics context based on Java2D.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessGraphicsContext implements IGraphicsContext
+{
+    private final Graphics2D gc;
+
+
+    /**
+     * Constructor.
+     *
+     * @param gc The Java2D graphics context
+     */
+    public HeadlessGraphicsContext (final Graphics2D gc)
+    {
+        gc.setRenderingHint (RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        this.gc = gc;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawLine (final double x1, final double y1, final double x2, final double y2, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.draw (new Line2D.Double (x1, y1, x2, y2));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRectangle (final double x, final double y, final double width, final double height, final ColorEx color)
+    {
+        this.setColor (color);
+        this.gc.fill (new Rectangle2D.Double (x, y, Math.max (0, width), Math.max (0, height)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color)
+    {
+        this.strokeRectangle (left, top, width, height, color, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void strokeRectangle (final double left, final double top, final double width, final double height, final ColorEx color, final double lineWidth)
+    {
+        this.setColor (color);
+        this.gc.setStroke (new BasicStroke ((float) lineWidth));
+        this.gc.draw (new Rectangle2D.Double (left, top, width, height));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx backgroundColor)
+    {
+        this.setColor (backgroundColor);
+        this.gc.fill (createRoundedRectangle (left, top, width, height, radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillGradientRoundedRectangle (final double left, final double top, final double width, final double height, final double radius, final ColorEx color1, final ColorEx color2)
+    {
+        this.gc.setPaint (new GradientPaint ((float) left, (float) top, toColor (color1), (float) left, (float) (top + height), toColor (color2)));
+        this.gc.fill (createRoundedRectangle (left, top, width, height, radius));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillTriangle (final double x1, final double y1, final double x2, final double y2, final double x3, final double y3, final ColorEx fillColor)
+    {
+        final Path2D.Double path = new Path2D.Double ();
+        path.moveTo (x1, y1);
+        path.lineTo (x2, y2);
+        path.lineTo (x3, y3);
+        path.closePath ();
+        this.setColor (fillColor);
+        this.gc.fill (path);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillCircle (final double x, final double y, final double radius, final ColorEx fillColor)
+    {
+        final double r = Math.max (0, radius);
+        this.setColor (fillColor);
+        this.gc.fill (new Ellipse2D.Double (x - r, y - r, 2 * r, 2 * r));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInBounds (text, x, y, width, height, alignment, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInBounds (final String text, final double x, final double y, final double width, final double height, final Align alignment, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final FontMetrics metrics = this.setFontSize (fontSize);
+        final double h = metrics.getAscent ();
+        final double w = metrics.stringWidth (text);
+        final double posX = alignment == Align.CENTER ? x + (width - w) / 2.0 : x;
+        final double posY = y + (height + h) / 2;
+
+        final Shape clip = this.gc.getClip ();
+        this.gc.clip (new Rectangle2D.Double (x, y, width, height));
+
+        if (backgroundColor != null)
+        {
+            final double inset = 12.0;
+            this.fillRoundedRectangle (posX - inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (text, (float) posX, (float) posY);
+        this.gc.setClip (clip);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final double fontSize)
+    {
+        this.drawTextInHeight (text, x, y, height, color, null, fontSize);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawTextInHeight (final String text, final double x, final double y, final double height, final ColorEx color, final ColorEx backgroundColor, final double fontSize)
+    {
+        if (text == null || text.length () == 0)
+            return;
+
+        final FontMetrics metrics = this.setFontSize (fontSize);
+        final double h = metrics.getAscent ();
+        final double posY = y + (height + h) / 2;
+
+        if (backgroundColor != null)
+        {
+            final double w = metrics.stringWidth (text);
+            final double inset = 12.0;
+            this.fillRoundedRectangle (x + inset, posY - h - inset, w + 2 * inset, h + 2 * inset, inset, backgroundColor);
+        }
+
+        this.setColor (color);
+        this.gc.drawString (text, (float) x, (float) posY);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawImage (final IImage icon, final double x, final double y)
+    {
+        this.gc.drawImage (((HeadlessImage) icon).getImage (), (int) x, (int) y, null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void maskImage (final IImage icon, final double x, final double y, final ColorEx maskColor)
+    {
+        // The images are transparent, only draw the outline area
+        this.setColor (maskColor);
+        this.gc.drawImage (((HeadlessImage) icon).getImage (), (int) x, (int) y, null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double calculateFontSize (final double maxHeight, final double maxWidth)
+    {
+        final String maxString = "G#5";
+        final double minSize = 12.0;
+
+        double size = minSize;
+        double fittingSize = -1;
+        while (size < maxHeight)
+        {
+            final double width = this.setFontSize (size).stringWidth (maxString);
+            if (width > maxWidth)
+                break;
+            fittingSize = size;
+            size += 1.0;
+        }
+        return fittingSize;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setClip (final double left, final double top, final double width, final double height)
+    {
+        this.gc.setClip (new Rectangle2D.Double (left, top, width, height));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetClip ()
+    {
+        this.gc.setClip (null);
+    }
+
+
+    private FontMetrics setFontSize (final double fontSize)
+    {
+        final Font font = this.gc.getFont ();
+        if (font.getSize2D () != (float) fontSize)
+            this.gc.setFont (font.deriveFont ((float) fontSize));
+        return this.gc.getFontMetrics ();
+    }
+
+
+    private void setColor (final ColorEx color)
+    {
+        this.gc.setColor (toColor (color));
+    }
+
+
+    private static Color toColor (final ColorEx color)
+    {
+        return new Color (clamp (color.getRed ()), clamp (color.getGreen ()), clamp (color.getBlue ()));
+    }
+
+
+    private static float clamp (final double value)
+    {
+        return (float) Math.max (0, Math.min (1, value));
+    }
+
+
+    private static Shape createRoundedRectangle (final double left, final double top, final double width, final double height, final double radius)
+    {
+        return new RoundRectangle2D.Double (left, top, width, height, 2 * radius, 2 * radius);
+    }
+}
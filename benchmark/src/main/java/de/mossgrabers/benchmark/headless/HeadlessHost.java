@@ -0,0 +1,319 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IImage;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.utils.FlushScheduler;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+
+/**
+ * An in-memory host, which allows to run controller setups without the DAW. Scheduled tasks are
+ * not executed automatically but with {@link #runScheduledTasks(boolean)}. The flush tasks of the
+ * surfaces and displays are executed directly in the calling thread, therefore a flush returns
+ * after all data of the flush was sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessHost implements IHost
+{
+    private static final int           SVG_SIZE       = 24;
+
+    private final List<ScheduledTask>  scheduledTasks = new ArrayList<> ();
+    private final List<HeadlessBitmap> bitmaps        = new ArrayList<> ();
+    private final HeadlessUsbDevice    usbDevice      = new HeadlessUsbDevice ();
+    private final FlushScheduler       flushScheduler = new FlushScheduler (0);
+    private boolean                    isVerbose;
+    private long                       errors;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Headless";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasClips ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasPinning ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasCrossfader ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDrumDevice ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasRepeat ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canEditMarkers ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void scheduleTask (final Runnable task, final long delay)
+    {
+        this.scheduledTasks.add (new ScheduledTask (task, System.currentTimeMillis () + delay));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public FlushScheduler getFlushScheduler ()
+    {
+        return this.flushScheduler;
+    }
+
+
+    /**
+     * Executes the scheduled tasks.
+     *
+     * @param all If true all tasks are executed otherwise only the ones which are due
+     * @return The number of executed tasks
+     */
+    public int runScheduledTasks (final boolean all)
+    {
+        final List<Runnable> due = new ArrayList<> ();
+        synchronized (this)
+        {
+            final long now = System.currentTimeMillis ();
+            final Iterator<ScheduledTask> iterator = this.scheduledTasks.iterator ();
+            while (iterator.hasNext ())
+            {
+                final ScheduledTask scheduledTask = iterator.next ();
+                if (all || scheduledTask.time <= now)
+                {
+                    due.add (scheduledTask.task);
+                    iterator.remove ();
+                }
+            }
+        }
+        for (final Runnable task: due)
+            task.run ();
+        return due.size ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text)
+    {
+        this.errors++;
+        System.err.println (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text, final Throwable ex)
+    {
+        this.errors++;
+        System.err.println (text);
+        ex.printStackTrace ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void println (final String text)
+    {
+        if (this.isVerbose)
+            System.out.println (text);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showNotification (final String message)
+    {
+        this.println (message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort, final int maxPacketSize)
+    {
+        return SyntheticObject.create (IOpenSoundControlClient.class);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
+    {
+        return SyntheticObject.create (IOpenSoundControlServer.class);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlMessage createOSCMessage (final String address, final List<Object> values)
+    {
+        final IOpenSoundControlMessage message = SyntheticObject.create (IOpenSoundControlMessage.class);
+        SyntheticObject.set (message, "getAddress", address);
+        return message;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseOSC ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IImage loadSVG (final String imageName, final int scale)
+    {
+        return new HeadlessImage (SVG_SIZE * scale, SVG_SIZE * scale);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized IBitmap createBitmap (final int width, final int height)
+    {
+        final HeadlessBitmap bitmap = new HeadlessBitmap (width, height);
+        this.bitmaps.add (bitmap);
+        return bitmap;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMemoryBlock createMemoryBlock (final int size)
+    {
+        return new HeadlessMemoryBlock (size);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IUsbDevice getUsbDevice (final int index)
+    {
+        return this.usbDevice;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseUsbDevices ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the USB device, which counts the transfers, e.g. to the Push 2 display.
+     *
+     * @return The USB device
+     */
+    public HeadlessUsbDevice getUsbDevice ()
+    {
+        return this.usbDevice;
+    }
+
+
+    /**
+     * Get all bitmaps which were created by the controller.
+     *
+     * @return The bitmaps
+     */
+    public synchronized List<HeadlessBitmap> getBitmaps ()
+    {
+        return new ArrayList<> (this.bitmaps);
+    }
+
+
+    /**
+     * Get the number of errors which were reported.
+     *
+     * @return The number of errors
+     */
+    public long getErrors ()
+    {
+        return this.errors;
+    }
+
+
+    /**
+     * Enable printing of the console messages.
+     *
+     * @param isVerbose True to print the messages
+     */
+    public void setVerbose (final boolean isVerbose)
+    {
+        this.isVerbose = isVerbose;
+    }
+
+
+    /** A task with the time when it is due. */
+    private static class ScheduledTask
+    {
+        final Runnable task;
+        final long     time;
+
+
+        /**
+         * Constructor.
+         *
+         * @param task The task
+         * @param time The time when the task is due in milliseconds
+         */
+        ScheduledTask (final Runnable task, final long time)
+        {
+            this.task = task;
+            this.time = time;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.graphics.IImage;
+
+import java.awt.image.BufferedImage;
+
+
+/**
+ * An image in memory. Since SVG files cannot be rendered without the DAW the image is transparent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessImage implements IImage
+{
+    private final BufferedImage image;
+
+
+    /**
+     * Constructor.
+     *
+     * @param width The width of the image
+     * @param height The height of the image
+     */
+    public HeadlessImage (final int width, final int height)
+    {
+        this.image = new BufferedImage (width, height, BufferedImage.TYPE_INT_ARGB);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getWidth ()
+    {
+        return this.image.getWidth ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHeight ()
+    {
+        return this.image.getHeight ();
+    }
+
+
+    /**
+     * Get the image.
+     *
+     * @return The image
+     */
+    public BufferedImage getImage ()
+    {
+        return this.image;
+    }
+}
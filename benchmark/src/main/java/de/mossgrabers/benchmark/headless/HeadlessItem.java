@@ -0,0 +1,81 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.data.AbstractItemImpl;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+
+/**
+ * An existing item of a headless bank with a fixed name. Names are never shortened, since limiting
+ * them would add allocations to the measurements.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class HeadlessItem extends AbstractItemImpl
+{
+    private final String name;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the item in the page
+     * @param name The name of the item
+     */
+    public HeadlessItem (final int index, final String name)
+    {
+        super (index);
+        this.name = name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPosition ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void select ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNameObserver (final IValueObserver<String> observer)
+    {
+        // Intentionally empty
+    }
+}
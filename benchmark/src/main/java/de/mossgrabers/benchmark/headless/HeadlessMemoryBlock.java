@@ -0,0 +1,40 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * A block of direct memory.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessMemoryBlock implements IMemoryBlock
+{
+    private final ByteBuffer buffer;
+
+
+    /**
+     * Constructor.
+     *
+     * @param size The size of the memory block in bytes
+     */
+    public HeadlessMemoryBlock (final int size)
+    {
+        this.buffer = ByteBuffer.allocateDirect (size);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ByteBuffer createByteBuffer ()
+    {
+        // Like the DAW, return a new view on the same memory
+        return this.buffer.duplicate ();
+    }
+}
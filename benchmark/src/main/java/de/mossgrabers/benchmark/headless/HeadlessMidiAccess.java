@@ -0,0 +1,95 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Creates in-memory midi ports. Several requests for the same port index return the same instance.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessMidiAccess implements IMidiAccess
+{
+    private final List<HeadlessMidiOutput> outputs = new ArrayList<> ();
+    private final List<HeadlessMidiInput>  inputs  = new ArrayList<> ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput ()
+    {
+        return this.createOutput (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput (final int index)
+    {
+        return this.getOutput (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final String name, final String... filters)
+    {
+        return this.createInput (0, name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final int index, final String name, final String... filters)
+    {
+        return this.getInput (index);
+    }
+
+
+    /**
+     * Get the output at the given port index.
+     *
+     * @param index The index of the port
+     * @return The output
+     */
+    public synchronized HeadlessMidiOutput getOutput (final int index)
+    {
+        while (this.outputs.size () <= index)
+            this.outputs.add (new HeadlessMidiOutput ());
+        return this.outputs.get (index);
+    }
+
+
+    /**
+     * Get the input at the given port index.
+     *
+     * @param index The index of the port
+     * @return The input
+     */
+    public synchronized HeadlessMidiInput getInput (final int index)
+    {
+        while (this.inputs.size () <= index)
+            this.inputs.add (new HeadlessMidiInput ());
+        return this.inputs.get (index);
+    }
+
+
+    /**
+     * Get all outputs which were created.
+     *
+     * @return The outputs
+     */
+    public synchronized List<HeadlessMidiOutput> getOutputs ()
+    {
+        return new ArrayList<> (this.outputs);
+    }
+}
@@ -0,0 +1,128 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.INoteInput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+
+
+/**
+ * A midi input which is fed from the benchmark instead of a hardware port.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessMidiInput implements IMidiInput
+{
+    private MidiShortCallback midiCallback;
+    private MidiSysExCallback sysexCallback;
+    private long              rawEvents;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteInput createNoteInput (final String name, final String... filters)
+    {
+        return new HeadlessNoteInput ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        this.rawEvents++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setKeyTranslationTable (final Integer [] table)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVelocityTranslationTable (final Integer [] table)
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Simulate a midi message received from the controller.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    public void receive (final int status, final int data1, final int data2)
+    {
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+    }
+
+
+    /**
+     * Simulate a system exclusive message received from the controller.
+     *
+     * @param data The data formatted as a hex string, e.g. F0 7E 7F 06 01 F7
+     */
+    public void receiveSysex (final String data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+    }
+
+
+    /**
+     * Get the number of midi events which were sent to the DAW.
+     *
+     * @return The number of events
+     */
+    public long getRawEvents ()
+    {
+        return this.rawEvents;
+    }
+
+
+    /** A note input which does nothing. */
+    private static class HeadlessNoteInput implements INoteInput
+    {
+        /** {@inheritDoc} */
+        @Override
+        public void setKeyTranslationTable (final Integer [] table)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setVelocityTranslationTable (final Integer [] table)
+        {
+            // Intentionally empty
+        }
+    }
+}
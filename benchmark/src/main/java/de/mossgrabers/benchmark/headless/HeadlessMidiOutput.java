@@ -0,0 +1,103 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.midi.AbstractMidiOutputImpl;
+
+
+/**
+ * A midi output which does not send anything but counts the sent messages and bytes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessMidiOutput extends AbstractMidiOutputImpl
+{
+    private long shortMessages;
+    private long sysexMessages;
+    private long bytes;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.sysexMessages++;
+        this.bytes += data.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        // The host converts the hex string into bytes, e.g. "F0 7E 7F 06 01 F7"
+        this.sysexMessages++;
+        this.bytes += (data.trim ().length () + 1) / 3;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        this.shortMessages++;
+        this.bytes += 3;
+    }
+
+
+    /**
+     * Get the number of short midi messages sent since the last reset.
+     *
+     * @return The number of messages
+     */
+    public long getShortMessages ()
+    {
+        return this.shortMessages;
+    }
+
+
+    /**
+     * Get the number of system exclusive messages sent since the last reset.
+     *
+     * @return The number of messages
+     */
+    public long getSysexMessages ()
+    {
+        return this.sysexMessages;
+    }
+
+
+    /**
+     * Get the number of all messages sent since the last reset.
+     *
+     * @return The number of messages
+     */
+    public long getMessages ()
+    {
+        return this.shortMessages + this.sysexMessages;
+    }
+
+
+    /**
+     * Get the number of bytes sent since the last reset.
+     *
+     * @return The number of bytes
+     */
+    public long getBytes ()
+    {
+        return this.bytes;
+    }
+
+
+    /**
+     * Reset all counters.
+     */
+    public void reset ()
+    {
+        this.shortMessages = 0;
+        this.sysexMessages = 0;
+        this.bytes = 0;
+    }
+}
@@ -0,0 +1,318 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.LightAnimator;
+import de.mossgrabers.framework.daw.AbstractModel;
+import de.mossgrabers.framework.daw.IApplication;
+import de.mossgrabers.framework.daw.IArranger;
+import de.mossgrabers.framework.daw.IBank;
+import de.mossgrabers.framework.daw.IBrowser;
+import de.mossgrabers.framework.daw.IChannelBank;
+import de.mossgrabers.framework.daw.IClip;
+import de.mossgrabers.framework.daw.ICursorDevice;
+import de.mossgrabers.framework.daw.IDeviceBank;
+import de.mossgrabers.framework.daw.IDrumPadBank;
+import de.mossgrabers.framework.daw.IGroove;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ILayerBank;
+import de.mossgrabers.framework.daw.IMarkerBank;
+import de.mossgrabers.framework.daw.IMixer;
+import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.IParameterPageBank;
+import de.mossgrabers.framework.daw.IProject;
+import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.ISlotBank;
+import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.framework.scale.Scales;
+
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * An in-memory model. All banks are filled with existing items. Use {@link #animate(int)} to
+ * simulate a running transport, which changes the VU meters and the playback position.
+ * <p>
+ * The objects which are read on every flush (transport, tracks, slots, scenes, sends, the cursor
+ * device and its parameters) are hand-written stubs. All other objects are stand-ins created by
+ * {@link SyntheticObject}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessModel extends AbstractModel
+{
+    private static final String []         BEAT_TEXTS =
+    {
+        "1.1.1",
+        "1.1.2",
+        "1.1.3",
+        "1.1.4"
+    };
+
+    private final Map<Integer, ISceneBank> sceneBanks = new HashMap<> (1);
+    private final int                      vuUpperBound;
+    private boolean                        isCursorTrackPinned;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The headless host
+     * @param colorManager The color manager
+     * @param valueChanger The value changer
+     * @param scales The scales object
+     * @param modelSetup The configuration parameters for the model
+     */
+    public HeadlessModel (final HeadlessHost host, final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
+    {
+        super (colorManager, valueChanger, scales, modelSetup);
+
+        this.vuUpperBound = valueChanger.getUpperBound ();
+
+        this.host = host;
+        this.application = SyntheticObject.create (IApplication.class);
+        this.project = SyntheticObject.create (IProject.class);
+        this.arranger = SyntheticObject.create (IArranger.class);
+        this.mixer = SyntheticObject.create (IMixer.class);
+        this.groove = SyntheticObject.create (IGroove.class);
+
+        this.transport = new HeadlessTransport ();
+        this.lightAnimator = new LightAnimator (host, this.transport);
+
+        final int numMarkers = modelSetup.getNumMarkers ();
+        if (numMarkers > 0)
+            this.markerBank = createBank (IMarkerBank.class, numMarkers, "Marker");
+
+        this.masterTrack = new HeadlessTrack (0, "Master", createSlotBank (host, 0, 0), new HeadlessSendBank (host, 0));
+
+        final int numTracks = modelSetup.getNumTracks ();
+        final int numSends = modelSetup.getNumSends ();
+        final int numScenes = modelSetup.getNumScenes ();
+        this.trackBank = createTrackBank (host, numTracks, numSends, numScenes, "Track");
+        this.effectTrackBank = createTrackBank (host, numTracks, 0, numScenes, "FX");
+
+        final int numParams = modelSetup.getNumParams ();
+        final int numDeviceLayers = modelSetup.getNumDeviceLayers ();
+        final int numDrumPadLayers = modelSetup.getNumDrumPadLayers ();
+        this.instrumentDevice = createDevice (host, numParams, numDeviceLayers, numDrumPadLayers, numSends);
+        this.cursorDevice = createDevice (host, numParams, numDeviceLayers, numDrumPadLayers, numSends);
+        if (numDrumPadLayers > 0)
+            this.drumDevice64 = createDevice (host, 0, 64, 64, 0);
+
+        if (modelSetup.getNumResults () > 0)
+            this.browser = SyntheticObject.create (IBrowser.class);
+
+        this.currentTrackBank = this.trackBank;
+    }
+
+
+    /**
+     * Simulate a running transport: moves the VU meters of all tracks and the master track.
+     *
+     * @param tick A running counter, e.g. the number of the flush
+     */
+    public void animate (final int tick)
+    {
+        final int upperBound = this.vuUpperBound;
+        final int pageSize = this.trackBank.getPageSize ();
+        for (int i = 0; i < pageSize; i++)
+            ((HeadlessTrack) this.trackBank.getItem (i)).setVu ((tick * 7 + i * 13) % upperBound);
+        ((HeadlessTrack) this.masterTrack).setVu (tick * 11 % upperBound);
+        ((HeadlessTransport) this.transport).setBeatText (BEAT_TEXTS[tick % BEAT_TEXTS.length]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISceneBank createSceneBank (final int numScenes)
+    {
+        return this.sceneBanks.computeIfAbsent (Integer.valueOf (numScenes), key -> new HeadlessSceneBank (this.host, numScenes));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSolo ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasArmedTrack ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void deactivateSolo ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void deactivateMute ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public INoteClip getNoteClip (final int cols, final int rows)
+    {
+        return (INoteClip) this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> {
+            final INoteClip clip = SyntheticObject.create (INoteClip.class);
+            SyntheticObject.set (clip, "doesExist", Boolean.TRUE);
+            SyntheticObject.set (clip, "getNumSteps", Integer.valueOf (cols));
+            SyntheticObject.set (clip, "getNumRows", Integer.valueOf (rows));
+            SyntheticObject.set (clip, "getStepLength", Double.valueOf (0.25));
+            SyntheticObject.set (clip, "getLoopLength", Double.valueOf (4));
+            SyntheticObject.set (clip, "getPlayEnd", Double.valueOf (4));
+            return clip;
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IClip getClip ()
+    {
+        return this.getNoteClip (0, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void ensureClip ()
+    {
+        this.getNoteClip (0, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorTrackPinned ()
+    {
+        return this.isCursorTrackPinned;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCursorTrackPinned ()
+    {
+        this.isCursorTrackPinned = !this.isCursorTrackPinned;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorDeviceOnMasterTrack ()
+    {
+        return false;
+    }
+
+
+    private static ITrackBank createTrackBank (final IHost host, final int numTracks, final int numSends, final int numScenes, final String prefix)
+    {
+        return new HeadlessTrackBank (host, numTracks, index -> new HeadlessTrack (index, prefix + " " + (index + 1), createSlotBank (host, index, numScenes), new HeadlessSendBank (host, numSends)), new HeadlessSceneBank (host, numScenes));
+    }
+
+
+    private static ISlotBank createSlotBank (final IHost host, final int trackIndex, final int numScenes)
+    {
+        return new HeadlessSlotBank (host, numScenes, index -> new HeadlessSlot (index, "Clip " + (index + 1), (trackIndex + index) % 3 != 0, index == 0 && trackIndex % 2 == 0));
+    }
+
+
+    private static ICursorDevice createDevice (final IHost host, final int numParams, final int numLayers, final int numDrumPads, final int numSends)
+    {
+        final ILayerBank layerBank = createBank (ILayerBank.class, Math.max (0, numLayers), null);
+        fillChannels (host, layerBank, Math.max (0, numLayers), "Layer", numSends);
+
+        final IDrumPadBank drumPadBank = createBank (IDrumPadBank.class, Math.max (0, numDrumPads), null);
+        fillChannels (host, drumPadBank, Math.max (0, numDrumPads), "Pad", numSends);
+
+        return new HeadlessCursorDevice (new HeadlessParameterBank (host, numParams), createBank (IParameterPageBank.class, 8, null), createBank (IDeviceBank.class, 8, "Device"), layerBank, drumPadBank);
+    }
+
+
+    private static void fillChannels (final IHost host, final IChannelBank<?> bank, final int size, final String prefix, final int numSends)
+    {
+        for (int i = 0; i < size; i++)
+        {
+            final IChannel channel = bank.getItem (i);
+            fillChannel (channel, i, prefix + " " + (i + 1));
+            SyntheticObject.set (channel, "getSendBank", new HeadlessSendBank (host, numSends));
+        }
+    }
+
+
+    private static void fillChannel (final IChannel channel, final int index, final String name)
+    {
+        SyntheticObject.set (channel, "doesExist", Boolean.TRUE);
+        SyntheticObject.set (channel, "isActivated", Boolean.TRUE);
+        SyntheticObject.set (channel, "getIndex", Integer.valueOf (index));
+        SyntheticObject.set (channel, "getPosition", Integer.valueOf (index));
+        SyntheticObject.set (channel, "getName", name);
+        SyntheticObject.set (channel, "getVolume", Integer.valueOf (index * 64));
+        SyntheticObject.set (channel, "getVolumeStr", "-" + index + ".0 dB");
+        SyntheticObject.set (channel, "getPan", Integer.valueOf (64));
+        SyntheticObject.set (channel, "getPanStr", "C");
+        SyntheticObject.set (channel, "getColor", new double []
+        {
+            index / 8.0 % 1.0,
+            0.5,
+            1.0 - index / 8.0 % 1.0
+        });
+    }
+
+
+    private static <B extends IBank<?>> B createBank (final Class<B> bankClass, final int pageSize, final String prefix)
+    {
+        final B bank = SyntheticObject.create (bankClass);
+        SyntheticObject.set (bank, "getPageSize", Integer.valueOf (pageSize));
+        SyntheticObject.set (bank, "getItemCount", Integer.valueOf (pageSize));
+        SyntheticObject.set (bank, "getPositionOfLastItem", Integer.valueOf (pageSize - 1));
+        if (prefix == null)
+            return bank;
+        for (int i = 0; i < pageSize; i++)
+        {
+            final Object item = bank.getItem (i);
+            if (item instanceof IItem)
+            {
+                SyntheticObject.set (item, "doesExist", Boolean.TRUE);
+                SyntheticObject.set (item, "getIndex", Integer.valueOf (i));
+                SyntheticObject.set (item, "getPosition", Integer.valueOf (i));
+                SyntheticObject.set (item, "getName", prefix + " " + (i + 1));
+            }
+        }
+        selectFirst (bank);
+        return bank;
+    }
+
+
+    private static void selectFirst (final IBank<?> bank)
+    {
+        if (bank.getPageSize () == 0)
+            return;
+        final Object first = bank.getItem (0);
+        if (first instanceof IItem)
+            SyntheticObject.set (first, "isSelected", Boolean.TRUE);
+        SyntheticObject.set (bank, "getSelectedItem", first);
+    }
+}
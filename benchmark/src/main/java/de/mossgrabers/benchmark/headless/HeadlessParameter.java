@@ -0,0 +1,125 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.data.ISend;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+
+/**
+ * A parameter of the headless model with a fixed value. Since sends are parameters without any
+ * additional methods, it is used for the sends as well.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessParameter extends HeadlessItem implements ISend
+{
+    private final int    value;
+    private final String displayedValue;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the parameter in the page
+     * @param name The name of the parameter
+     * @param value The value of the parameter
+     * @param displayedValue The formatted value
+     */
+    public HeadlessParameter (final int index, final String name, final int value, final String displayedValue)
+    {
+        super (index, name);
+        this.value = value;
+        this.displayedValue = displayedValue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void inc (final double increment)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDisplayedValue ()
+    {
+        return this.displayedValue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDisplayedValue (final int limit)
+    {
+        return this.displayedValue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getValue ()
+    {
+        return this.value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setValue (final int value)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeValue (final int value)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetValue ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchValue (final boolean isBeingTouched)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedValue ()
+    {
+        return this.value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndication (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final IValueObserver<Void> observer)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,43 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IParameterBank;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.observer.ObserverManagement;
+
+
+/**
+ * The parameters of a device of the headless model.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessParameterBank extends HeadlessBank<IParameter> implements IParameterBank
+{
+    private final ObserverManagement modulatedValues = enable -> {
+        // Intentionally empty
+    };
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param pageSize The number of parameters
+     */
+    public HeadlessParameterBank (final IHost host, final int pageSize)
+    {
+        super (host, pageSize, index -> new HeadlessParameter (index, "Param " + (index + 1), index * 100, index * 10 + " %"));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ObserverManagement getModulatedValues ()
+    {
+        return this.modulatedValues;
+    }
+}
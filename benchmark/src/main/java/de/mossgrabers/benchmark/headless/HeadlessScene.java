@@ -0,0 +1,70 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.data.IScene;
+
+
+/**
+ * A scene of the headless model.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessScene extends HeadlessItem implements IScene
+{
+    private final double [] color = new double [3];
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the scene in the page
+     * @param name The name of the scene
+     */
+    public HeadlessScene (final int index, final String name)
+    {
+        super (index, name);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double [] getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final double red, final double green, final double blue)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void launch ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Intentionally empty
+    }
+}
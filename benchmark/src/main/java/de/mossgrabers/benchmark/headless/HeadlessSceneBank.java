@@ -0,0 +1,37 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.data.IScene;
+
+
+/**
+ * The scenes of the headless model.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessSceneBank extends HeadlessBank<IScene> implements ISceneBank
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param pageSize The number of scenes
+     */
+    public HeadlessSceneBank (final IHost host, final int pageSize)
+    {
+        super (host, pageSize, index -> new HeadlessScene (index, "Scene " + (index + 1)));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,29 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ISendBank;
+import de.mossgrabers.framework.daw.data.ISend;
+
+
+/**
+ * The sends of a track of the headless model.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessSendBank extends HeadlessBank<ISend> implements ISendBank
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param pageSize The number of sends
+     */
+    public HeadlessSendBank (final IHost host, final int pageSize)
+    {
+        super (host, pageSize, index -> new HeadlessParameter (index, "Send " + (index + 1), 0, "-inf dB"));
+    }
+}
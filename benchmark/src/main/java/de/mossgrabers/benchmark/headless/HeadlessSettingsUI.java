@@ -0,0 +1,350 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.configuration.IBooleanSetting;
+import de.mossgrabers.framework.configuration.IColorSetting;
+import de.mossgrabers.framework.configuration.IDoubleSetting;
+import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
+import de.mossgrabers.framework.configuration.ISetting;
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.ISignalSetting;
+import de.mossgrabers.framework.configuration.IStringSetting;
+import de.mossgrabers.framework.controller.color.ColorEx;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Settings which are kept in memory. Like in the DAW, observers are not notified when they are
+ * registered but all together with the initial values after the initialization of the extension,
+ * see {@link #notifyObservers()}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessSettingsUI implements ISettingsUI
+{
+    private final Map<String, HeadlessSetting<?>> settings = new LinkedHashMap<> ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IEnumSetting getEnumSetting (final String label, final String category, final String [] options, final String initialValue)
+    {
+        return this.register (label, category, new EnumSetting (initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBooleanSetting getBooleanSetting (final String label, final String category, final boolean initialValue)
+    {
+        return this.register (label, category, new BooleanSetting (initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStringSetting getStringSetting (final String label, final String category, final int numChars, final String initialText)
+    {
+        return this.register (label, category, new StringSetting (initialText));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IIntegerSetting getRangeSetting (final String label, final String category, final int minValue, final int maxValue, final int stepResolution, final String unit, final int initialValue)
+    {
+        return this.register (label, category, new IntegerSetting (initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDoubleSetting getNumberSetting (final String label, final String category, final double minValue, final double maxValue, final double stepResolution, final String unit, final double initialValue)
+    {
+        return this.register (label, category, new DoubleSetting (initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISignalSetting getSignalSetting (final String label, final String category, final String title)
+    {
+        return this.register (label, category, new SignalSetting ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IColorSetting getColorSetting (final String label, final String category, final ColorEx defaultColor)
+    {
+        return this.register (label, category, new ColorSetting (defaultColor));
+    }
+
+
+    /**
+     * Get a setting which was created by the configuration.
+     *
+     * @param label The label of the setting
+     * @param category The category of the setting
+     * @return The setting or null if not created
+     */
+    public ISetting<?> getSetting (final String label, final String category)
+    {
+        return this.settings.get (category + "/" + label);
+    }
+
+
+    /**
+     * Notify the observers of all settings with the current values in the order of the creation of
+     * the settings. Signal settings are not notified.
+     */
+    public void notifyObservers ()
+    {
+        for (final HeadlessSetting<?> setting: this.settings.values ())
+            setting.notifyObservers ();
+    }
+
+
+    private <S extends HeadlessSetting<?>> S register (final String label, final String category, final S setting)
+    {
+        this.settings.put (category + "/" + label, setting);
+        return setting;
+    }
+
+
+    /**
+     * Base class for an in-memory setting.
+     *
+     * @param <T> The type of the value
+     */
+    private abstract static class HeadlessSetting<T> implements ISetting<T>
+    {
+        private final List<IValueObserver<T>> observers = new ArrayList<> ();
+        protected T                           value;
+
+
+        /**
+         * Constructor.
+         *
+         * @param value The initial value
+         */
+        protected HeadlessSetting (final T value)
+        {
+            this.value = value;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void addValueObserver (final IValueObserver<T> observer)
+        {
+            this.observers.add (observer);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final T value)
+        {
+            this.value = value;
+            for (final IValueObserver<T> observer: this.observers)
+                observer.update (value);
+        }
+
+
+        /**
+         * Notify all observers with the current value.
+         */
+        protected void notifyObservers ()
+        {
+            for (final IValueObserver<T> observer: this.observers)
+                observer.update (this.value);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setEnabled (final boolean enable)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setVisible (final boolean visible)
+        {
+            // Intentionally empty
+        }
+    }
+
+
+    /** An in-memory enumeration setting. */
+    private static class EnumSetting extends HeadlessSetting<String> implements IEnumSetting
+    {
+        /**
+         * Constructor.
+         *
+         * @param value The initial value
+         */
+        EnumSetting (final String value)
+        {
+            super (value);
+        }
+    }
+
+
+    /** An in-memory string setting. */
+    private static class StringSetting extends HeadlessSetting<String> implements IStringSetting
+    {
+        /**
+         * Constructor.
+         *
+         * @param value The initial value
+         */
+        StringSetting (final String value)
+        {
+            super (value);
+        }
+    }
+
+
+    /** An in-memory boolean setting. */
+    private static class BooleanSetting extends HeadlessSetting<Boolean> implements IBooleanSetting
+    {
+        /**
+         * Constructor.
+         *
+         * @param value The initial value
+         */
+        BooleanSetting (final boolean value)
+        {
+            super (Boolean.valueOf (value));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final boolean value)
+        {
+            this.set (Boolean.valueOf (value));
+        }
+    }
+
+
+    /** An in-memory integer setting. */
+    private static class IntegerSetting extends HeadlessSetting<Integer> implements IIntegerSetting
+    {
+        /**
+         * Constructor.
+         *
+         * @param value The initial value
+         */
+        IntegerSetting (final int value)
+        {
+            super (Integer.valueOf (value));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final int value)
+        {
+            this.set (Integer.valueOf (value));
+        }
+    }
+
+
+    /** An in-memory double setting. */
+    private static class DoubleSetting extends HeadlessSetting<Double> implements IDoubleSetting
+    {
+        /**
+         * Constructor.
+         *
+         * @param value The initial value
+         */
+        DoubleSetting (final double value)
+        {
+            super (Double.valueOf (value));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final double value)
+        {
+            this.set (Double.valueOf (value));
+        }
+    }
+
+
+    /** An in-memory color setting. */
+    private static class ColorSetting extends HeadlessSetting<double []> implements IColorSetting
+    {
+        /**
+         * Constructor.
+         *
+         * @param color The initial color
+         */
+        ColorSetting (final ColorEx color)
+        {
+            super (new double []
+            {
+                color.getRed (),
+                color.getGreen (),
+                color.getBlue ()
+            });
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final double red, final double green, final double blue)
+        {
+            this.set (new double []
+            {
+                red,
+                green,
+                blue
+            });
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final ColorEx color)
+        {
+            this.set (color.getRed (), color.getGreen (), color.getBlue ());
+        }
+    }
+
+
+    /** An in-memory signal setting, observers are only notified when the signal is set. */
+    private static class SignalSetting extends HeadlessSetting<Void> implements ISignalSetting
+    {
+        /**
+         * Constructor.
+         */
+        SignalSetting ()
+        {
+            super (null);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected void notifyObservers ()
+        {
+            // Signals are only sent when triggered
+        }
+    }
+}
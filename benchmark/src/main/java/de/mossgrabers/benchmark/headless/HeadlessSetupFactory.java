@@ -0,0 +1,76 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ModelSetup;
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.scale.Scales;
+
+
+/**
+ * Factory for creating the in-memory model and midi ports.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessSetupFactory implements ISetupFactory
+{
+    private final HeadlessHost       host;
+    private final HeadlessMidiAccess midiAccess = new HeadlessMidiAccess ();
+    private HeadlessModel            model;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The headless host
+     */
+    public HeadlessSetupFactory (final HeadlessHost host)
+    {
+        this.host = host;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final ModelSetup modelSetup)
+    {
+        this.model = new HeadlessModel (this.host, colorManager, valueChanger, scales, modelSetup);
+        return this.model;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiAccess createMidiAccess ()
+    {
+        return this.midiAccess;
+    }
+
+
+    /**
+     * Get the midi access which contains all created ports.
+     *
+     * @return The midi access
+     */
+    public HeadlessMidiAccess getMidiAccess ()
+    {
+        return this.midiAccess;
+    }
+
+
+    /**
+     * Get the model created by the last call to createModel.
+     *
+     * @return The model or null if not created
+     */
+    public HeadlessModel getModel ()
+    {
+        return this.model;
+    }
+}
@@ -0,0 +1,148 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.data.ISlot;
+
+
+/**
+ * A clip launcher slot of the headless model.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessSlot extends HeadlessItem implements ISlot
+{
+    private final double [] color = new double [3];
+    private final boolean   hasContent;
+    private final boolean   isPlaying;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the slot in the page
+     * @param name The name of the slot
+     * @param hasContent True if the slot contains a clip
+     * @param isPlaying True if the clip of the slot is playing
+     */
+    public HeadlessSlot (final int index, final String name, final boolean hasContent, final boolean isPlaying)
+    {
+        super (index, name);
+        this.hasContent = hasContent;
+        this.isPlaying = isPlaying;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasContent ()
+    {
+        return this.hasContent;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecording ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying ()
+    {
+        return this.isPlaying;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlayingQueued ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecordingQueued ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isStopQueued ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double [] getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final double red, final double green, final double blue)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void launch ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void record ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void create (final int length)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void remove ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browse ()
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,46 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ISlotBank;
+import de.mossgrabers.framework.daw.data.ISlot;
+
+import java.util.function.IntFunction;
+
+
+/**
+ * The clip launcher slots of a track of the headless model.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessSlotBank extends HeadlessBank<ISlot> implements ISlotBank
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param pageSize The number of slots
+     * @param slotFactory Creates the slot for an index
+     */
+    public HeadlessSlotBank (final IHost host, final int pageSize, final IntFunction<ISlot> slotFactory)
+    {
+        super (host, pageSize, slotFactory);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISlot getEmptySlot (final int startFrom)
+    {
+        for (int i = Math.max (0, startFrom); i < this.pageSize; i++)
+        {
+            final ISlot slot = this.getItem (i);
+            if (!slot.hasContent ())
+                return slot;
+        }
+        return null;
+    }
+}
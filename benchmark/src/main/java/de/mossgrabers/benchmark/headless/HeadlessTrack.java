@@ -0,0 +1,274 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.ISendBank;
+import de.mossgrabers.framework.daw.ISlotBank;
+import de.mossgrabers.framework.daw.data.EmptyTrackData;
+import de.mossgrabers.framework.daw.data.IMasterTrack;
+import de.mossgrabers.framework.observer.ItemSelectionObserver;
+
+
+/**
+ * An existing track of the headless model. It is used for the master track as well. Only the VU
+ * meters change, see {@link #setVu(int)}. Names and values are never shortened, since limiting them
+ * would add allocations to the measurements.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessTrack extends EmptyTrackData implements IMasterTrack
+{
+    private final int       index;
+    private final String    name;
+    private final String    volumeStr;
+    private final double [] color;
+    private final ISlotBank slotBank;
+    private final ISendBank sendBank;
+    private boolean         isSelected;
+    private volatile int    vu;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the track in the page
+     * @param name The name of the track
+     * @param slotBank The clip launcher slots of the track
+     * @param sendBank The sends of the track
+     */
+    public HeadlessTrack (final int index, final String name, final ISlotBank slotBank, final ISendBank sendBank)
+    {
+        this.index = index;
+        this.name = name;
+        this.volumeStr = "-" + index + ".0 dB";
+        this.color = new double []
+        {
+            index / 8.0 % 1.0,
+            0.5,
+            1.0 - index / 8.0 % 1.0
+        };
+        this.slotBank = slotBank;
+        this.sendBank = sendBank;
+    }
+
+
+    /**
+     * Set the value of all VU meters.
+     *
+     * @param vu The value
+     */
+    public void setVu (final int vu)
+    {
+        this.vu = vu;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isActivated ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPosition ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSelected ()
+    {
+        return this.isSelected;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSelected (final boolean isSelected)
+    {
+        this.isSelected = isSelected;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canHoldNotes ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCrossfadeMode ()
+    {
+        return "AB";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCrossfadeModeAsNumber ()
+    {
+        return 1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVolume ()
+    {
+        return this.index * 64;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedVolume ()
+    {
+        return this.getVolume ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVolumeStr ()
+    {
+        return this.volumeStr;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVolumeStr (final int limit)
+    {
+        return this.volumeStr;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPan ()
+    {
+        return 64;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedPan ()
+    {
+        return this.getPan ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPanStr ()
+    {
+        return "C";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPanStr (final int limit)
+    {
+        return "C";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double [] getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVu ()
+    {
+        return this.vu;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVuLeft ()
+    {
+        return this.vu;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVuRight ()
+    {
+        return this.vu;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISlotBank getSlotBank ()
+    {
+        return this.slotBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISendBank getSendBank ()
+    {
+        return this.sendBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addSelectionObserver (final ItemSelectionObserver observer)
+    {
+        // Intentionally empty
+    }
+}
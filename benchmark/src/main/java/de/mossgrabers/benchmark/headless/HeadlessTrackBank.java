@@ -0,0 +1,128 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.ISendBank;
+import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.IIndexedValueObserver;
+
+import java.util.function.IntFunction;
+
+
+/**
+ * The tracks of the headless model.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessTrackBank extends HeadlessBank<ITrack> implements ITrackBank
+{
+    private final ISceneBank sceneBank;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param pageSize The number of tracks
+     * @param trackFactory Creates the track for an index
+     * @param sceneBank The scenes of the tracks
+     */
+    public HeadlessTrackBank (final IHost host, final int pageSize, final IntFunction<ITrack> trackFactory, final ISceneBank sceneBank)
+    {
+        super (host, pageSize, trackFactory);
+        this.sceneBank = sceneBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSelectedChannelColorEntry ()
+    {
+        final ITrack sel = this.getSelectedItem ();
+        if (sel == null)
+            return DAWColors.COLOR_OFF;
+        final double [] color = sel.getColor ();
+        return DAWColors.getColorIndex (color[0], color[1], color[2]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISceneBank getSceneBank ()
+    {
+        return this.sceneBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndication (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectParent ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasParent ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isClipRecording ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canEditSend (final int sendIndex)
+    {
+        if (this.pageSize == 0)
+            return false;
+        final ISendBank sendBank = this.getItem (0).getSendBank ();
+        return sendIndex >= 0 && sendIndex < sendBank.getPageSize ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getEditSendName (final int sendIndex)
+    {
+        return this.canEditSend (sendIndex) ? this.getItem (0).getSendBank ().getItem (sendIndex).getName () : "";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNameObserver (final IIndexedValueObserver<String> observer)
+    {
+        // Intentionally empty
+    }
+}
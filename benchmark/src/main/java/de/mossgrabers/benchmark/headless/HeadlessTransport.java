@@ -0,0 +1,565 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.constants.TransportConstants;
+import de.mossgrabers.framework.observer.IValueObserver;
+
+import java.text.DecimalFormat;
+
+
+/**
+ * The transport of the headless model. It is stopped at a tempo of 120 BPM in 4/4. Only the beat
+ * text changes, see {@link #setBeatText(String)}.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessTransport implements ITransport
+{
+    private static final double TEMPO    = 120;
+
+    private volatile String     beatText = "1.1.1";
+
+
+    /**
+     * Set the play position formatted as measures and beats.
+     *
+     * @param beatText The formatted text
+     */
+    public void setBeatText (final String beatText)
+    {
+        this.beatText = beatText;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void play ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void restart ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stopAndRewind ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void record ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecording ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isArrangerOverdub ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleOverdub ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLauncherOverdub ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLauncherOverdub (final boolean on)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLauncherOverdub ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMetronome (final boolean on)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMetronomeOn ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMetronome ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMetronomeTicksOn ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMetronomeTicks ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getMetronomeVolumeStr ()
+    {
+        return "0.0 dB";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeMetronomeVolume (final int control)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMetronomeVolume (final int value)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMetronomeVolume ()
+    {
+        return 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPrerollMetronomeEnabled ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePrerollMetronome ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLoop (final boolean on)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLoop ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLoop ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isWritingClipLauncherAutomation ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isWritingArrangerAutomation ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAutomationWriteMode ()
+    {
+        return TransportConstants.AUTOMATION_MODES_VALUES[0];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAutomationWriteMode (final String mode)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleWriteArrangerAutomation ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleWriteClipLauncherAutomation ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetAutomationOverrides ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void returnToArrangement ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPositionText ()
+    {
+        return "1.1.1:00";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getBeatText ()
+    {
+        return this.beatText;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPosition ()
+    {
+        return 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPosition (final double beats)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePosition (final boolean increase)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePosition (final boolean increase, final boolean slow)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPunchIn (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePunchIn ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPunchInEnabled ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPunchOut (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePunchOut ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPunchOutEnabled ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void tapTempo ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeTempo (final boolean increase)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTempo (final double tempo)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTempo ()
+    {
+        return TEMPO;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String formatTempo (final double tempo)
+    {
+        return tempo == TEMPO ? "120.00" : new DecimalFormat ("#.00").format (tempo);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String formatTempoNoFraction (final double tempo)
+    {
+        return tempo == TEMPO ? "120" : new DecimalFormat ("###").format (tempo);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double rescaleTempo (final double tempo, final int maxValue)
+    {
+        final double v = tempo - TransportConstants.MIN_TEMPO;
+        return v * (maxValue - 1) / (TransportConstants.MAX_TEMPO - TransportConstants.MIN_TEMPO);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTempoIndication (final boolean isTouched)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCrossfade (final int value)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCrossfade ()
+    {
+        return 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeCrossfade (final int control)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPreroll ()
+    {
+        return TransportConstants.PREROLL_NONE;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPrerollAsBars ()
+    {
+        return 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPreroll (final String preroll)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPrerollAsBars (final int preroll)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumerator ()
+    {
+        return 4;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDenominator ()
+    {
+        return 4;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getQuartersPerMeasure ()
+    {
+        return 4;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final IValueObserver<Void> observer)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+}
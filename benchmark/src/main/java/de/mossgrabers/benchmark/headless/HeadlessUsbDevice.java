@@ -0,0 +1,98 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.IMemoryBlock;
+import de.mossgrabers.framework.usb.IHidDevice;
+import de.mossgrabers.framework.usb.IUsbCallback;
+import de.mossgrabers.framework.usb.IUsbDevice;
+import de.mossgrabers.framework.usb.IUsbEndpoint;
+import de.mossgrabers.framework.usb.UsbException;
+
+
+/**
+ * A USB device with one endpoint, which does not transfer anything but counts the transfers.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessUsbDevice implements IUsbDevice, IUsbEndpoint
+{
+    private long transfers;
+    private long bytes;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IUsbEndpoint getEndpoint (final int interfaceIndex, final int endpointIndex) throws UsbException
+    {
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void release ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IHidDevice getHidDevice () throws UsbException
+    {
+        throw new UsbException ("HID devices are not available in headless mode.");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void send (final IMemoryBlock memoryBlock, final int timeout)
+    {
+        this.transfers++;
+        this.bytes += memoryBlock.createByteBuffer ().capacity ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendAsync (final IMemoryBlock memoryBlock, final IUsbCallback callback, final int timeout)
+    {
+        this.send (memoryBlock, timeout);
+        callback.process (memoryBlock.createByteBuffer ().capacity ());
+    }
+
+
+    /**
+     * Get the number of transfers since the last reset.
+     *
+     * @return The number of transfers
+     */
+    public synchronized long getTransfers ()
+    {
+        return this.transfers;
+    }
+
+
+    /**
+     * Get the number of transferred bytes since the last reset.
+     *
+     * @return The number of bytes
+     */
+    public synchronized long getBytes ()
+    {
+        return this.bytes;
+    }
+
+
+    /**
+     * Reset all counters.
+     */
+    public synchronized void reset ()
+    {
+        this.transfers = 0;
+        this.bytes = 0;
+    }
+}
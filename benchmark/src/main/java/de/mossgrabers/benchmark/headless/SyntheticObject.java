@@ -0,0 +1,262 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Creates in-memory stand-ins for the DAW data interfaces (banks, tracks, parameters, ...). Every
+ * getter returns a neutral default value unless a value was set with
+ * {@link #set(Object, String, Object)}. Getters which return another interface of the framework
+ * return a child stand-in which is cached, therefore repeated calls return the same instance (e.g.
+ * the item of a bank at a specific index). All other methods (setters, actions) are ignored.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class SyntheticObject implements InvocationHandler
+{
+    private static final int                 NUM_ARRAY_ITEMS = 8;
+    private static final Object []           NO_ARGS         = new Object [0];
+
+    private final Class<?>                   type;
+    private final Map<TypeVariable<?>, Type> typeBindings    = new HashMap<> ();
+    private final Map<String, Object>        values          = new HashMap<> ();
+    private final Map<Method, Object>        children        = new HashMap<> ();
+    private final Map<Method, Object []>     indexedChildren = new HashMap<> ();
+
+
+    /**
+     * Create a stand-in for the given interface.
+     *
+     * @param type The interface to implement
+     * @param <T> The type of the interface
+     * @return The stand-in
+     */
+    public static <T> T create (final Class<T> type)
+    {
+        return type.cast (createInternal (type));
+    }
+
+
+    /**
+     * Set the value which is returned by all methods with the given name of a stand-in.
+     *
+     * @param object A stand-in created with {@link #create(Class)}
+     * @param methodName The name of the method, e.g. getVolume
+     * @param value The value to return, primitives must be wrapped
+     */
+    public static void set (final Object object, final String methodName, final Object value)
+    {
+        getHandler (object).values.put (methodName, value);
+    }
+
+
+    /**
+     * Get the value which was set for a method.
+     *
+     * @param object A stand-in created with {@link #create(Class)}
+     * @param methodName The name of the method
+     * @return The value or null if not set
+     */
+    public static Object get (final Object object, final String methodName)
+    {
+        return getHandler (object).values.get (methodName);
+    }
+
+
+    private static SyntheticObject getHandler (final Object object)
+    {
+        final InvocationHandler handler = Proxy.getInvocationHandler (object);
+        if (handler instanceof SyntheticObject)
+            return (SyntheticObject) handler;
+        throw new IllegalArgumentException ("Not a synthetic object: " + object);
+    }
+
+
+    private static Object createInternal (final Class<?> type)
+    {
+        return Proxy.newProxyInstance (SyntheticObject.class.getClassLoader (), new Class<?> []
+        {
+            type
+        }, new SyntheticObject (type));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param type The interface which is implemented by this stand-in
+     */
+    private SyntheticObject (final Class<?> type)
+    {
+        this.type = type;
+        collectTypeBindings (type, this.typeBindings);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized Object invoke (final Object proxy, final Method method, final Object [] args)
+    {
+        final String name = method.getName ();
+        final Object [] arguments = args == null ? NO_ARGS : args;
+
+        if (method.getDeclaringClass () == Object.class)
+        {
+            switch (name)
+            {
+                case "equals":
+                    return Boolean.valueOf (proxy == arguments[0]);
+                case "hashCode":
+                    return Integer.valueOf (System.identityHashCode (proxy));
+                default:
+                    return "Synthetic " + this.type.getSimpleName ();
+            }
+        }
+
+        final Object value = this.values.get (name);
+        if (value != null)
+            return value;
+
+        final Class<?> returnType = this.resolve (method.getGenericReturnType ());
+        if (returnType == void.class)
+            return null;
+        if (returnType.isPrimitive ())
+            return defaultPrimitive (returnType);
+        if (returnType == String.class)
+            return "";
+        if (returnType.isArray ())
+            return this.children.computeIfAbsent (method, m -> createArray (returnType.getComponentType ()));
+        if (returnType.isEnum ())
+            return returnType.getEnumConstants ()[0];
+        if (List.class.isAssignableFrom (returnType))
+            return Collections.emptyList ();
+        if (!returnType.isInterface () || !returnType.getName ().startsWith ("de.mossgrabers."))
+            return null;
+
+        // A single integer parameter is treated as an index, e.g. IBank.getItem (int)
+        if (arguments.length == 1 && arguments[0] instanceof Integer)
+        {
+            final int index = ((Integer) arguments[0]).intValue ();
+            if (index < 0)
+                return null;
+            Object [] items = this.indexedChildren.get (method);
+            if (items == null || index >= items.length)
+            {
+                final Object [] newItems = new Object [Math.max (index + 1, NUM_ARRAY_ITEMS)];
+                if (items != null)
+                    System.arraycopy (items, 0, newItems, 0, items.length);
+                items = newItems;
+                this.indexedChildren.put (method, items);
+            }
+            if (items[index] == null)
+                items[index] = createInternal (returnType);
+            return items[index];
+        }
+
+        return this.children.computeIfAbsent (method, m -> createInternal (returnType));
+    }
+
+
+    private static Object defaultPrimitive (final Class<?> type)
+    {
+        if (type == boolean.class)
+            return Boolean.FALSE;
+        if (type == int.class)
+            return Integer.valueOf (0);
+        if (type == double.class)
+            return Double.valueOf (0);
+        if (type == long.class)
+            return Long.valueOf (0);
+        if (type == float.class)
+            return Float.valueOf (0);
+        if (type == char.class)
+            return Character.valueOf (' ');
+        if (type == byte.class)
+            return Byte.valueOf ((byte) 0);
+        return Short.valueOf ((short) 0);
+    }
+
+
+    private static Object createArray (final Class<?> componentType)
+    {
+        // Colors are RGB triples
+        if (componentType == double.class)
+            return new double [3];
+        final Object array = Array.newInstance (componentType, NUM_ARRAY_ITEMS);
+        for (int i = 0; i < NUM_ARRAY_ITEMS; i++)
+        {
+            if (componentType == String.class)
+                Array.set (array, i, "");
+            else if (componentType.isInterface ())
+                Array.set (array, i, createInternal (componentType));
+        }
+        return array;
+    }
+
+
+    /**
+     * Resolves the generic return type of a method to a class by using the type arguments of the
+     * implemented interface, e.g. T of IBank&lt;T&gt; is resolved to ITrack for ITrackBank.
+     *
+     * @param type The type to resolve
+     * @return The resolved class
+     */
+    private Class<?> resolve (final Type type)
+    {
+        if (type instanceof Class)
+            return (Class<?>) type;
+        if (type instanceof ParameterizedType)
+            return (Class<?>) ((ParameterizedType) type).getRawType ();
+        if (type instanceof GenericArrayType)
+            return Array.newInstance (this.resolve (((GenericArrayType) type).getGenericComponentType ()), 0).getClass ();
+        if (type instanceof TypeVariable)
+        {
+            final Type bound = this.typeBindings.get (type);
+            if (bound != null)
+                return this.resolve (bound);
+            final Type [] bounds = ((TypeVariable<?>) type).getBounds ();
+            return bounds.length == 0 ? Object.class : this.resolve (bounds[0]);
+        }
+        return Object.class;
+    }
+
+
+    private static void collectTypeBindings (final Class<?> type, final Map<TypeVariable<?>, Type> bindings)
+    {
+        for (final Type superType: type.getGenericInterfaces ())
+        {
+            if (superType instanceof ParameterizedType)
+            {
+                final ParameterizedType parameterized = (ParameterizedType) superType;
+                final Class<?> raw = (Class<?>) parameterized.getRawType ();
+                final TypeVariable<?> [] variables = raw.getTypeParameters ();
+                final Type [] arguments = parameterized.getActualTypeArguments ();
+                for (int i = 0; i < variables.length; i++)
+                {
+                    // Substitute variables which are bound further down the hierarchy
+                    final Type argument = arguments[i];
+                    final Type bound = bindings.get (argument);
+                    bindings.put (variables[i], bound == null ? argument : bound);
+                }
+                collectTypeBindings (raw, bindings);
+            }
+            else if (superType instanceof Class)
+                collectTypeBindings ((Class<?>) superType, bindings);
+        }
+    }
+}
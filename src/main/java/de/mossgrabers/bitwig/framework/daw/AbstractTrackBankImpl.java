@@ -27,6 +27,9 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
 {
     protected final CursorTrack cursorTrack;
 
+    private final boolean [][]  recordingSlots;
+    private int                 recordingSlotCount;
+
 
     /**
      * Constructor.
@@ -47,6 +50,19 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
 
         this.initItems ();
 
+        // Count the recording slots on change instead of checking all slots on each query
+        this.recordingSlots = new boolean [this.pageSize][this.numScenes];
+        for (int t = 0; t < this.pageSize; t++)
+        {
+            final ClipLauncherSlotBank slotBank = this.bank.getItemAt (t).clipLauncherSlotBank ();
+            for (int s = 0; s < this.numScenes; s++)
+            {
+                final int trackIndex = t;
+                final int slotIndex = s;
+                slotBank.getItemAt (s).isRecording ().addValueObserver (isRecording -> this.updateRecordingSlot (trackIndex, slotIndex, isRecording));
+            }
+        }
+
         this.sceneBank = new SceneBankImpl (host, valueChanger, this.numScenes == 0 ? null : this.bank.sceneBank (), this.numScenes);
     }
 
@@ -91,15 +107,7 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
     @Override
     public boolean isClipRecording ()
     {
-        for (int t = 0; t < this.getPageSize (); t++)
-        {
-            for (int s = 0; s < this.numScenes; s++)
-            {
-                if (this.items.get (t).getSlotBank ().getItem (s).isRecording ())
-                    return true;
-            }
-        }
-        return false;
+        return this.recordingSlotCount > 0;
     }
 
 
@@ -112,4 +120,13 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank<TrackBan
         for (int i = 0; i < this.pageSize; i++)
             this.items.add (new TrackImpl (this.host, this.valueChanger, this.cursorTrack, this.bank.getItemAt (i), i, this.numSends, this.numScenes));
     }
+
+
+    private void updateRecordingSlot (final int trackIndex, final int slotIndex, final boolean isRecording)
+    {
+        if (this.recordingSlots[trackIndex][slotIndex] == isRecording)
+            return;
+        this.recordingSlots[trackIndex][slotIndex] = isRecording;
+        this.recordingSlotCount += isRecording ? 1 : -1;
+    }
 }
\ No newline at end of file
@@ -80,7 +80,7 @@ public class BrowserImpl extends AbstractBrowser
     @Override
     public void enableObservers (final boolean enable)
     {
-        this.browser.exists ().setIsSubscribed (enable);
+        // The existence stays subscribed, it is polled to activate the browser modes and views
         this.browser.selectedContentTypeIndex ().setIsSubscribed (enable);
         this.browser.selectedContentTypeName ().setIsSubscribed (enable);
         this.browser.contentTypeNames ().setIsSubscribed (enable);
@@ -6,13 +6,12 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.INoteClip;
+import de.mossgrabers.framework.daw.StepStore;
 
 import com.bitwig.extension.controller.api.Clip;
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.SettableColorValue;
 
-import java.util.Arrays;
-
 
 /**
  * Proxy to the Bitwig Cursor clip.
@@ -24,8 +23,9 @@ public class CursorClipImpl implements INoteClip
     private int             numSteps;
     private int             numRows;
 
-    private final int [] [] launcherData;
-    private final int [] [] arrangerData;
+    private final StepStore launcherData;
+    private final StepStore arrangerData;
+    private int             clipSwitches;
     private Clip            launcherClip;
     private Clip            arrangerClip;
     private IValueChanger   valueChanger;
@@ -49,23 +49,12 @@ public class CursorClipImpl implements INoteClip
         this.numRows = numRows;
         this.stepLength = 1.0 / 4.0; // 16th
 
-        this.launcherData = new int [this.numSteps] [];
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            this.launcherData[step] = new int [this.numRows];
-            Arrays.fill (this.launcherData[step], 0);
-        }
-
-        this.arrangerData = new int [this.numSteps] [];
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            this.arrangerData[step] = new int [this.numRows];
-            Arrays.fill (this.arrangerData[step], 0);
-        }
+        this.launcherData = new StepStore (this.numSteps, this.numRows);
+        this.arrangerData = new StepStore (this.numSteps, this.numRows);
 
         // TODO Bugfix required: https://github.com/teotigraphix/Framework4Bitwig/issues/140
         this.launcherClip = host.createLauncherCursorClip (this.numSteps, this.numRows);
-        this.launcherClip.exists ().markInterested ();
+        this.launcherClip.exists ().addValueObserver (exists -> this.clipSwitches++);
 
         this.launcherClip.addStepDataObserver (this::handleStepData);
 
@@ -361,7 +350,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getStep (final int step, final int row)
     {
-        return row < 0 ? 0 : this.getData ()[step][row];
+        return this.getData ().get (step, row);
     }
 
 
@@ -401,13 +390,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public boolean hasRowData (final int row)
     {
-        final int [] [] data = this.getData ();
-        for (int step = 0; step < this.numSteps; step++)
-        {
-            if (data[step][row] > 0)
-                return true;
-        }
-        return false;
+        return this.getData ().hasRowData (row);
     }
 
 
@@ -415,10 +398,7 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getLowerRowWithData ()
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (row))
-                return row;
-        return -1;
+        return this.getData ().getLowerRowWithData ();
     }
 
 
@@ -426,10 +406,17 @@ public class CursorClipImpl implements INoteClip
     @Override
     public int getUpperRowWithData ()
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (row))
-                return row;
-        return -1;
+        return this.getData ().getUpperRowWithData ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getStepDataVersion ()
+    {
+        // Changes in both stores and switching between them are counted, which keeps the sum
+        // increasing
+        return this.launcherData.getVersion () + this.arrangerData.getVersion () + this.clipSwitches;
     }
 
 
@@ -542,7 +529,7 @@ public class CursorClipImpl implements INoteClip
     private void handleStepData (final int col, final int row, final int state)
     {
         // state: step is empty (0) or a note continues playing (1) or starts playing (2)
-        this.getData ()[col][row] = state;
+        this.getData ().set (col, row, state);
     }
 
 
@@ -552,7 +539,7 @@ public class CursorClipImpl implements INoteClip
     }
 
 
-    private int [] [] getData ()
+    private StepStore getData ()
     {
         return this.launcherClip.exists ().get () ? this.launcherData : this.arrangerData;
     }
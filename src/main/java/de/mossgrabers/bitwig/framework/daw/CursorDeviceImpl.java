@@ -14,6 +14,7 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ILayerBank;
 import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.IParameterPageBank;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.CursorDeviceLayer;
 import com.bitwig.extension.controller.api.CursorRemoteControlsPage;
@@ -374,6 +375,18 @@ public class CursorDeviceImpl extends DeviceImpl implements ICursorDevice
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final IValueObserver<Void> observer)
+    {
+        this.cursorDevice.exists ().addValueObserver (value -> observer.update (null));
+        this.cursorDevice.isEnabled ().addValueObserver (value -> observer.update (null));
+        this.cursorDevice.isExpanded ().addValueObserver (value -> observer.update (null));
+        this.cursorDevice.isRemoteControlsSectionVisible ().addValueObserver (value -> observer.update (null));
+        this.cursorDevice.isWindowOpen ().addValueObserver (value -> observer.update (null));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void browseToReplaceDevice ()
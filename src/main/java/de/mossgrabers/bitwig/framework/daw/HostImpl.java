@@ -8,7 +8,6 @@ import de.mossgrabers.bitwig.framework.graphics.BitmapImpl;
 import de.mossgrabers.bitwig.framework.graphics.ImageImpl;
 import de.mossgrabers.bitwig.framework.osc.OpenSoundControlClientImpl;
 import de.mossgrabers.bitwig.framework.osc.OpenSoundControlMessageImpl;
-import de.mossgrabers.bitwig.framework.osc.OpenSoundControlServerImpl;
 import de.mossgrabers.bitwig.framework.usb.UsbDeviceImpl;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
@@ -18,16 +17,20 @@ import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
 import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlUdpClient;
+import de.mossgrabers.framework.osc.OpenSoundControlUdpServer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.FlushScheduler;
 
 import com.bitwig.extension.api.graphics.BitmapFormat;
-import com.bitwig.extension.api.opensoundcontrol.OscAddressSpace;
 import com.bitwig.extension.api.opensoundcontrol.OscModule;
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.HardwareDevice;
 import com.bitwig.extension.controller.api.UsbDevice;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.ArrayList;
@@ -42,7 +45,8 @@ import java.util.List;
 public class HostImpl implements IHost
 {
     private ControllerHost   host;
-    private List<IUsbDevice> usbDevices = new ArrayList<> ();
+    private List<IUsbDevice> usbDevices  = new ArrayList<> ();
+    private List<Closeable>  oscChannels = new ArrayList<> ();
 
 
     /**
@@ -120,6 +124,14 @@ public class HostImpl implements IHost
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public FlushScheduler getFlushScheduler ()
+    {
+        return FlushScheduler.getShared ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void error (final String text)
@@ -159,8 +171,18 @@ public class HostImpl implements IHost
 
     /** {@inheritDoc} */
     @Override
-    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort)
+    public IOpenSoundControlClient connectToOSCServer (final String serverAddress, final int serverPort, final int maxPacketSize)
     {
+        // The caller owns the UDP client and closes it
+        try
+        {
+            return new OpenSoundControlUdpClient (serverAddress, serverPort, maxPacketSize);
+        }
+        catch (final IOException ex)
+        {
+            this.error ("Could not open UDP channel, falling back to Bitwig OSC connection.", ex);
+        }
+
         // TODO Bugfix required: Can only be called in init but needs to listen to host and port
         // changes - https://github.com/teotigraphix/Framework4Bitwig/issues/208
         final OscModule oscModule = this.host.getOscModule ();
@@ -172,13 +194,9 @@ public class HostImpl implements IHost
     @Override
     public IOpenSoundControlServer createOSCServer (final IOpenSoundControlCallback callback)
     {
-        final OscModule oscModule = this.host.getOscModule ();
-        final OscAddressSpace addressSpace = oscModule.createAddressSpace ();
-        addressSpace.registerDefaultMethod ( (source, message) -> callback.handle (new OpenSoundControlMessageImpl (message)));
-        // Requires API 9
-        // return new OpenSoundControlServerImpl (oscModule.createUdpServer2 (addressSpace));
-        oscModule.createUdpServer (8000, addressSpace);
-        return new OpenSoundControlServerImpl ();
+        final OpenSoundControlUdpServer oscServer = new OpenSoundControlUdpServer (this, callback);
+        this.oscChannels.add (oscServer);
+        return oscServer;
     }
 
 
@@ -194,7 +212,19 @@ public class HostImpl implements IHost
     @Override
     public void releaseOSC ()
     {
-        // This is automatically handled by the Bitwig framework
+        // The Bitwig connections are automatically handled by the Bitwig framework
+        for (final Closeable oscChannel: this.oscChannels)
+        {
+            try
+            {
+                oscChannel.close ();
+            }
+            catch (final IOException ex)
+            {
+                this.error ("Could not close UDP channel.", ex);
+            }
+        }
+        this.oscChannels.clear ();
     }
 
 
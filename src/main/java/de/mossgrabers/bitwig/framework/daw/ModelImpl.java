@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.MasterTrackImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.LightAnimator;
 import de.mossgrabers.framework.daw.AbstractModel;
 import de.mossgrabers.framework.daw.IClip;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -45,6 +46,10 @@ public class ModelImpl extends AbstractModel
     private final BooleanValue             masterTrackEqualsValue;
     private final Map<Integer, ISceneBank> sceneBanks = new HashMap<> (1);
     private final TrackBank                muteSoloTrackBank;
+    private final boolean []               soloStates = new boolean [ALL_TRACKS];
+    private final boolean []               armStates  = new boolean [ALL_TRACKS];
+    private int                            soloCount;
+    private int                            armCount;
 
     private Track                          rootTrackGroup;
 
@@ -79,6 +84,7 @@ public class ModelImpl extends AbstractModel
         this.mixer = new MixerImpl (controllerHost.createMixer ());
         this.transport = new TransportImpl (controllerHost, valueChanger);
         this.groove = new GrooveImpl (controllerHost, valueChanger);
+        this.lightAnimator = new LightAnimator (this.host, this.transport);
         final MasterTrack master = controllerHost.createMasterTrack (0);
         this.masterTrack = new MasterTrackImpl (this.host, valueChanger, master);
 
@@ -105,9 +111,15 @@ public class ModelImpl extends AbstractModel
         final TrackBank effectTrackBank = controllerHost.createEffectTrackBank (numTracks, numScenes);
         this.effectTrackBank = new EffectTrackBankImpl (this.host, valueChanger, this.cursorTrack, effectTrackBank, numTracks, numScenes, this.trackBank);
 
+        // Count the soloed and armed tracks on change instead of checking all tracks on each query
         this.muteSoloTrackBank = controllerHost.createTrackBank (ALL_TRACKS, 0, 0, true);
         for (int i = 0; i < ALL_TRACKS; i++)
-            this.muteSoloTrackBank.getItemAt (i).solo ().markInterested ();
+        {
+            final int index = i;
+            final Track track = this.muteSoloTrackBank.getItemAt (i);
+            track.solo ().addValueObserver (isSolo -> this.updateSoloState (index, isSolo));
+            track.arm ().addValueObserver (isArmed -> this.updateArmState (index, isArmed));
+        }
 
         final int numParams = this.modelSetup.getNumParams ();
         final int numDeviceLayers = this.modelSetup.getNumDeviceLayers ();
@@ -148,12 +160,15 @@ public class ModelImpl extends AbstractModel
     @Override
     public boolean hasSolo ()
     {
-        for (int i = 0; i < ALL_TRACKS; i++)
-        {
-            if (this.muteSoloTrackBank.getItemAt (i).solo ().get ())
-                return true;
-        }
-        return false;
+        return this.soloCount > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasArmedTrack ()
+    {
+        return this.armCount > 0;
     }
 
 
@@ -161,8 +176,13 @@ public class ModelImpl extends AbstractModel
     @Override
     public void deactivateSolo ()
     {
+        if (this.soloCount == 0)
+            return;
         for (int i = 0; i < ALL_TRACKS; i++)
-            this.muteSoloTrackBank.getItemAt (i).solo ().set (false);
+        {
+            if (this.soloStates[i])
+                this.muteSoloTrackBank.getItemAt (i).solo ().set (false);
+        }
     }
 
 
@@ -223,4 +243,22 @@ public class ModelImpl extends AbstractModel
     {
         this.getNoteClip (0, 0);
     }
-}
\ No newline at end of file
+
+
+    private void updateSoloState (final int index, final boolean isSolo)
+    {
+        if (this.soloStates[index] == isSolo)
+            return;
+        this.soloStates[index] = isSolo;
+        this.soloCount += isSolo ? 1 : -1;
+    }
+
+
+    private void updateArmState (final int index, final boolean isArmed)
+    {
+        if (this.armStates[index] == isArmed)
+            return;
+        this.armStates[index] = isArmed;
+        this.armCount += isArmed ? 1 : -1;
+    }
+}
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.daw.IParameterBank;
 import de.mossgrabers.framework.daw.IParameterPageBank;
 import de.mossgrabers.framework.daw.data.IItem;
 import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.observer.ObserverManagement;
 
 import com.bitwig.extension.controller.api.CursorRemoteControlsPage;
 import com.bitwig.extension.controller.api.SettableIntegerValue;
@@ -27,6 +28,7 @@ public class ParameterBankImpl extends AbstractBank<IParameter> implements IPara
     private CursorRemoteControlsPage remoteControls;
     private final IValueChanger      valueChanger;
     private IParameterPageBank       pageBank;
+    private final ObserverManagement modulatedValues = this::enableModulatedValueObservers;
 
 
     /**
@@ -78,6 +80,22 @@ public class ParameterBankImpl extends AbstractBank<IParameter> implements IPara
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ObserverManagement getModulatedValues ()
+    {
+        return this.modulatedValues;
+    }
+
+
+    private void enableModulatedValueObservers (final boolean enable)
+    {
+        // All items are created by this bank
+        for (final IParameter item: this.items)
+            ((ParameterImpl) item).enableModulatedValueObserver (enable);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getItemCount ()
@@ -7,8 +7,10 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
+import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import com.bitwig.extension.controller.api.BooleanValue;
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.SettableRangedValue;
 import com.bitwig.extension.controller.api.TimeSignatureValue;
@@ -403,6 +405,14 @@ public class TransportImpl implements ITransport
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public double getPosition ()
+    {
+        return this.transport.getPosition ().get ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setPosition (final double beats)
@@ -651,6 +661,34 @@ public class TransportImpl implements ITransport
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final IValueObserver<Void> observer)
+    {
+        final BooleanValue [] states =
+        {
+            this.transport.isPlaying (),
+            this.transport.isArrangerRecordEnabled (),
+            this.transport.isArrangerOverdubEnabled (),
+            this.transport.isClipLauncherAutomationWriteEnabled (),
+            this.transport.isClipLauncherOverdubEnabled (),
+            this.transport.isArrangerAutomationWriteEnabled (),
+            this.transport.isArrangerLoopEnabled (),
+            this.transport.isPunchInEnabled (),
+            this.transport.isPunchOutEnabled (),
+            this.transport.isMetronomeEnabled (),
+            this.transport.isMetronomeTickPlaybackEnabled (),
+            this.transport.isMetronomeAudibleDuringPreRoll ()
+        };
+        for (final BooleanValue state: states)
+            state.addValueObserver (value -> observer.update (null));
+
+        this.transport.tempo ().value ().addRawValueObserver (value -> observer.update (null));
+        this.transport.crossfade ().value ().addValueObserver (value -> observer.update (null));
+        this.transport.metronomeVolume ().addValueObserver (value -> observer.update (null));
+    }
+
+
     private void handleTempo (final double value)
     {
         this.tempo = Math.min (TransportImpl.TEMPO_MAX, Math.max (TransportImpl.TEMPO_MIN, value));
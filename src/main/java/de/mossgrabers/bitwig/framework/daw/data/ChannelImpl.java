@@ -11,6 +11,7 @@ import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 import com.bitwig.extension.controller.api.Channel;
 import com.bitwig.extension.controller.api.SettableColorValue;
@@ -402,6 +403,26 @@ public class ChannelImpl extends AbstractDeviceChainImpl<Channel> implements ICh
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final IValueObserver<Void> observer)
+    {
+        if (this.deviceChain == null)
+            return;
+
+        this.deviceChain.exists ().addValueObserver (value -> observer.update (null));
+        this.deviceChain.isActivated ().addValueObserver (value -> observer.update (null));
+        this.deviceChain.mute ().addValueObserver (value -> observer.update (null));
+        this.deviceChain.solo ().addValueObserver (value -> observer.update (null));
+
+        this.volumeParameter.addValueChangeObserver (observer);
+        this.panParameter.addValueChangeObserver (observer);
+
+        for (int i = 0; i < this.sendBank.getPageSize (); i++)
+            this.sendBank.getItem (i).addValueChangeObserver (observer);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enter ()
@@ -21,6 +21,7 @@ public class ParameterImpl extends AbstractItemImpl implements IParameter
 {
     private final IValueChanger valueChanger;
     private final Parameter     parameter;
+    private boolean             isModulatedValueEnabled = true;
 
 
     /**
@@ -53,6 +54,18 @@ public class ParameterImpl extends AbstractItemImpl implements IParameter
         this.parameter.name ().setIsSubscribed (enable);
         this.parameter.displayedValue ().setIsSubscribed (enable);
         this.parameter.value ().setIsSubscribed (enable);
+        this.parameter.modulatedValue ().setIsSubscribed (enable && this.isModulatedValueEnabled);
+    }
+
+
+    /**
+     * Dis-/Enable the observer of the modulated value independently from the other values.
+     *
+     * @param enable True to enable
+     */
+    public void enableModulatedValueObserver (final boolean enable)
+    {
+        this.isModulatedValueEnabled = enable;
         this.parameter.modulatedValue ().setIsSubscribed (enable);
     }
 
@@ -97,6 +110,14 @@ public class ParameterImpl extends AbstractItemImpl implements IParameter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final IValueObserver<Void> observer)
+    {
+        this.parameter.value ().addValueObserver (value -> observer.update (null));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public String getDisplayedValue ()
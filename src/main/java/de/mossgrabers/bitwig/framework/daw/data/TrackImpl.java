@@ -10,6 +10,8 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.NoteMaskObserver;
 import de.mossgrabers.framework.observer.NoteObserver;
 
 import com.bitwig.extension.controller.api.CursorTrack;
@@ -17,8 +19,6 @@ import com.bitwig.extension.controller.api.PlayingNote;
 import com.bitwig.extension.controller.api.Track;
 
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
 
 
 /**
@@ -28,17 +28,16 @@ import java.util.Set;
  */
 public class TrackImpl extends ChannelImpl implements ITrack
 {
-    protected static final int      NOTE_OFF      = 0;
-    protected static final int      NOTE_ON       = 1;
-    protected static final int      NOTE_ON_NEW   = 2;
+    protected final Track         track;
 
-    protected final Track           track;
-
-    private final ISlotBank         slotBank;
-    private final int []            noteCache     = new int [128];
-    private final Set<NoteObserver> noteObservers = new HashSet<> ();
-    private final CursorTrack       cursorTrack;
-    private final IHost             host;
+    private final ISlotBank       slotBank;
+    private final long []         playingNotes      = new long [2];
+    private final long []         changedNotes      = new long [2];
+    private final int []          noteVelocities    = new int [128];
+    private NoteObserver []       noteObservers     = new NoteObserver [0];
+    private NoteMaskObserver []   noteMaskObservers = new NoteMaskObserver [0];
+    private final CursorTrack     cursorTrack;
+    private final IHost           host;
 
     private enum CrossfadeSetting
     {
@@ -81,8 +80,6 @@ public class TrackImpl extends ChannelImpl implements ITrack
         track.playingNotes ().addValueObserver (this::handleNotes);
 
         this.slotBank = new SlotBankImpl (host, valueChanger, this, track.clipLauncherSlotBank (), numScenes);
-
-        Arrays.fill (this.noteCache, NOTE_OFF);
     }
 
 
@@ -211,6 +208,18 @@ public class TrackImpl extends ChannelImpl implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final IValueObserver<Void> observer)
+    {
+        super.addValueChangeObserver (observer);
+
+        this.track.arm ().addValueObserver (value -> observer.update (null));
+        this.track.monitor ().addValueObserver (value -> observer.update (null));
+        this.track.autoMonitor ().addValueObserver (value -> observer.update (null));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setAutoMonitor (final boolean value)
@@ -384,7 +393,25 @@ public class TrackImpl extends ChannelImpl implements ITrack
     @Override
     public void addNoteObserver (final NoteObserver observer)
     {
-        this.noteObservers.add (observer);
+        // Copy on write, the observers are iterated on every note update
+        for (final NoteObserver noteObserver: this.noteObservers)
+        {
+            if (noteObserver == observer)
+                return;
+        }
+        final NoteObserver [] observers = Arrays.copyOf (this.noteObservers, this.noteObservers.length + 1);
+        observers[this.noteObservers.length] = observer;
+        this.noteObservers = observers;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNoteMaskObserver (final NoteMaskObserver observer)
+    {
+        final NoteMaskObserver [] observers = Arrays.copyOf (this.noteMaskObservers, this.noteMaskObservers.length + 1);
+        observers[this.noteMaskObservers.length] = observer;
+        this.noteMaskObservers = observers;
     }
 
 
@@ -402,32 +429,47 @@ public class TrackImpl extends ChannelImpl implements ITrack
 
 
     /**
-     * Handles the updates on all playing notes. Translates the note array into individual note
-     * observer updates of start and stopped notes.
+     * Handles the updates on all playing notes. The playing notes are stored as bits, the started
+     * and stopped notes are the bits which differ from the previous update. Only these notes are
+     * sent to the note observers.
      *
      * @param notes The currently playing notes
      */
     private void handleNotes (final PlayingNote [] notes)
     {
-        synchronized (this.noteCache)
+        long playing0 = 0;
+        long playing1 = 0;
+        for (final PlayingNote note: notes)
         {
-            // Send the new notes
-            for (final PlayingNote note: notes)
-            {
-                final int pitch = note.pitch ();
-                this.noteCache[pitch] = NOTE_ON_NEW;
-                this.notifyNoteObservers (pitch, note.velocity ());
-            }
-            // Send note offs
-            for (int i = 0; i < this.noteCache.length; i++)
+            final int pitch = note.pitch ();
+            if (pitch < 64)
+                playing0 |= 1L << pitch;
+            else
+                playing1 |= 1L << pitch - 64;
+            this.noteVelocities[pitch] = note.velocity ();
+        }
+
+        this.changedNotes[0] = this.playingNotes[0] ^ playing0;
+        this.changedNotes[1] = this.playingNotes[1] ^ playing1;
+        if (this.changedNotes[0] == 0 && this.changedNotes[1] == 0)
+            return;
+        this.playingNotes[0] = playing0;
+        this.playingNotes[1] = playing1;
+
+        for (final NoteMaskObserver observer: this.noteMaskObservers)
+            observer.call (this.index, this.playingNotes, this.changedNotes);
+
+        if (this.noteObservers.length == 0)
+            return;
+        for (int i = 0; i < 2; i++)
+        {
+            long changed = this.changedNotes[i];
+            while (changed != 0)
             {
-                if (this.noteCache[i] == NOTE_ON_NEW)
-                    this.noteCache[i] = NOTE_ON;
-                else if (this.noteCache[i] == NOTE_ON)
-                {
-                    this.noteCache[i] = NOTE_OFF;
-                    this.notifyNoteObservers (i, 0);
-                }
+                final int bit = Long.numberOfTrailingZeros (changed);
+                changed &= changed - 1;
+                final int note = i * 64 + bit;
+                this.notifyNoteObservers (note, (this.playingNotes[i] & 1L << bit) == 0 ? 0 : this.noteVelocities[note]);
             }
         }
     }
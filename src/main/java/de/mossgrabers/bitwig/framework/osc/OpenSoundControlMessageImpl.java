@@ -18,8 +18,10 @@ import java.util.List;
  */
 public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
 {
-    private final String       address;
-    private final List<Object> values;
+    private static final Object [] NO_VALUES = new Object [0];
+
+    private final String           address;
+    private final Object []        values;
 
 
     /**
@@ -42,7 +44,7 @@ public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
     public OpenSoundControlMessageImpl (final String address, final List<Object> values)
     {
         this.address = address;
-        this.values = values;
+        this.values = values == null || values.isEmpty () ? NO_VALUES : values.toArray ();
     }
 
 
@@ -58,6 +60,6 @@ public class OpenSoundControlMessageImpl implements IOpenSoundControlMessage
     @Override
     public Object [] getValues ()
     {
-        return this.values == null ? new Object [0] : this.values.toArray ();
+        return this.values;
     }
 }
@@ -33,6 +33,12 @@ public class APCConfiguration extends AbstractConfiguration
     @Override
     public void init (final ISettingsUI settingsUI)
     {
+        ///////////////////////////
+        // Hardware
+
+        // Limits the LED updates, otherwise the APC lags behind the DAW if many LEDs change
+        this.activateMidiMessagesPerSecondSetting (settingsUI, 2000);
+
         ///////////////////////////
         // Play and Sequence
 
@@ -56,6 +56,7 @@ import de.mossgrabers.framework.command.trigger.transport.PlayCommand;
 import de.mossgrabers.framework.command.trigger.transport.StopCommand;
 import de.mossgrabers.framework.command.trigger.transport.TapTempoCommand;
 import de.mossgrabers.framework.command.trigger.view.ToggleShiftViewCommand;
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.DefaultValueChanger;
@@ -70,9 +71,9 @@ import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.midi.CoalescingMidiOutput;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
-import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.mode.Modes;
 import de.mossgrabers.framework.scale.Scales;
@@ -104,6 +105,7 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
     private static final Integer COMMAND_TOGGLE_DEVICES = Integer.valueOf (204);
 
     private final boolean        isMkII;
+    private CoalescingMidiOutput output;
 
 
     /**
@@ -134,6 +136,18 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        super.exit ();
+
+        // Send the messages which are still queued, e.g. to turn off the LEDs
+        if (this.output != null)
+            this.output.shutdown ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void createScales ()
@@ -162,10 +176,10 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
     protected void createSurface ()
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
-        final IMidiOutput output = midiAccess.createOutput ();
+        this.output = new CoalescingMidiOutput (midiAccess.createOutput (), this.configuration.getMidiMessagesPerSecond ());
         final IMidiInput input = midiAccess.createInput (this.isMkII ? "Akai APC40 mkII" : "Akai APC40",
                 "B040??" /* Sustainpedal */);
-        final APCControlSurface surface = new APCControlSurface (this.host, this.colorManager, this.configuration, output, input, this.isMkII);
+        final APCControlSurface surface = new APCControlSurface (this.host, this.colorManager, this.configuration, this.output, input, this.isMkII);
         this.surfaces.add (surface);
         surface.setDisplay (new DummyDisplay (this.host));
         for (int i = 0; i < 8; i++)
@@ -181,6 +195,7 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
         surface.getViewManager ().addViewChangeListener ( (previousViewId, activeViewId) -> this.updateMode (null));
         surface.getModeManager ().addModeListener ( (previousModeId, activeModeId) -> this.updateMode (activeModeId));
         this.createScaleObservers (this.configuration);
+        this.configuration.addSettingObserver (AbstractConfiguration.MIDI_MESSAGES_PER_SECOND, () -> this.output.setMessagesPerSecond (this.configuration.getMidiMessagesPerSecond ()));
     }
 
 
@@ -38,6 +38,8 @@ public class BrowserMode extends BaseMode
     public BrowserMode (final APCControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model, 0, 0);
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
@@ -35,9 +35,9 @@ public class DrumView extends AbstractDrumView<APCControlSurface, APCConfigurati
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return this.surface.isMkII () ? DAWColors.getColorIndex (drumPad.getColor ()) : AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.model.getColorManager ().getColor (this.surface.isMkII () ? DAWColors.getColorHandle (drumPad.getColor ()) : HANDLE_PAD_CONTENT);
     }
 
 
@@ -46,6 +46,8 @@ public class BrowserView extends AbstractView<APCminiControlSurface, APCminiConf
     public BrowserView (final APCminiControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model);
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
@@ -34,9 +34,9 @@ public class DrumView extends AbstractDrumView<APCminiControlSurface, APCminiCon
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return this.model.getColorManager ().getColor (HANDLE_PAD_CONTENT);
     }
 
 
@@ -54,7 +54,7 @@ public class BeatstepPadGrid extends PadGridImpl
 
     /** {@inheritDoc} */
     @Override
-    public void flush ()
+    public synchronized void flush ()
     {
         for (int i = 36; i < 52; i++)
         {
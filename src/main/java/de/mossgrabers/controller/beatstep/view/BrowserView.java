@@ -31,6 +31,8 @@ public class BrowserView extends AbstractView<BeatstepControlSurface, BeatstepCo
     public BrowserView (final BeatstepControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model);
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
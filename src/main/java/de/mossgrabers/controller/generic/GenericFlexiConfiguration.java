@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
@@ -255,6 +256,8 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     private String                                   filename;
     private Object                                   syncMapUpdate         = new Object ();
     private int []                                   keyMap;
+    private int [] [] []                             slotLookup;
+    private int []                                   pitchbendLookup;
     private int                                      seleIndexctedSlot     = 0;
     private String                                   learnTypeValue        = null;
     private String                                   learnNumberValue      = null;
@@ -404,7 +407,10 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             this.getSelectedSlot ().setKnobMode (AbstractConfiguration.lookupIndex (OPTIONS_KNOBMODE, value));
             this.fixKnobMode ();
         });
-        this.sendValueSetting.addValueObserver (value -> this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0));
+        this.sendValueSetting.addValueObserver (value -> {
+            this.getSelectedSlot ().setSendValue (AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+            this.notifyObservers (SLOT_CHANGE);
+        });
 
         ///////////////////////////////////////////////
         // Options
@@ -458,6 +464,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
         final FlexiCommand oldCommand = selectedSlot.getCommand ();
         final FlexiCommand newCommand = FlexiCommand.lookupByName (value);
         selectedSlot.setCommand (newCommand);
+        this.clearNoteMap ();
 
         this.fixKnobMode ();
         this.notifyCommandObserver ();
@@ -520,13 +527,58 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
      */
     public int getSlotCommand (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
+        synchronized (this.syncMapUpdate)
+        {
+            if (this.slotLookup == null)
+                this.createSlotLookup ();
+
+            if (midiChannel < 0 || midiChannel >= OPTIONS_MIDI_CHANNEL.length)
+                return -1;
+
+            // Pitchbend uses the number for the value, therefore only the channel is relevant
+            if (type == CommandSlot.TYPE_PITCH_BEND)
+                return this.pitchbendLookup[midiChannel];
+
+            if (type < 0 || type >= this.slotLookup.length || number < 0 || number >= NUMBER_NAMES.length)
+                return -1;
+            return this.slotLookup[type][midiChannel][number];
+        }
+    }
+
+
+    /**
+     * Creates the lookup tables from type, midi channel and number to the index of the slot. If
+     * several slots match, the one with the lowest index is used.
+     */
+    private void createSlotLookup ()
+    {
+        this.slotLookup = new int [CommandSlot.TYPE_MMC + 1] [OPTIONS_MIDI_CHANNEL.length] [NUMBER_NAMES.length];
+        for (final int [] [] channels: this.slotLookup)
+        {
+            for (final int [] numbers: channels)
+                Arrays.fill (numbers, -1);
+        }
+        this.pitchbendLookup = new int [OPTIONS_MIDI_CHANNEL.length];
+        Arrays.fill (this.pitchbendLookup, -1);
+
+        for (int i = this.commandSlots.length - 1; i >= 0; i--)
         {
             final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && (type == CommandSlot.TYPE_PITCH_BEND || slot.getNumber () == number))
-                return i;
+            final int type = slot.getType ();
+            final int midiChannel = slot.getMidiChannel ();
+            if (slot.getCommand () == FlexiCommand.OFF || type < 0 || type >= this.slotLookup.length || midiChannel < 0 || midiChannel >= OPTIONS_MIDI_CHANNEL.length)
+                continue;
+
+            if (type == CommandSlot.TYPE_PITCH_BEND)
+            {
+                this.pitchbendLookup[midiChannel] = i;
+                continue;
+            }
+
+            final int number = slot.getNumber ();
+            if (number >= 0 && number < NUMBER_NAMES.length)
+                this.slotLookup[type][midiChannel][number] = i;
         }
-        return -1;
     }
 
 
@@ -554,13 +606,15 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Clear the note map.
+     * Clear the note map and the slot lookup tables.
      */
     public void clearNoteMap ()
     {
         synchronized (this.syncMapUpdate)
         {
             this.keyMap = null;
+            this.slotLookup = null;
+            this.pitchbendLookup = null;
         }
         this.notifyObservers (SLOT_CHANGE);
     }
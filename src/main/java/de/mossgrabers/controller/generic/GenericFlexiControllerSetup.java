@@ -126,6 +126,7 @@ public class GenericFlexiControllerSetup extends AbstractControllerSetup<Generic
     {
         final GenericFlexiControlSurface surface = this.getSurface ();
         this.configuration.addSettingObserver (GenericFlexiConfiguration.SLOT_CHANGE, surface::updateKeyTranslation);
+        this.configuration.addSettingObserver (GenericFlexiConfiguration.SLOT_CHANGE, surface::updateReflectedSlots);
         this.configuration.addSettingObserver (GenericFlexiConfiguration.SELECTED_MODE, this::selectMode);
 
         this.configuration.addSettingObserver (AbstractConfiguration.KNOB_SPEED_NORMAL, this.getSurface ()::updateKnobSpeeds);
@@ -28,6 +28,7 @@ import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.constants.TransportConstants;
+import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ISlot;
@@ -44,6 +45,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 
 /**
@@ -61,6 +63,10 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
 
     protected static final int                                                                  SCROLL_RATE               = 6;
     private static final List<Integer>                                                          MODE_IDS                  = new ArrayList<> ();
+    private static final int                                                                    VALUES_TRANSPORT          = 1;
+    private static final int                                                                    VALUES_TRACKS             = 2;
+    private static final int                                                                    VALUES_DEVICE             = 4;
+    private static final int                                                                    VALUES_ALL                = VALUES_TRANSPORT | VALUES_TRACKS | VALUES_DEVICE;
 
     private int                                                                                 movementCounter           = 0;
     private boolean                                                                             isShiftButtonPressed      = false;
@@ -69,6 +75,11 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     private final IValueChanger                                                                 relative2ValueChanger     = new Relative2ValueChanger (128, 6, 1);
     private final IValueChanger                                                                 relative3ValueChanger     = new Relative3ValueChanger (128, 6, 1);
     private final int []                                                                        valueCache                = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private volatile int []                                                                     reflectedSlots            = null;
+    private final AtomicInteger                                                                 changedValues             = new AtomicInteger (VALUES_ALL);
+    private final int []                                                                        commandValues             = new int [FlexiCommand.values ().length];
+    private final int []                                                                        commandValueFlushes       = new int [FlexiCommand.values ().length];
+    private int                                                                                 flushCounter              = 0;
     private boolean                                                                             isUpdatingValue           = false;
     private final TriggerCommand                                                                toggleTrackBankCommand;
 
@@ -122,6 +133,55 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         this.knobSpeedCommand = new ToggleKnobSpeedCommand<> (this.model, this);
 
         this.input.setSysexCallback (this::handleSysEx);
+
+        this.observeValues ();
+    }
+
+
+    /**
+     * Register observers, which mark the values of the transport, the tracks and the cursor device
+     * as changed.
+     */
+    private void observeValues ()
+    {
+        this.model.getTransport ().addValueChangeObserver (value -> this.markChanged (VALUES_TRANSPORT));
+
+        // The selected track is taken from the track bank, the effect track bank or the master
+        this.observeTrackBank (this.model.getTrackBank ());
+        this.observeTrackBank (this.model.getEffectTrackBank ());
+        final IMasterTrack masterTrack = this.model.getMasterTrack ();
+        masterTrack.addSelectionObserver ( (index, isSelected) -> this.markChanged (VALUES_TRACKS));
+        masterTrack.addValueChangeObserver (value -> this.markChanged (VALUES_TRACKS));
+
+        final ICursorDevice cursorDevice = this.model.getCursorDevice ();
+        cursorDevice.addValueChangeObserver (value -> this.markChanged (VALUES_DEVICE));
+        final IParameterBank parameterBank = cursorDevice.getParameterBank ();
+        if (parameterBank == null)
+            return;
+        for (int i = 0; i < parameterBank.getPageSize (); i++)
+            parameterBank.getItem (i).addValueChangeObserver (value -> this.markChanged (VALUES_DEVICE));
+    }
+
+
+    private void observeTrackBank (final ITrackBank trackBank)
+    {
+        if (trackBank == null)
+            return;
+        trackBank.addSelectionObserver ( (index, isSelected) -> this.markChanged (VALUES_TRACKS));
+        for (int i = 0; i < trackBank.getPageSize (); i++)
+            trackBank.getItem (i).addValueChangeObserver (value -> this.markChanged (VALUES_TRACKS));
+    }
+
+
+    /**
+     * Mark a group of values as changed. Called from the observers, which might run in parallel to
+     * the flush.
+     *
+     * @param values The group of values, e.g. VALUES_TRACKS
+     */
+    private void markChanged (final int values)
+    {
+        this.changedValues.accumulateAndGet (values, (v1, v2) -> v1 | v2);
     }
 
 
@@ -222,12 +282,33 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             return;
 
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
-        for (int i = 0; i < slots.length; i++)
+        int [] reflected = this.reflectedSlots;
+        if (reflected == null)
+        {
+            reflected = this.collectReflectedSlots (slots);
+            this.reflectedSlots = reflected;
+        }
+
+        // The values of the transport, the tracks and the cursor device are only retrieved if an
+        // observer reported a change since the last flush
+        final int changed = this.changedValues.getAndSet (0);
+
+        // Several slots might be mapped to the same command, therefore the value of each command is
+        // only retrieved once per flush
+        this.flushCounter++;
+        for (final int i: reflected)
         {
             final FlexiCommand command = slots[i].getCommand ();
-            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
+            final int group = getValueGroup (command);
+            if (group != 0 && (changed & group) == 0)
                 continue;
-            final int value = this.getCommandValue (command);
+            final int ordinal = command.ordinal ();
+            if (this.commandValueFlushes[ordinal] != this.flushCounter)
+            {
+                this.commandValues[ordinal] = this.getCommandValue (command);
+                this.commandValueFlushes[ordinal] = this.flushCounter;
+            }
+            final int value = this.commandValues[ordinal];
             if (this.valueCache[i] == value)
                 continue;
             this.valueCache[i] = value;
@@ -236,6 +317,66 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     }
 
 
+    /**
+     * Get the indices of all slots which have a command and should send their value to the
+     * device.
+     *
+     * @param slots All slots
+     * @return The indices of the slots
+     */
+    private int [] collectReflectedSlots (final CommandSlot [] slots)
+    {
+        int count = 0;
+        final int [] indices = new int [slots.length];
+        for (int i = 0; i < slots.length; i++)
+        {
+            if (slots[i].getCommand () != FlexiCommand.OFF && slots[i].isSendValue ())
+                indices[count++] = i;
+        }
+        return Arrays.copyOf (indices, count);
+    }
+
+
+    /**
+     * Update the slots which send their values to the device after the configuration of a slot has
+     * changed. All values are sent again.
+     */
+    public void updateReflectedSlots ()
+    {
+        Arrays.fill (this.valueCache, -1);
+        this.changedValues.set (VALUES_ALL);
+        this.reflectedSlots = null;
+    }
+
+
+    /**
+     * Get the group of the values, which a command reads. The values of a group are only retrieved
+     * again after one of them has changed.
+     *
+     * @param command The command
+     * @return The group or 0 if the value needs to be retrieved on each flush
+     */
+    private static int getValueGroup (final FlexiCommand command)
+    {
+        // The crossfader is part of the transport
+        if (command == FlexiCommand.MASTER_CROSSFADER)
+            return VALUES_TRANSPORT;
+
+        switch (command.getCategory ())
+        {
+            case TRANSPORT:
+                return VALUES_TRANSPORT;
+            case TRACK:
+            case MASTER:
+                return VALUES_TRACKS;
+            case DEVICE:
+                return VALUES_DEVICE;
+            default:
+                return 0;
+        }
+    }
+
+
     /**
      * Get the current value of a command.
      *
@@ -9,8 +9,9 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.FlushScheduler;
+import de.mossgrabers.framework.utils.FlushScheduler.Slot;
 
 
 /**
@@ -22,9 +23,9 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class HUIDisplay extends AbstractDisplay
 {
-    private static final String      SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
+    private static final String    SYSEX_DISPLAY_HEADER = "F0 00 00 66 05 00 10 ";
 
-    private static final String []   SPACES               =
+    private static final String [] SPACES               =
     {
         "",
         " ",
@@ -38,9 +39,10 @@ public class HUIDisplay extends AbstractDisplay
         "         "
     };
 
-    private int                      charactersOfCell;
+    private int                    charactersOfCell;
 
-    private final LatestTaskExecutor executor             = new LatestTaskExecutor ();
+    private final Slot             slot                 = this.host.getFlushScheduler ().createSlot (this.host, "HUI Display", FlushScheduler.PRIORITY_TEXT);
+    private final SysexBuilder     message              = new SysexBuilder (SYSEX_DISPLAY_HEADER);
 
 
     /**
@@ -125,12 +127,12 @@ public class HUIDisplay extends AbstractDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        if (this.executor.isShutdown ())
+        if (this.slot.isClosed ())
             return;
-        this.executor.execute ( () -> {
+        this.slot.execute ( () -> {
             try
             {
-                this.sendDisplayLine (text);
+                this.writeChanges (row, text, 4, 0);
             }
             catch (final RuntimeException ex)
             {
@@ -140,22 +142,15 @@ public class HUIDisplay extends AbstractDisplay
     }
 
 
-    /**
-     * Send a line to the display
-     *
-     * @param text The text to send
-     */
-    private void sendDisplayLine (final String text)
+    /** {@inheritDoc} */
+    @Override
+    protected void writeRange (final int row, final CharSequence text, final int start, final int end)
     {
-        final String t = text;
-
-        final int [] array = new int [5];
-        for (int cell = 0; cell < this.noOfCells; cell++)
+        // Each cell requires its own message
+        for (int cell = start / 4; cell < end / 4; cell++)
         {
-            array[0] = cell;
-            for (int i = 0; i < 4; i++)
-                array[1 + i] = t.charAt (cell * 4 + i);
-            this.output.sendSysex (new StringBuilder (SYSEX_DISPLAY_HEADER).append (StringUtils.toHexStr (array)).append ("F7").toString ());
+            final int cellStart = cell * 4;
+            this.message.reset ().add (cell).addText (text, cellStart, cellStart + 4).send (this.output);
         }
     }
 
@@ -167,7 +162,7 @@ public class HUIDisplay extends AbstractDisplay
         this.notify ("Please start " + this.host.getName () + "...");
 
         // Prevent further sends
-        this.executor.shutdown ();
+        this.slot.close ();
     }
 
 
@@ -9,7 +9,8 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
+import de.mossgrabers.framework.utils.FlushScheduler;
+import de.mossgrabers.framework.utils.FlushScheduler.Slot;
 
 
 /**
@@ -30,7 +31,7 @@ public class HUIMainDisplay extends AbstractDisplay
         (byte) 0x12
     };
 
-    private static final String []      SPACES               =
+    private static final String [] SPACES =
     {
         "",
         " ",
@@ -44,9 +45,9 @@ public class HUIMainDisplay extends AbstractDisplay
         "         "
     };
 
-    private int                         charactersOfCell;
+    private int                    charactersOfCell;
 
-    private final LatestTaskExecutor [] executors            = new LatestTaskExecutor [2];
+    private final Slot []          slots  = new Slot [2];
 
 
     /**
@@ -60,8 +61,8 @@ public class HUIMainDisplay extends AbstractDisplay
         super (host, output, 2 /* No of rows */, 8 /* No of cells */, 40);
 
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
-        for (int i = 0; i < this.executors.length; i++)
-            this.executors[i] = new LatestTaskExecutor ();
+        for (int i = 0; i < this.slots.length; i++)
+            this.slots[i] = host.getFlushScheduler ().createSlot (host, "HUI Main Display Row " + (i + 1), FlushScheduler.PRIORITY_TEXT);
     }
 
 
@@ -132,9 +133,9 @@ public class HUIMainDisplay extends AbstractDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        if (this.executors[row].isShutdown ())
+        if (this.slots[row].isClosed ())
             return;
-        this.executors[row].execute ( () -> {
+        this.slots[row].execute ( () -> {
             try
             {
                 this.sendDisplayLine (row, text);
@@ -148,26 +149,39 @@ public class HUIMainDisplay extends AbstractDisplay
 
 
     /**
-     * Send a line to the display
+     * Send the changed zones of a line to the display. The display is written in zones of 10
+     * characters. Adjacent changed zones are sent with one message. An unchanged zone costs more
+     * bytes than the header of a new message, therefore zones separated by an unchanged zone are
+     * sent with separate messages.
      *
      * @param row The row
      * @param text The text to send
      */
     private void sendDisplayLine (final int row, final String text)
     {
-        final byte [] line = new byte [52];
+        this.writeChanges (row, text, 10, 10);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeRange (final int row, final CharSequence text, final int start, final int end)
+    {
+        final int firstZone = start / 10;
+        final int zones = (end - start) / 10;
+        final byte [] line = new byte [SYSEX_DISPLAY_HEADER.length + 11 * zones + 1];
         System.arraycopy (SYSEX_DISPLAY_HEADER, 0, line, 0, SYSEX_DISPLAY_HEADER.length);
         line[line.length - 1] = (byte) 0xF7;
 
         final int pos = SYSEX_DISPLAY_HEADER.length;
         final int offset = row * 4;
 
-        for (int i = 0; i < 4; i++)
+        for (int i = 0; i < zones; i++)
         {
-            final int start = 11 * i;
-            final int textStart = 10 * i;
-            final int index = pos + start;
-            line[index] = (byte) (offset + i);
+            final int zone = firstZone + i;
+            final int index = pos + 11 * i;
+            final int textStart = 10 * zone;
+            line[index] = (byte) (offset + zone);
             for (int j = 0; j < 10; j++)
                 line[index + j + 1] = (byte) text.charAt (textStart + j);
         }
@@ -183,8 +197,8 @@ public class HUIMainDisplay extends AbstractDisplay
         this.notify ("Please start " + this.host.getName () + "...");
 
         // Prevent further sends
-        for (int i = 0; i < 4; i++)
-            this.executors[i].shutdown ();
+        for (final Slot slot: this.slots)
+            slot.close ();
     }
 
 
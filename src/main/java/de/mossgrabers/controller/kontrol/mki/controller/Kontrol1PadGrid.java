@@ -42,6 +42,15 @@ public class Kontrol1PadGrid extends PadGridImpl
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean supportsBlink ()
+    {
+        // No blinky blink, animated by software
+        return false;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void sendBlinkState (final int note, final int blinkColor, final boolean fast)
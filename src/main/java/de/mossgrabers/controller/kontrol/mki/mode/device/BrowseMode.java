@@ -46,6 +46,8 @@ public class BrowseMode extends AbstractKontrol1Mode
         super ("Browse", surface, model);
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = 0;
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.ArrayList;
@@ -147,6 +148,7 @@ public class KontrolMkIIControlSurface extends AbstractControlSurface<KontrolMkI
     private ValueCache          valueCache                           = new ValueCache ();
     private final Object        cacheLock                            = new Object ();
     private final Object        handshakeLock                        = new Object ();
+    private final SysexBuilder  trackMessage                         = new SysexBuilder ("F0 00 21 09 00 00 44 43 01 00");
     private boolean             isConnectedToNIHIA                   = false;
 
 
@@ -303,14 +305,10 @@ public class KontrolMkIIControlSurface extends AbstractControlSurface<KontrolMkI
                 return;
         }
 
-        final int [] data = new int [3 + info.length];
-        data[0] = stateID;
-        data[1] = value;
-        data[2] = track;
-        for (int i = 0; i < info.length; i++)
-            data[3 + i] = info[i];
-
-        this.output.sendSysex ("F0 00 21 09 00 00 44 43 01 00 " + StringUtils.toHexStr (data) + "F7");
+        synchronized (this.trackMessage)
+        {
+            this.trackMessage.reset ().add (stateID).add (value).add (track).add (info).send (this.output);
+        }
     }
 
 
@@ -7,6 +7,7 @@ package de.mossgrabers.controller.launchpad.controller;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.HashMap;
@@ -96,7 +97,12 @@ public class LaunchpadPadGrid extends PadGridImpl
             INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private final String sysexHeader;
+    /** The command to set the colors of several LEDs, up to 80 LEDs can be set with one message. */
+    private static final int   SET_LEDS_COMMAND = 0x0A;
+    private static final int   MAX_LEDS         = 80;
+
+    private final String       sysexHeader;
+    private final SysexBuilder ledMessage;
 
 
     /**
@@ -110,6 +116,26 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         super (colorManager, output);
         this.sysexHeader = sysexHeader + "23 ";
+        this.ledMessage = new SysexBuilder (sysexHeader);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getBatchSize ()
+    {
+        return MAX_LEDS;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendNoteStates (final int [] notes, final int [] colors, final int count)
+    {
+        this.ledMessage.reset ().add (SET_LEDS_COMMAND);
+        for (int i = 0; i < count; i++)
+            this.ledMessage.add (notes[i]).add (colors[i]);
+        this.ledMessage.send (this.output);
     }
 
 
@@ -56,6 +56,8 @@ public class BrowserView extends AbstractView<LaunchpadControlSurface, Launchpad
     public BrowserView (final LaunchpadControlSurface surface, final IModel model)
     {
         super ("Browser", surface, model);
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
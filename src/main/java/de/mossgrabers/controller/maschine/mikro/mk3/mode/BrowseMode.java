@@ -27,6 +27,8 @@ public class BrowseMode extends BaseMode
         super ("Browser", surface, model);
 
         this.isTemporary = true;
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
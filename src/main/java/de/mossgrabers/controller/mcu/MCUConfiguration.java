@@ -151,6 +151,8 @@ public class MCUConfiguration extends AbstractConfiguration
 
         this.activateHardwareSettings (settingsUI);
         this.activateEnableVUMetersSetting (settingsUI, CATEGORY_HARDWARE_SETUP);
+        // The DIN connection of the MCU devices transfers about 1000 short messages per second
+        this.activateMidiMessagesPerSecondSetting (settingsUI, 1000);
 
         ///////////////////////////
         // Assignable buttons
@@ -24,6 +24,7 @@ import de.mossgrabers.controller.mcu.command.trigger.TracksCommand;
 import de.mossgrabers.controller.mcu.command.trigger.ZoomCommand;
 import de.mossgrabers.controller.mcu.controller.MCUControlSurface;
 import de.mossgrabers.controller.mcu.controller.MCUDisplay;
+import de.mossgrabers.controller.mcu.controller.MCUMidiOutput;
 import de.mossgrabers.controller.mcu.controller.MCUSegmentDisplay;
 import de.mossgrabers.controller.mcu.mode.MarkerMode;
 import de.mossgrabers.controller.mcu.mode.device.DeviceBrowserMode;
@@ -89,8 +90,10 @@ import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
 import de.mossgrabers.framework.view.Views;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
@@ -153,11 +156,12 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
     }
 
-    private final int [] masterVuValues   = new int [2];
-    private int          masterFaderValue = -1;
-    private final int [] vuValues         = new int [36];
-    private final int [] faderValues      = new int [36];
-    private final int    numMCUDevices;
+    private final int []              masterVuValues   = new int [2];
+    private int                       masterFaderValue = -1;
+    private final int []              vuValues         = new int [36];
+    private final int []              faderValues      = new int [36];
+    private final int                 numMCUDevices;
+    private final List<MCUMidiOutput> outputs          = new ArrayList<> ();
 
 
     /**
@@ -195,6 +199,18 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        super.exit ();
+
+        // Send the messages which are still queued, e.g. to turn off the LEDs
+        for (final MCUMidiOutput output: this.outputs)
+            output.shutdown ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     protected void createModel ()
@@ -234,7 +250,8 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         for (int i = 0; i < this.numMCUDevices; i++)
         {
-            final IMidiOutput output = midiAccess.createOutput (i);
+            final MCUMidiOutput output = new MCUMidiOutput (midiAccess.createOutput (i), this.configuration.getMidiMessagesPerSecond ());
+            this.outputs.add (output);
             final IMidiInput input = midiAccess.createInput (i, null);
             final MCUControlSurface surface = new MCUControlSurface (this.surfaces, this.host, this.colorManager, this.configuration, output, input, 8 * (this.numMCUDevices - i - 1), i == 0);
             this.surfaces.add (surface);
@@ -302,6 +319,11 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
                 ((MCUDisplay) surface.getDisplay ()).forceFlush ();
             }
         });
+
+        this.configuration.addSettingObserver (AbstractConfiguration.MIDI_MESSAGES_PER_SECOND, () -> {
+            for (final MCUMidiOutput output: this.outputs)
+                output.setMessagesPerSecond (this.configuration.getMidiMessagesPerSecond ());
+        });
     }
 
 
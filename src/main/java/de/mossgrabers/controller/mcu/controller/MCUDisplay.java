@@ -9,39 +9,43 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.FlushScheduler;
+import de.mossgrabers.framework.utils.FlushScheduler.Slot;
+
+import java.nio.CharBuffer;
+import java.util.Arrays;
 
 
 /**
- * The MCU main display.
+ * The MCU main display. The cells and rows are kept in character arrays, which are reused for each
+ * flush.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class MCUDisplay extends AbstractDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1 = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2 = "F0 00 00 67 15 13 ";
+    private static final String   SYSEX_DISPLAY_HEADER1 = "F0 00 00 66 14 12 ";
+    private static final String   SYSEX_DISPLAY_HEADER2 = "F0 00 00 67 15 13 ";
+    /** Header, offset and end byte of a message. */
+    private static final int      MESSAGE_OVERHEAD      = 8;
 
-    private static final String []      SPACES                =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
+    private boolean               isFirst;
+    private int                   charactersOfCell;
+    private boolean               hasMaster;
 
-    private boolean                     isFirst;
-    private int                         charactersOfCell;
-    private boolean                     hasMaster;
+    private final Slot []         slots                 = new Slot [2];
+    private final SysexBuilder [] messages              = new SysexBuilder [2];
 
-    private final LatestTaskExecutor [] executors             = new LatestTaskExecutor [4];
+    // The characters of the cells, the rows set by done and the rows which were handed to a slot
+    private final char [] []      cellCharacters;
+    private final char [] []      messageCharacters;
+    private final char [] []      currentCharacters;
+    // The rows which are handed over to the slots, synchronized on the row
+    private final char [] []      pendingCharacters;
+    // The lines sent by the slots, which include the indentation of the extender
+    private final char [] []      lineCharacters;
+    private final CharBuffer []   lines;
 
 
     /**
@@ -61,8 +65,32 @@ public class MCUDisplay extends AbstractDisplay
         this.hasMaster = hasMaster;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
 
-        for (int i = 0; i < 4; i++)
-            this.executors[i] = new LatestTaskExecutor ();
+        for (int i = 0; i < this.slots.length; i++)
+            this.slots[i] = host.getFlushScheduler ().createSlot (host, "MCU Display " + (isFirst ? 1 : 2) + " Row " + (i + 1), FlushScheduler.PRIORITY_TEXT);
+
+        // Each row is sent from its own slot, therefore each row needs its own builder
+        final String header = isFirst ? SYSEX_DISPLAY_HEADER1 : SYSEX_DISPLAY_HEADER2;
+        this.messages[0] = new SysexBuilder (header);
+        this.messages[1] = new SysexBuilder (header);
+
+        final int rowLength = this.noOfCells * this.charactersOfCell;
+        this.cellCharacters = createRows (this.noOfLines, rowLength);
+        this.messageCharacters = createRows (this.noOfLines, rowLength);
+        this.currentCharacters = createRows (this.noOfLines, rowLength);
+        this.pendingCharacters = createRows (this.noOfLines, rowLength);
+        this.lineCharacters = createRows (this.noOfLines, this.noOfCharacters);
+        this.lines = new CharBuffer [this.noOfLines];
+        for (int row = 0; row < this.noOfLines; row++)
+            this.lines[row] = CharBuffer.wrap (this.lineCharacters[row]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay setRow (final int row, final String str)
+    {
+        copy (str, this.messageCharacters[row], 0, this.messageCharacters[row].length);
+        return this;
     }
 
 
@@ -70,8 +98,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public AbstractDisplay clearRow (final int row)
     {
-        for (int i = 0; i < this.noOfCells; i++)
-            this.clearCell (row, i);
+        Arrays.fill (this.cellCharacters[row], ' ');
         return this;
     }
 
@@ -80,7 +107,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public MCUDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ".substring (0, this.charactersOfCell);
+        copy (null, this.cellCharacters[row], cell * this.charactersOfCell, this.charactersOfCell);
         return this;
     }
 
@@ -91,10 +118,7 @@ public class MCUDisplay extends AbstractDisplay
     {
         final int cell = 2 * block;
         if (value.length () >= this.charactersOfCell)
-        {
-            this.cells[row * this.noOfCells + cell] = pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (this.charactersOfCell), this.charactersOfCell);
-        }
+            copy (value, this.cellCharacters[row], cell * this.charactersOfCell, 2 * this.charactersOfCell);
         else
         {
             this.setCell (row, cell, value);
@@ -108,8 +132,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), this.charactersOfCell - 1) + " ";
-        return this;
+        return this.setCell (row, column, Integer.toString (value));
     }
 
 
@@ -119,9 +142,13 @@ public class MCUDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, this.charactersOfCell - 1) + " ";
+            // The last character of a cell is always a blank to separate it from the next one
+            final char [] characters = this.cellCharacters[row];
+            final int start = column * this.charactersOfCell;
+            copy (value, characters, start, this.charactersOfCell - 1);
+            characters[start + this.charactersOfCell - 1] = ' ';
         }
-        catch (final ArrayIndexOutOfBoundsException ex)
+        catch (final IndexOutOfBoundsException ex)
         {
             this.host.error ("Display array index out of bounds.", ex);
         }
@@ -129,17 +156,81 @@ public class MCUDisplay extends AbstractDisplay
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay done (final int row)
+    {
+        System.arraycopy (this.cellCharacters[row], 0, this.messageCharacters[row], 0, this.messageCharacters[row].length);
+        return this;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void flush ()
+    {
+        if (this.isNotificationActive)
+        {
+            super.flush ();
+            return;
+        }
+
+        for (int row = 0; row < this.noOfLines; row++)
+        {
+            // Has anything changed?
+            final char [] current = this.currentCharacters[row];
+            if (Arrays.equals (current, this.messageCharacters[row]))
+                continue;
+            System.arraycopy (this.messageCharacters[row], 0, current, 0, current.length);
+
+            final char [] pending = this.pendingCharacters[row];
+            synchronized (pending)
+            {
+                System.arraycopy (current, 0, pending, 0, pending.length);
+            }
+            this.sendPending (row);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void forceFlush ()
+    {
+        // Differs from all texts, therefore all rows are sent with the next flush
+        for (final char [] current: this.currentCharacters)
+            Arrays.fill (current, '\0');
+        super.forceFlush ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void writeLine (final int row, final String text)
     {
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirst ? 0 : 2)];
-        if (executor.isShutdown ())
+        final char [] pending = this.pendingCharacters[row];
+        synchronized (pending)
+        {
+            copy (text, pending, 0, pending.length);
+        }
+        this.sendPending (row);
+    }
+
+
+    /**
+     * Send the pending text of a row from the slot of the row.
+     *
+     * @param row The row
+     */
+    private void sendPending (final int row)
+    {
+        final Slot slot = this.slots[row];
+        if (slot.isClosed ())
             return;
-        executor.execute ( () -> {
+        slot.execute ( () -> {
             try
             {
-                this.sendDisplayLine (row, text);
+                this.sendDisplayLine (row);
             }
             catch (final RuntimeException ex)
             {
@@ -150,34 +241,34 @@ public class MCUDisplay extends AbstractDisplay
 
 
     /**
-     * Send a line to the display
+     * Send the changed characters of the pending text of a row to the display.
      *
      * @param row The row
-     * @param text The text to send
      */
-    private void sendDisplayLine (final int row, final String text)
+    private void sendDisplayLine (final int row)
     {
-        String t = text;
-        if (!this.isFirst && this.hasMaster)
+        // The 9 cells of an extender with the master are indented by the characters which remain of
+        // the row, the last character of the 1st row is replaced with 'r'
+        final char [] line = this.lineCharacters[row];
+        final char [] pending = this.pendingCharacters[row];
+        final int indent = line.length - pending.length;
+        synchronized (pending)
         {
-            if (row == 0)
-                t = t.substring (0, t.length () - 1) + 'r';
-            t = "  " + t;
+            System.arraycopy (pending, 0, line, indent, pending.length);
         }
-        final int length = t.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = t.charAt (i);
-        final StringBuilder code = new StringBuilder ();
-        if (this.isFirst)
-            code.append (SYSEX_DISPLAY_HEADER1);
-        else
-            code.append (SYSEX_DISPLAY_HEADER2);
-        if (row == 0)
-            code.append ("00 ");
-        else
-            code.append ("38 ");
-        this.output.sendSysex (code.append (StringUtils.toHexStr (array)).append ("F7").toString ());
+        if (indent > 0 && row == 0)
+            line[line.length - 1] = 'r';
+
+        this.writeChanges (row, this.lines[row], 1, MESSAGE_OVERHEAD);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeRange (final int row, final CharSequence text, final int start, final int end)
+    {
+        // The characters of the 2nd row start at offset 0x38
+        this.messages[row].reset ().add (row * this.noOfCharacters + start).addText (text, start, end).send (this.output);
     }
 
 
@@ -188,19 +279,34 @@ public class MCUDisplay extends AbstractDisplay
         this.notify ("Please start " + this.host.getName () + "...");
 
         // Prevent further sends
-        for (int i = 0; i < 4; i++)
-            this.executors[i].shutdown ();
+        for (final Slot slot: this.slots)
+            slot.close ();
+    }
+
+
+    private static char [] [] createRows (final int rows, final int length)
+    {
+        final char [] [] characters = new char [rows] [length];
+        for (final char [] row: characters)
+            Arrays.fill (row, ' ');
+        return characters;
     }
 
 
-    private static String pad (final String str, final int length)
+    /**
+     * Copy a text into a range of characters. The text is cut or padded with blanks to the length
+     * of the range.
+     *
+     * @param text The text, might be null
+     * @param characters The characters to copy to
+     * @param start The start of the range
+     * @param length The length of the range
+     */
+    private static void copy (final String text, final char [] characters, final int start, final int length)
     {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
+        final int count = text == null ? 0 : Math.min (text.length (), length);
+        if (count > 0)
+            text.getChars (0, count, characters, start);
+        Arrays.fill (characters, start + count, start + length, ' ');
     }
-}
\ No newline at end of file
+}
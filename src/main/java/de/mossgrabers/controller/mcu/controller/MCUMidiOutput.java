@@ -0,0 +1,39 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.mcu.controller;
+
+import de.mossgrabers.framework.daw.midi.CoalescingMidiOutput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+
+/**
+ * Limits the number of messages sent to a MCU device. The VU meters of the 8 channels are all sent
+ * as channel aftertouch, the upper 4 bits of data1 contain the channel and the lower 4 bits the
+ * value. Therefore, only the meter values of the same channel replace each other.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MCUMidiOutput extends CoalescingMidiOutput
+{
+    /**
+     * Constructor.
+     *
+     * @param output The output to which the messages are sent
+     * @param messagesPerSecond The maximum number of short messages to send per second
+     */
+    public MCUMidiOutput (final IMidiOutput output, final int messagesPerSecond)
+    {
+        super (output, messagesPerSecond);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected int getAddress (final int status, final int data1)
+    {
+        final int address = super.getAddress (status, data1);
+        return (status & 0xF0) == 0xD0 ? address | data1 & 0x70 : address;
+    }
+}
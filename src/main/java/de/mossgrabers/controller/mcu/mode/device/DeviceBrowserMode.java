@@ -44,6 +44,8 @@ public class DeviceBrowserMode extends BaseMode
 
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = -1;
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
+import de.mossgrabers.framework.osc.OpenSoundControlUdpClient;
 
 
 /**
@@ -30,6 +31,10 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     public static final Integer SEND_PORT        = Integer.valueOf (52);
     /** ID for value resolution setting. */
     public static final Integer VALUE_RESOLUTION = Integer.valueOf (53);
+    /** ID for maximum packet size setting. */
+    public static final Integer MAX_PACKET_SIZE  = Integer.valueOf (54);
+    /** ID for dump budget setting. */
+    public static final Integer DUMP_BUDGET      = Integer.valueOf (55);
 
     /** The resolution for values. */
     public enum ValueResolution
@@ -53,6 +58,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     private String                 sendHost                 = DEFAULT_SERVER;
     private int                    sendPort                 = 9000;
     private ValueResolution        valueResolution          = ValueResolution.LOW;
+    private int                    maxPacketSize            = OpenSoundControlUdpClient.DEFAULT_MAX_PACKET_SIZE;
+    private int                    dumpBudget               = 8192;
 
 
     /**
@@ -94,6 +101,18 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         });
         sendPortSetting.setEnabled (false);
 
+        final IIntegerSetting maxPacketSizeSetting = settingsUI.getRangeSetting ("Max. UDP packet size", CATEGORY_SETUP, 576, 65507, 1, "Bytes", OpenSoundControlUdpClient.DEFAULT_MAX_PACKET_SIZE);
+        maxPacketSizeSetting.addValueObserver (value -> {
+            this.maxPacketSize = value.intValue ();
+            this.notifyObservers (MAX_PACKET_SIZE);
+        });
+
+        final IIntegerSetting dumpBudgetSetting = settingsUI.getRangeSetting ("Max. dump size per flush (0 = all at once)", CATEGORY_SETUP, 0, 1048576, 1, "Bytes", 8192);
+        dumpBudgetSetting.addValueObserver (value -> {
+            this.dumpBudget = value.intValue ();
+            this.notifyObservers (DUMP_BUDGET);
+        });
+
         final IEnumSetting valueResolutionSetting = settingsUI.getEnumSetting ("Value resolution", CATEGORY_SETUP, VALUE_RESOLUTION_OPTIONS, VALUE_RESOLUTION_OPTIONS[0]);
         valueResolutionSetting.addValueObserver (value -> {
             if (VALUE_RESOLUTION_OPTIONS[0].equals (value))
@@ -157,6 +176,27 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
+
+
+    /**
+     * Get the number of bytes after which no further parts of a full dump are added to a flush.
+     * The rest of the dump is sent with the next flushes. A part is either a group of values (e.g.
+     * the transport) or a single track, drum pad or layer.
+     *
+     * @return The number of bytes, 0 to send a full dump at once
+     */
+    public int getDumpBudget ()
+    {
+        return this.dumpBudget;
+    }
+
+
     /**
      * Get the selected value resolution.
      *
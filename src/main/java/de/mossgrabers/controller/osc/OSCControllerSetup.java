@@ -17,7 +17,6 @@ import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ModelSetup;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
@@ -138,9 +137,8 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
         this.surfaces.add (surface);
         this.keyManager = new KeyManager (this.model, surface.getPadGrid ());
 
-        // Send OSC messages
-        final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (this.configuration.getSendHost (), this.configuration.getSendPort ());
-        this.writer = new OSCWriter (this.host, this.model, oscClient, this.keyManager, this.configuration);
+        // Send OSC messages, the configured client is added on startup
+        this.writer = new OSCWriter (this.host, this.model, this.keyManager, this.configuration);
 
         // Receive OSC messages
         final OSCParser parser = new OSCParser (this.host, surface, this.model, this.configuration, this.writer, input, this.keyManager);
@@ -148,12 +146,22 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        this.writer.shutdown ();
+        this.host.releaseOSC ();
+        super.exit ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
     {
-        // Initial flush of the whole DAW state
-        this.host.scheduleTask ( () -> this.writer.flush (true), 1000);
+        // Connect to the configured client, which receives a dump of the whole DAW state
+        this.host.scheduleTask ( () -> this.writer.addClient (this.configuration.getSendHost (), this.configuration.getSendPort ()), 1000);
     }
 
 
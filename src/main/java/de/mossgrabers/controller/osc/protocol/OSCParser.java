@@ -32,8 +32,10 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.net.InetSocketAddress;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.regex.Matcher;
@@ -47,16 +49,18 @@ import java.util.regex.Pattern;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private static final String     PART_INDICATE     = "indicate";
-    private static final String     PART_VOLUME       = "volume";
-    private static final String     PART_RESET        = "reset";
-    private static final String     PART_TOUCH        = "touched";
+    private static final String          PART_INDICATE     = "indicate";
+    private static final String          PART_VOLUME       = "volume";
+    private static final String          PART_RESET        = "reset";
+    private static final String          PART_TOUCH        = "touched";
 
-    private static final Pattern    RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
+    private static final Pattern         RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
 
-    private final OSCControlSurface surface;
-    private final Display           display;
-    private final KeyManager        keyManager;
+    private final OSCControlSurface      surface;
+    private final Display                display;
+    private final KeyManager             keyManager;
+    private final OpenSoundControlRouter router            = new OpenSoundControlRouter ();
+    private InetSocketAddress            sender;
 
 
     /**
@@ -80,14 +84,139 @@ public class OSCParser extends AbstractOpenSoundControlParser
 
         this.model.getCurrentTrackBank ().setIndication (true);
         this.surface.setKeyTranslationTable (model.getScales ().getNoteMatrix ());
+
+        this.registerRoutes ();
+    }
+
+
+    /**
+     * Register the routes for the addresses which are sent at a high rate, e.g. from faders. They
+     * are resolved without splitting the address. All other addresses are handled by the parser.
+     */
+    private void registerRoutes ()
+    {
+        final ITrackBank trackBank = this.model.getTrackBank ();
+        final ITrackBank effectTrackBank = this.model.getEffectTrackBank ();
+        final int numTracks = Math.max (trackBank.getPageSize (), effectTrackBank == null ? 0 : effectTrackBank.getPageSize ());
+        final int numSends = trackBank.getItem (0).getSendBank ().getPageSize ();
+
+        this.router.addRoute ("/track/{" + numTracks + "}/volume", (indices, message) -> this.getTrack (indices[0]).setVolume (getIntValue (message)));
+        this.router.addRoute ("/track/{" + numTracks + "}/pan", (indices, message) -> this.getTrack (indices[0]).setPan (getIntValue (message)));
+        this.router.addRoute ("/track/{" + numTracks + "}/send/{" + numSends + "}/volume", (indices, message) -> {
+            final ISend send = this.getTrack (indices[0]).getSendBank ().getItem (indices[1] - 1);
+            if (send != null)
+                send.setValue (getIntValue (message));
+        });
+        this.router.addRoute ("/master/volume", (indices, message) -> this.masterTrack.setVolume (getIntValue (message)));
+        this.router.addRoute ("/master/pan", (indices, message) -> this.masterTrack.setPan (getIntValue (message)));
+
+        final int numParams = this.model.getCursorDevice ().getParameterBank ().getPageSize ();
+        this.router.addRoute ("/device/param/{" + numParams + "}/value", (indices, message) -> setParameterValue (this.model.getCursorDevice (), indices[0], message));
+        this.router.addRoute ("/primary/param/{" + numParams + "}/value", (indices, message) -> setParameterValue (this.model.getInstrumentDevice (), indices[0], message));
+
+        this.router.addRoute ("/subscribe", (indices, message) -> this.parseSubscription (message, true));
+        this.router.addRoute ("/unsubscribe", (indices, message) -> this.parseSubscription (message, false));
+        this.router.addRoute ("/client/add", (indices, message) -> this.parseClient (message, true));
+        this.router.addRoute ("/client/remove", (indices, message) -> this.parseClient (message, false));
+    }
+
+
+    /**
+     * Handles a (un-)subscription. The first value is the address pattern, the optional second
+     * value the maximum number of updates per second.
+     *
+     * @param message The message
+     * @param subscribe True to subscribe, false to unsubscribe
+     */
+    private void parseSubscription (final IOpenSoundControlMessage message, final boolean subscribe)
+    {
+        final Object [] values = message.getValues ();
+        if (values == null || values.length == 0 || values[0] == null)
+        {
+            this.host.error ("Missing address pattern.");
+            return;
+        }
+
+        final String pattern = values[0].toString ();
+        if (!subscribe)
+        {
+            this.writer.unsubscribe (this.sender, pattern);
+            return;
+        }
+
+        final double maxRate = values.length > 1 && values[1] instanceof Number ? ((Number) values[1]).doubleValue () : 0;
+        this.writer.subscribe (this.sender, pattern, maxRate);
+    }
+
+
+    /**
+     * Handles adding or removing a client to which all values are sent. The value is the port of
+     * the client. A client can only add or remove itself, therefore the host is always the one of
+     * the sender. If the host is given as well (host and port), it must be the IP address of the
+     * sender.
+     *
+     * @param message The message
+     * @param add True to add, false to remove
+     */
+    private void parseClient (final IOpenSoundControlMessage message, final boolean add)
+    {
+        final Object [] values = message.getValues ();
+        if (values == null || values.length == 0 || values.length > 2 || !(values[values.length - 1] instanceof Number))
+        {
+            this.host.error ("Missing port of client.");
+            return;
+        }
+        if (this.sender == null || this.sender.getAddress () == null)
+        {
+            this.host.error ("Unknown sender of client request.");
+            return;
+        }
+
+        final String clientHost = this.sender.getAddress ().getHostAddress ();
+        if (values.length == 2 && !clientHost.equals (String.valueOf (values[0])))
+        {
+            this.host.error ("A client can only add or remove itself: " + values[0] + " is not the sender " + clientHost + ".");
+            return;
+        }
+
+        final int clientPort = ((Number) values[values.length - 1]).intValue ();
+        if (add)
+            this.writer.addClient (clientHost, clientPort);
+        else
+            this.writer.removeClient (clientHost, clientPort);
+    }
+
+
+    private ITrack getTrack (final int trackNo)
+    {
+        return this.model.getCurrentTrackBank ().getItem (trackNo - 1);
+    }
+
+
+    private static void setParameterValue (final ICursorDevice cursorDevice, final int paramNo, final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        if (values != null && values.length > 0 && values[0] != null)
+            cursorDevice.getParameterBank ().getItem (paramNo - 1).setValue (getIntValue (message));
+    }
+
+
+    private static int getIntValue (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        return values != null && values.length > 0 && values[0] instanceof Number ? ((Number) values[0]).intValue () : -1;
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void handle (final IOpenSoundControlMessage message)
+    public void handle (final IOpenSoundControlMessage message, final InetSocketAddress sender)
     {
         this.logMessage (message);
+        this.sender = sender;
+
+        if (this.router.route (message))
+            return;
 
         final LinkedList<String> oscParts = parseAddress (message);
         if (oscParts.isEmpty ())
@@ -482,7 +611,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
         switch (command)
         {
             case "refresh":
-                this.writer.flush (true);
+                this.writer.requestDump (this.sender);
                 return true;
 
             case "undo":
@@ -6,7 +6,6 @@ package de.mossgrabers.controller.osc.protocol;
 
 import de.mossgrabers.controller.osc.OSCColors;
 import de.mossgrabers.controller.osc.OSCConfiguration;
-import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IArranger;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.ICursorDevice;
@@ -36,10 +35,15 @@ import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
-import de.mossgrabers.framework.osc.IOpenSoundControlClient;
+import de.mossgrabers.framework.osc.OpenSoundControlAddressRegistry;
+import de.mossgrabers.framework.osc.OpenSoundControlSubscriptions;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.KeyManager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
 
 /**
  * Writes the changed DAW stati as OSC messages.
@@ -48,7 +52,70 @@ import de.mossgrabers.framework.utils.KeyManager;
  */
 public class OSCWriter extends AbstractOpenSoundControlWriter
 {
-    private KeyManager keyManager;
+    private static final String [] CHANNEL_TYPE_NAMES = new String [ChannelType.values ().length];
+
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            CHANNEL_TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase ();
+    }
+
+    private KeyManager                       keyManager;
+
+    private final int                        playAddress;
+    private final int                        recordAddress;
+    private final int                        overdubAddress;
+    private final int                        overdubLauncherAddress;
+    private final int                        repeatAddress;
+    private final int                        punchInAddress;
+    private final int                        punchOutAddress;
+    private final int                        clickAddress;
+    private final int                        clickTicksAddress;
+    private final int                        clickVolumeAddress;
+    private final int                        clickVolumeStrAddress;
+    private final int                        clickPrerollAddress;
+    private final int                        prerollAddress;
+    private final int                        tempoRawAddress;
+    private final int                        crossfadeAddress;
+    private final int                        autowriteAddress;
+    private final int                        autowriteLauncherAddress;
+    private final int                        automationWriteModeAddress;
+    private final int                        timeStrAddress;
+    private final int                        timeSignatureAddress;
+    private final int                        beatStrAddress;
+    private final int                        layoutAddress;
+    private final int []                     arrangerAddresses;
+    private final int []                     mixerAddresses;
+    private final int                        projectNameAddress;
+    private final int                        projectEngineAddress;
+    private final int                        trackToggleBankAddress;
+    private final ChannelAddresses           masterAddresses;
+    private final ChannelAddresses           selectedTrackAddresses;
+    private final DeviceAddresses            cursorDeviceAddresses;
+    private final DeviceAddresses            primaryDeviceAddresses;
+    private final int                        browserIsActiveAddress;
+    private final int                        browserTabAddress;
+    private final int []                     noteColorAddresses = new int [127];
+    private final int                        dumpProgressAddress;
+
+    private final int                        transportSubtree;
+    private final int                        framesSubtree;
+    private final int                        markerSubtree;
+    private final int                        projectSubtree;
+    private final int                        trackSubtree;
+    private final int                        sceneSubtree;
+    private final int                        deviceSubtree;
+    private final int                        primarySubtree;
+    private final int                        browserSubtree;
+    private final int                        notesSubtree;
+
+    private final List<MarkerAddresses>      markerAddresses    = new ArrayList<> ();
+    private final List<ChannelAddresses>     trackAddresses     = new ArrayList<> ();
+    private final List<SceneAddresses>       sceneAddresses     = new ArrayList<> ();
+    private final List<ChannelAddresses>     drumPadAddresses   = new ArrayList<> ();
+    private final List<ChannelAddresses>     layerAddresses     = new ArrayList<> ();
+    private final List<FilterAddresses>      filterAddresses    = new ArrayList<> ();
+    private final List<BrowserItemAddresses> resultAddresses    = new ArrayList<> ();
 
 
     /**
@@ -56,14 +123,69 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
      * @param keyManager The model
      * @param configuration The configuration
      */
-    public OSCWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final KeyManager keyManager, final OSCConfiguration configuration)
+    public OSCWriter (final IHost host, final IModel model, final KeyManager keyManager, final OSCConfiguration configuration)
     {
-        super (host, model, oscClient, configuration);
+        super (host, model, configuration);
         this.keyManager = keyManager;
+
+        final OpenSoundControlAddressRegistry registry = this.addressRegistry;
+        this.playAddress = registry.register ("/play");
+        this.recordAddress = registry.register ("/record");
+        this.overdubAddress = registry.register ("/overdub");
+        this.overdubLauncherAddress = registry.register ("/overdub/launcher");
+        this.repeatAddress = registry.register ("/repeat");
+        this.punchInAddress = registry.register ("/punchIn");
+        this.punchOutAddress = registry.register ("/punchOut");
+        this.clickAddress = registry.register ("/click");
+        this.clickTicksAddress = registry.register ("/click/ticks");
+        this.clickVolumeAddress = registry.register ("/click/volume");
+        this.clickVolumeStrAddress = registry.register ("/click/volumeStr");
+        this.clickPrerollAddress = registry.register ("/click/preroll");
+        this.prerollAddress = registry.register ("/preroll");
+        this.tempoRawAddress = registry.register ("/tempo/raw");
+        this.crossfadeAddress = registry.register ("/crossfade");
+        this.autowriteAddress = registry.register ("/autowrite");
+        this.autowriteLauncherAddress = registry.register ("/autowrite/launcher");
+        this.automationWriteModeAddress = registry.register ("/automationWriteMode");
+        this.timeStrAddress = registry.register ("/time/str");
+        this.timeSignatureAddress = registry.register ("/time/signature");
+        this.beatStrAddress = registry.register ("/beat/str");
+
+        this.layoutAddress = registry.register ("/layout");
+        this.arrangerAddresses = registerAll (registry, "/arranger/", "cueMarkerVisibility", "playbackFollow", "trackRowHeight", "clipLauncherSectionVisibility", "timeLineVisibility", "ioSectionVisibility", "effectTracksVisibility");
+        this.mixerAddresses = registerAll (registry, "/mixer/", "clipLauncherSectionVisibility", "crossFadeSectionVisibility", "deviceSectionVisibility", "sendsSectionVisibility", "ioSectionVisibility", "meterSectionVisibility");
+
+        this.projectNameAddress = registry.register ("/project/name");
+        this.projectEngineAddress = registry.register ("/project/engine");
+
+        this.trackToggleBankAddress = registry.register ("/track/toggleBank");
+        this.masterAddresses = new ChannelAddresses (registry, "/master/");
+        this.selectedTrackAddresses = new ChannelAddresses (registry, "/track/selected/");
+
+        this.cursorDeviceAddresses = new DeviceAddresses (registry, "/device/");
+        this.primaryDeviceAddresses = new DeviceAddresses (registry, "/primary/");
+
+        this.browserIsActiveAddress = registry.register ("/browser/isActive");
+        this.browserTabAddress = registry.register ("/browser/tab");
+
+        for (int i = 0; i < this.noteColorAddresses.length; i++)
+            this.noteColorAddresses[i] = registry.register ("/vkb_midi/note/" + i + "/color");
+
+        this.dumpProgressAddress = registry.register ("/dump/progress");
+
+        this.transportSubtree = this.subscriptions.addSubtree ("play", "record", "overdub", "repeat", "punchIn", "punchOut", "click", "preroll", "tempo", "crossfade", "autowrite", "automationWriteMode", "time", "beat");
+        this.framesSubtree = this.subscriptions.addSubtree ("layout", "arranger", "mixer");
+        this.markerSubtree = this.subscriptions.addSubtree ("marker");
+        this.projectSubtree = this.subscriptions.addSubtree ("project");
+        this.trackSubtree = this.subscriptions.addSubtree ("track", "master");
+        this.sceneSubtree = this.subscriptions.addSubtree ("scene");
+        this.deviceSubtree = this.subscriptions.addSubtree ("device");
+        this.primarySubtree = this.subscriptions.addSubtree ("primary");
+        this.browserSubtree = this.subscriptions.addSubtree ("browser");
+        this.notesSubtree = this.subscriptions.addSubtree ("vkb_midi");
     }
 
 
@@ -74,368 +196,447 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         if (!this.isConnected ())
             return;
 
-        //
-        // Transport
-        //
+        // A dump is not sent at once but spread over the next flushes, the subtrees which are not
+        // dumped yet still send their changed values
+        final OpenSoundControlSubscriptions subs = this.subscriptions;
+        if (dump)
+            subs.requestDump (OpenSoundControlSubscriptions.ALL_CLIENTS);
+        subs.update (System.currentTimeMillis (), this.getConnectedClients ());
+
+        final int budget = ((OSCConfiguration) this.configuration).getDumpBudget ();
+        if (this.startSubtree (this.transportSubtree))
+            this.flushTransport (this.isDumpDue (this.transportSubtree, budget));
+        if (this.startSubtree (this.framesSubtree))
+            this.flushFrames (this.isDumpDue (this.framesSubtree, budget));
+        if (this.startSubtree (this.markerSubtree))
+            this.flushMarkers (this.isDumpDue (this.markerSubtree, budget));
+        if (this.startSubtree (this.projectSubtree))
+            this.flushProject (this.isDumpDue (this.projectSubtree, budget));
+        if (this.startSubtree (this.trackSubtree))
+            this.flushTracks (budget);
+        if (this.startSubtree (this.sceneSubtree))
+            this.flushScenes (this.isDumpDue (this.sceneSubtree, budget));
+        if (this.startSubtree (this.deviceSubtree))
+            this.flushCursorDevice (budget);
+        if (this.startSubtree (this.primarySubtree))
+            this.flushDevice (this.primaryDeviceAddresses, this.model.getInstrumentDevice (), this.isDumpDue (this.primarySubtree, budget));
+        if (this.startSubtree (this.browserSubtree))
+            this.flushBrowser (this.model.getBrowser (), this.isDumpDue (this.browserSubtree, budget));
+        if (this.startSubtree (this.notesSubtree))
+            this.flushNotes (this.isDumpDue (this.notesSubtree, budget));
+        this.endSubtree ();
+
+        final int dumpProgress = subs.getDumpProgress ();
+        if (dumpProgress >= 0)
+            this.sendOSC (this.dumpProgressAddress, dumpProgress, true);
+
+        this.flush ();
+    }
+
 
+    /**
+     * Flush all data of the transport.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushTransport (final boolean dump)
+    {
         final ITransport trans = this.model.getTransport ();
-        this.sendOSC ("/play", trans.isPlaying (), dump);
-        this.sendOSC ("/record", trans.isRecording (), dump);
-        this.sendOSC ("/overdub", trans.isArrangerOverdub (), dump);
-        this.sendOSC ("/overdub/launcher", trans.isLauncherOverdub (), dump);
-        this.sendOSC ("/repeat", trans.isLoop (), dump);
-        this.sendOSC ("/punchIn", trans.isPunchInEnabled (), dump);
-        this.sendOSC ("/punchOut", trans.isPunchOutEnabled (), dump);
-        this.sendOSC ("/click", trans.isMetronomeOn (), dump);
-        this.sendOSC ("/click/ticks", trans.isMetronomeTicksOn (), dump);
-        this.sendOSC ("/click/volume", trans.getMetronomeVolume (), dump);
-        this.sendOSC ("/click/volumeStr", trans.getMetronomeVolumeStr (), dump);
-        this.sendOSC ("/click/preroll", trans.isPrerollMetronomeEnabled (), dump);
-        this.sendOSC ("/preroll", trans.getPrerollAsBars (), dump);
-        this.sendOSC ("/tempo/raw", trans.getTempo (), dump);
-        this.sendOSC ("/crossfade", trans.getCrossfade (), dump);
-        this.sendOSC ("/autowrite", trans.isWritingArrangerAutomation (), dump);
-        this.sendOSC ("/autowrite/launcher", trans.isWritingClipLauncherAutomation (), dump);
-        this.sendOSC ("/automationWriteMode", trans.getAutomationWriteMode (), dump);
-        this.sendOSC ("/time/str", trans.getPositionText (), dump);
-        this.sendOSC ("/time/signature", trans.getNumerator () + " / " + trans.getDenominator (), dump);
-        this.sendOSC ("/beat/str", trans.getBeatText (), dump);
-
-        //
-        // Frames
-        //
-
-        final IApplication app = this.model.getApplication ();
-        this.sendOSC ("/layout", app.getPanelLayout ().toLowerCase (), dump);
+        this.sendOSC (this.playAddress, trans.isPlaying (), dump);
+        this.sendOSC (this.recordAddress, trans.isRecording (), dump);
+        this.sendOSC (this.overdubAddress, trans.isArrangerOverdub (), dump);
+        this.sendOSC (this.overdubLauncherAddress, trans.isLauncherOverdub (), dump);
+        this.sendOSC (this.repeatAddress, trans.isLoop (), dump);
+        this.sendOSC (this.punchInAddress, trans.isPunchInEnabled (), dump);
+        this.sendOSC (this.punchOutAddress, trans.isPunchOutEnabled (), dump);
+        this.sendOSC (this.clickAddress, trans.isMetronomeOn (), dump);
+        this.sendOSC (this.clickTicksAddress, trans.isMetronomeTicksOn (), dump);
+        this.sendOSC (this.clickVolumeAddress, trans.getMetronomeVolume (), dump);
+        this.sendOSC (this.clickVolumeStrAddress, trans.getMetronomeVolumeStr (), dump);
+        this.sendOSC (this.clickPrerollAddress, trans.isPrerollMetronomeEnabled (), dump);
+        this.sendOSC (this.prerollAddress, trans.getPrerollAsBars (), dump);
+        this.sendOSC (this.tempoRawAddress, trans.getTempo (), dump);
+        this.sendOSC (this.crossfadeAddress, trans.getCrossfade (), dump);
+        this.sendOSC (this.autowriteAddress, trans.isWritingArrangerAutomation (), dump);
+        this.sendOSC (this.autowriteLauncherAddress, trans.isWritingClipLauncherAutomation (), dump);
+        this.sendOSC (this.automationWriteModeAddress, trans.getAutomationWriteMode (), dump);
+        this.sendOSC (this.timeStrAddress, trans.getPositionText (), dump);
+        final int numerator = trans.getNumerator ();
+        final int denominator = trans.getDenominator ();
+        final long timeSignatureReceivers = this.getReceivers (this.timeSignatureAddress, this.addressRegistry.update (this.timeSignatureAddress, numerator << 16 | denominator), dump);
+        if (timeSignatureReceivers != 0)
+            this.addMessage (this.timeSignatureAddress, numerator + " / " + denominator, timeSignatureReceivers);
+        this.sendOSC (this.beatStrAddress, trans.getBeatText (), dump);
+    }
+
+
+    /**
+     * Flush all data of the layout, arranger and mixer panels.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushFrames (final boolean dump)
+    {
+        final String panelLayout = this.model.getApplication ().getPanelLayout ();
+        final long layoutReceivers = this.getReceivers (this.layoutAddress, this.addressRegistry.update (this.layoutAddress, (Object) panelLayout), dump);
+        if (layoutReceivers != 0)
+            this.addMessage (this.layoutAddress, panelLayout.toLowerCase (), layoutReceivers);
 
         final IArranger arrange = this.model.getArranger ();
-        this.sendOSC ("/arranger/cueMarkerVisibility", arrange.areCueMarkersVisible (), dump);
-        this.sendOSC ("/arranger/playbackFollow", arrange.isPlaybackFollowEnabled (), dump);
-        this.sendOSC ("/arranger/trackRowHeight", arrange.hasDoubleRowTrackHeight (), dump);
-        this.sendOSC ("/arranger/clipLauncherSectionVisibility", arrange.isClipLauncherVisible (), dump);
-        this.sendOSC ("/arranger/timeLineVisibility", arrange.isTimelineVisible (), dump);
-        this.sendOSC ("/arranger/ioSectionVisibility", arrange.isIoSectionVisible (), dump);
-        this.sendOSC ("/arranger/effectTracksVisibility", arrange.areEffectTracksVisible (), dump);
+        this.sendOSC (this.arrangerAddresses[0], arrange.areCueMarkersVisible (), dump);
+        this.sendOSC (this.arrangerAddresses[1], arrange.isPlaybackFollowEnabled (), dump);
+        this.sendOSC (this.arrangerAddresses[2], arrange.hasDoubleRowTrackHeight (), dump);
+        this.sendOSC (this.arrangerAddresses[3], arrange.isClipLauncherVisible (), dump);
+        this.sendOSC (this.arrangerAddresses[4], arrange.isTimelineVisible (), dump);
+        this.sendOSC (this.arrangerAddresses[5], arrange.isIoSectionVisible (), dump);
+        this.sendOSC (this.arrangerAddresses[6], arrange.areEffectTracksVisible (), dump);
 
         final IMixer mix = this.model.getMixer ();
-        this.sendOSC ("/mixer/clipLauncherSectionVisibility", mix.isClipLauncherSectionVisible (), dump);
-        this.sendOSC ("/mixer/crossFadeSectionVisibility", mix.isCrossFadeSectionVisible (), dump);
-        this.sendOSC ("/mixer/deviceSectionVisibility", mix.isDeviceSectionVisible (), dump);
-        this.sendOSC ("/mixer/sendsSectionVisibility", mix.isSendSectionVisible (), dump);
-        this.sendOSC ("/mixer/ioSectionVisibility", mix.isIoSectionVisible (), dump);
-        this.sendOSC ("/mixer/meterSectionVisibility", mix.isMeterSectionVisible (), dump);
-
-        //
-        // Markers
-        //
+        this.sendOSC (this.mixerAddresses[0], mix.isClipLauncherSectionVisible (), dump);
+        this.sendOSC (this.mixerAddresses[1], mix.isCrossFadeSectionVisible (), dump);
+        this.sendOSC (this.mixerAddresses[2], mix.isDeviceSectionVisible (), dump);
+        this.sendOSC (this.mixerAddresses[3], mix.isSendSectionVisible (), dump);
+        this.sendOSC (this.mixerAddresses[4], mix.isIoSectionVisible (), dump);
+        this.sendOSC (this.mixerAddresses[5], mix.isMeterSectionVisible (), dump);
+    }
+
+
+    /**
+     * Flush all markers.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushMarkers (final boolean dump)
+    {
         final IMarkerBank markerBank = this.model.getMarkerBank ();
         for (int i = 0; i < markerBank.getPageSize (); i++)
-            this.flushMarker ("/marker/" + (i + 1) + "/", markerBank.getItem (i), dump);
+            this.flushMarker (this.getAddresses (this.markerAddresses, i, "/marker/", MarkerAddresses::new), markerBank.getItem (i), dump);
+    }
 
-        //
-        // Project
-        //
 
-        this.sendOSC ("/project/name", this.model.getProject ().getName (), dump);
-        this.sendOSC ("/project/engine", app.isEngineActive (), dump);
+    /**
+     * Flush all data of the project.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushProject (final boolean dump)
+    {
+        this.sendOSC (this.projectNameAddress, this.model.getProject ().getName (), dump);
+        this.sendOSC (this.projectEngineAddress, this.model.getApplication ().isEngineActive (), dump);
+    }
 
-        //
-        // Master-/Track(-commands)
-        //
 
+    /**
+     * Flush all tracks, the master and the selected track. A dump is sent track by track.
+     *
+     * @param budget The dump budget, see isDumpDue
+     */
+    private void flushTracks (final int budget)
+    {
         final ITrackBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getPageSize (); i++)
-            this.flushTrack ("/track/" + (i + 1) + "/", trackBank.getItem (i), dump);
-        this.flushTrack ("/master/", this.model.getMasterTrack (), dump);
+        final int pageSize = trackBank.getPageSize ();
+        // The tracks of the page, the master and the selected track
+        final int numItems = pageSize + 2;
+        for (int i = 0; i < pageSize; i++)
+            this.flushTrack (this.getAddresses (this.trackAddresses, i, "/track/", ChannelAddresses::new), trackBank.getItem (i), this.isDumpDue (this.trackSubtree, i, numItems, budget));
+        this.flushTrack (this.masterAddresses, this.model.getMasterTrack (), this.isDumpDue (this.trackSubtree, pageSize, numItems, budget));
+        final boolean dump = this.isDumpDue (this.trackSubtree, pageSize + 1, numItems, budget);
         final ITrack selectedTrack = trackBank.getSelectedItem ();
-        this.flushTrack ("/track/selected/", selectedTrack == null ? EmptyTrackData.INSTANCE : selectedTrack, dump);
-        this.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.flushTrack (this.selectedTrackAddresses, selectedTrack == null ? EmptyTrackData.INSTANCE : selectedTrack, dump);
+        this.sendOSC (this.trackToggleBankAddress, this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+    }
 
-        //
-        // Scenes
-        //
 
+    /**
+     * Flush all scenes.
+     *
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushScenes (final boolean dump)
+    {
         final ISceneBank sceneBank = this.model.getSceneBank ();
         for (int i = 0; i < sceneBank.getPageSize (); i++)
-            this.flushScene ("/scene/" + (i + 1) + "/", sceneBank.getItem (i), dump);
+            this.flushScene (this.getAddresses (this.sceneAddresses, i, "/scene/", SceneAddresses::new), sceneBank.getItem (i), dump);
+    }
+
 
-        //
-        // Device / Primary Device
-        //
+    /**
+     * Flush the cursor device with its drum pads and layers. A dump is sent the device first, then
+     * pad by pad and layer by layer.
+     *
+     * @param budget The dump budget, see isDumpDue
+     */
+    private void flushCursorDevice (final int budget)
+    {
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice ("/device/", cd, dump);
-        if (cd.hasDrumPads ())
+        final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
+        final ILayerBank layerBank = cd.getLayerBank ();
+        final int numDrumPads = drumPadBank.getPageSize ();
+        final int numLayers = layerBank.getPageSize ();
+        // The number of items must not change during a dump, therefore the drum pads are always
+        // counted even if the device has none
+        final int numItems = 1 + numDrumPads + numLayers;
+
+        this.flushDevice (this.cursorDeviceAddresses, cd, this.isDumpDue (this.deviceSubtree, 0, numItems, budget));
+        final boolean hasDrumPads = cd.hasDrumPads ();
+        for (int i = 0; i < numDrumPads; i++)
         {
-            final IDrumPadBank drumPadBank = cd.getDrumPadBank ();
-            for (int i = 0; i < drumPadBank.getPageSize (); i++)
-                this.flushDeviceLayers ("/device/drumpad/" + (i + 1) + "/", drumPadBank.getItem (i), dump);
+            final boolean dump = this.isDumpDue (this.deviceSubtree, 1 + i, numItems, budget);
+            if (hasDrumPads)
+                this.flushDeviceLayers (this.getAddresses (this.drumPadAddresses, i, "/device/drumpad/", ChannelAddresses::new), drumPadBank.getItem (i), dump);
         }
-        final ILayerBank layerBank = cd.getLayerBank ();
-        for (int i = 0; i < layerBank.getPageSize (); i++)
-            this.flushDeviceLayers ("/device/layer/" + (i + 1) + "/", layerBank.getItem (i), dump);
-        this.flushDevice ("/primary/", this.model.getInstrumentDevice (), dump);
-
-        //
-        // Browser
-        //
-
-        this.flushBrowser ("/browser/", this.model.getBrowser (), dump);
-
-        //
-        // Notes
-        //
-
-        this.flushNotes ("/vkb_midi/note/", dump);
-
-        this.flush ();
+        for (int i = 0; i < numLayers; i++)
+            this.flushDeviceLayers (this.getAddresses (this.layerAddresses, i, "/device/layer/", ChannelAddresses::new), layerBank.getItem (i), this.isDumpDue (this.deviceSubtree, 1 + numDrumPads + i, numItems, budget));
     }
 
 
     /**
      * Flush all data of a marker.
      *
-     * @param markerAddress The start address for the marker
+     * @param addresses The addresses for the marker
      * @param marker The marker
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushMarker (final String markerAddress, final IMarker marker, final boolean dump)
+    private void flushMarker (final MarkerAddresses addresses, final IMarker marker, final boolean dump)
     {
-        this.sendOSC (markerAddress + "exists", marker.doesExist (), dump);
-        this.sendOSC (markerAddress + "name", marker.getName (), dump);
+        this.sendOSC (addresses.exists, marker.doesExist (), dump);
+        this.sendOSC (addresses.name, marker.getName (), dump);
         final double [] color = marker.getColor ();
-        this.sendOSCColor (markerAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (addresses.color, color[0], color[1], color[2], dump);
     }
 
 
     /**
      * Flush all data of a track.
      *
-     * @param trackAddress The start address for the track
+     * @param addresses The addresses for the track
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final ChannelAddresses addresses, final ITrack track, final boolean dump)
     {
-        this.sendOSC (trackAddress + "exists", track.doesExist (), dump);
+        this.sendOSC (addresses.exists, track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        this.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (), dump);
-        this.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        this.sendOSC (trackAddress + "selected", track.isSelected (), dump);
-        this.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        this.sendOSC (trackAddress + "name", track.getName (), dump);
-        this.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        this.sendOSC (trackAddress + "volume", track.getVolume (), dump);
-        this.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        this.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        this.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        this.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        this.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        this.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        this.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        this.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        this.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        this.sendOSC (trackAddress + "position", track.getPosition (), dump);
+        final long typeReceivers = this.getReceivers (addresses.type, this.addressRegistry.update (addresses.type, (Object) type), dump);
+        if (typeReceivers != 0)
+            this.addMessage (addresses.type, type == null ? null : CHANNEL_TYPE_NAMES[type.ordinal ()], typeReceivers);
+        this.sendOSC (addresses.activated, track.isActivated (), dump);
+        this.sendOSC (addresses.selected, track.isSelected (), dump);
+        this.sendOSC (addresses.isGroup, track.isGroup (), dump);
+        this.sendOSC (addresses.name, track.getName (), dump);
+        this.sendOSC (addresses.volumeStr, track.getVolumeStr (), dump);
+        this.sendOSC (addresses.volume, track.getVolume (), dump);
+        this.sendOSC (addresses.panStr, track.getPanStr (), dump);
+        this.sendOSC (addresses.pan, track.getPan (), dump);
+        this.sendOSC (addresses.mute, track.isMute (), dump);
+        this.sendOSC (addresses.solo, track.isSolo (), dump);
+        this.sendOSC (addresses.recarm, track.isRecArm (), dump);
+        this.sendOSC (addresses.monitor, track.isMonitor (), dump);
+        this.sendOSC (addresses.autoMonitor, track.isAutoMonitor (), dump);
+        this.sendOSC (addresses.canHoldNotes, track.canHoldNotes (), dump);
+        this.sendOSC (addresses.canHoldAudioData, track.canHoldAudioData (), dump);
+        this.sendOSC (addresses.position, track.getPosition (), dump);
 
         final ISendBank sendBank = track.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (trackAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (this.getAddresses (addresses.sends, i, addresses.sendPrefix, ParameterAddresses::new), sendBank.getItem (i), dump);
 
         final ISlotBank slotBank = track.getSlotBank ();
         for (int i = 0; i < slotBank.getPageSize (); i++)
         {
             final ISlot slot = slotBank.getItem (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            this.sendOSC (clipAddress + "name", slot.getName (), dump);
-            this.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            this.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            this.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            this.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            this.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            this.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            this.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final ClipAddresses clipAddresses = this.getAddresses (addresses.clips, i, addresses.clipPrefix, ClipAddresses::new);
+            this.sendOSC (clipAddresses.name, slot.getName (), dump);
+            this.sendOSC (clipAddresses.isSelected, slot.isSelected (), dump);
+            this.sendOSC (clipAddresses.hasContent, slot.hasContent (), dump);
+            this.sendOSC (clipAddresses.isPlaying, slot.isPlaying (), dump);
+            this.sendOSC (clipAddresses.isRecording, slot.isRecording (), dump);
+            this.sendOSC (clipAddresses.isPlayingQueued, slot.isPlayingQueued (), dump);
+            this.sendOSC (clipAddresses.isRecordingQueued, slot.isRecordingQueued (), dump);
+            this.sendOSC (clipAddresses.isStopQueued, slot.isStopQueued (), dump);
 
             final double [] color = slot.getColor ();
-            this.sendOSCColor (clipAddress + "color", color[0], color[1], color[2], dump);
+            this.sendOSCColor (clipAddresses.color, color[0], color[1], color[2], dump);
         }
 
         final double [] color = track.getColor ();
-        this.sendOSCColor (trackAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (addresses.color, color[0], color[1], color[2], dump);
 
         final String crossfadeMode = track.getCrossfadeMode ();
-        this.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        this.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        this.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        this.sendOSC (addresses.crossfadeModeA, "A".equals (crossfadeMode), dump);
+        this.sendOSC (addresses.crossfadeModeB, "B".equals (crossfadeMode), dump);
+        this.sendOSC (addresses.crossfadeModeAB, "AB".equals (crossfadeMode), dump);
 
-        this.sendOSC (trackAddress + "vu", ((OSCConfiguration) this.configuration).isEnableVUMeters () ? track.getVu () : 0, dump);
+        this.sendOSC (addresses.vu, ((OSCConfiguration) this.configuration).isEnableVUMeters () ? track.getVu () : 0, dump);
     }
 
 
     /**
      * Flush all data of a scene.
      *
-     * @param sceneAddress The start address for the scene
+     * @param addresses The addresses for the scene
      * @param scene The scene
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushScene (final String sceneAddress, final IScene scene, final boolean dump)
+    private void flushScene (final SceneAddresses addresses, final IScene scene, final boolean dump)
     {
-        this.sendOSC (sceneAddress + "exists", scene.doesExist (), dump);
-        this.sendOSC (sceneAddress + "name", scene.getName (), dump);
-        this.sendOSC (sceneAddress + "selected", scene.isSelected (), dump);
+        this.sendOSC (addresses.exists, scene.doesExist (), dump);
+        this.sendOSC (addresses.name, scene.getName (), dump);
+        this.sendOSC (addresses.selected, scene.isSelected (), dump);
     }
 
 
     /**
      * Flush all data of a device.
      *
-     * @param deviceAddress The start address for the device
+     * @param addresses The addresses for the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final String deviceAddress, final ICursorDevice device, final boolean dump)
+    private void flushDevice (final DeviceAddresses addresses, final ICursorDevice device, final boolean dump)
     {
-        this.sendOSC (deviceAddress + "exists", device.doesExist (), dump);
-        this.sendOSC (deviceAddress + "name", device.getName (), dump);
-        this.sendOSC (deviceAddress + "bypass", !device.isEnabled (), dump);
-        this.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        this.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        this.sendOSC (addresses.exists, device.doesExist (), dump);
+        this.sendOSC (addresses.name, device.getName (), dump);
+        this.sendOSC (addresses.bypass, !device.isEnabled (), dump);
+        this.sendOSC (addresses.expand, device.isExpanded (), dump);
+        this.sendOSC (addresses.window, device.isWindowOpen (), dump);
         final int positionInBank = device.getIndex ();
         final IDeviceBank deviceBank = device.getDeviceBank ();
         for (int i = 0; i < deviceBank.getPageSize (); i++)
         {
-            final int oneplus = i + 1;
-            this.sendOSC (deviceAddress + "sibling/" + oneplus + "/name", deviceBank.getItem (i).getName (), dump);
-            this.sendOSC (deviceAddress + "sibling/" + oneplus + "/selected", i == positionInBank, dump);
+            final SelectableAddresses siblingAddresses = this.getAddresses (addresses.siblings, i, addresses.siblingPrefix, SelectableAddresses::createSibling);
+            this.sendOSC (siblingAddresses.value, deviceBank.getItem (i).getName (), dump);
+            this.sendOSC (siblingAddresses.selected, i == positionInBank, dump);
 
         }
         final IParameterBank parameterBank = device.getParameterBank ();
         for (int i = 0; i < parameterBank.getPageSize (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (deviceAddress + "param/" + oneplus + "/", parameterBank.getItem (i), dump);
-        }
+            this.flushParameterData (this.getAddresses (addresses.parameters, i, addresses.parameterPrefix, ParameterAddresses::new), parameterBank.getItem (i), dump);
 
         final IParameterPageBank parameterPageBank = device.getParameterPageBank ();
         final int selectedParameterPage = parameterPageBank.getSelectedItemIndex ();
         for (int i = 0; i < parameterPageBank.getPageSize (); i++)
         {
-            final int oneplus = i + 1;
-            this.sendOSC (deviceAddress + "page/" + oneplus + "/", parameterPageBank.getItem (i), dump);
-            this.sendOSC (deviceAddress + "page/" + oneplus + "/selected", selectedParameterPage == i, dump);
+            final SelectableAddresses pageAddresses = this.getAddresses (addresses.pages, i, addresses.pagePrefix, SelectableAddresses::createPage);
+            this.sendOSC (pageAddresses.value, parameterPageBank.getItem (i), dump);
+            this.sendOSC (pageAddresses.selected, selectedParameterPage == i, dump);
         }
-        this.sendOSC (deviceAddress + "page/selected/name", parameterPageBank.getSelectedItem (), dump);
+        this.sendOSC (addresses.selectedPageName, parameterPageBank.getSelectedItem (), dump);
     }
 
 
     /**
      * Flush all data of the browser.
      *
-     * @param browserAddress The start address for the browser
      * @param browser The browser
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushBrowser (final String browserAddress, final IBrowser browser, final boolean dump)
+    private void flushBrowser (final IBrowser browser, final boolean dump)
     {
-        this.sendOSC (browserAddress + "isActive", browser.isActive (), dump);
-        this.sendOSC (browserAddress + "tab", browser.getSelectedContentType (), dump);
+        this.sendOSC (this.browserIsActiveAddress, browser.isActive (), dump);
+        this.sendOSC (this.browserTabAddress, browser.getSelectedContentType (), dump);
 
         IBrowserColumn column;
         // Filter Columns
         for (int i = 0; i < browser.getFilterColumnCount (); i++)
         {
-            final String filterAddress = browserAddress + "filter/" + (i + 1) + "/";
+            final FilterAddresses addresses = this.getAddresses (this.filterAddresses, i, "/browser/filter/", FilterAddresses::new);
             column = browser.getFilterColumn (i);
-            this.sendOSC (filterAddress + "exists", column.doesExist (), dump);
-            this.sendOSC (filterAddress + "name", column.getName (), dump);
-            this.sendOSC (filterAddress + "wildcard", column.getWildcard (), dump);
+            this.sendOSC (addresses.exists, column.doesExist (), dump);
+            this.sendOSC (addresses.name, column.getName (), dump);
+            this.sendOSC (addresses.wildcard, column.getWildcard (), dump);
             final IBrowserColumnItem [] items = column.getItems ();
             for (int j = 0; j < items.length; j++)
-            {
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/exists", items[j].doesExist (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/name", items[j].getName (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/hits", items[j].getHitCount (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/isSelected", items[j].isSelected (), dump);
-            }
+                this.flushBrowserItem (this.getAddresses (addresses.items, j, addresses.itemPrefix, BrowserItemAddresses::new), items[j], dump);
         }
 
         // Presets
-        final String presetAddress = browserAddress + "result/";
         final IBrowserColumnItem [] items = browser.getResultColumnItems ();
         for (int i = 0; i < items.length; i++)
-        {
-            this.sendOSC (presetAddress + (i + 1) + "/exists", items[i].doesExist (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/name", items[i].getName (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/hits", items[i].getHitCount (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/isSelected", items[i].isSelected (), dump);
-        }
+            this.flushBrowserItem (this.getAddresses (this.resultAddresses, i, "/browser/result/", BrowserItemAddresses::new), items[i], dump);
+    }
+
+
+    /**
+     * Flush all data of a browser column item.
+     *
+     * @param addresses The addresses for the item
+     * @param item The item
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushBrowserItem (final BrowserItemAddresses addresses, final IBrowserColumnItem item, final boolean dump)
+    {
+        this.sendOSC (addresses.exists, item.doesExist (), dump);
+        this.sendOSC (addresses.name, item.getName (), dump);
+        this.sendOSC (addresses.hits, item.getHitCount (), dump);
+        this.sendOSC (addresses.isSelected, item.isSelected (), dump);
     }
 
 
     /**
      * Flush all data of a device layer.
      *
-     * @param deviceAddress The start address for the device
+     * @param addresses The addresses for the layer
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayers (final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayers (final ChannelAddresses addresses, final IChannel channel, final boolean dump)
     {
         if (channel == null)
             return;
 
-        this.sendOSC (deviceAddress + "exists", channel.doesExist (), dump);
-        this.sendOSC (deviceAddress + "activated", channel.isActivated (), dump);
-        this.sendOSC (deviceAddress + "selected", channel.isSelected (), dump);
-        this.sendOSC (deviceAddress + "name", channel.getName (), dump);
-        this.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        this.sendOSC (deviceAddress + "volume", channel.getVolume (), dump);
-        this.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        this.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        this.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        this.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
+        this.sendOSC (addresses.exists, channel.doesExist (), dump);
+        this.sendOSC (addresses.activated, channel.isActivated (), dump);
+        this.sendOSC (addresses.selected, channel.isSelected (), dump);
+        this.sendOSC (addresses.name, channel.getName (), dump);
+        this.sendOSC (addresses.volumeStr, channel.getVolumeStr (), dump);
+        this.sendOSC (addresses.volume, channel.getVolume (), dump);
+        this.sendOSC (addresses.panStr, channel.getPanStr (), dump);
+        this.sendOSC (addresses.pan, channel.getPan (), dump);
+        this.sendOSC (addresses.mute, channel.isMute (), dump);
+        this.sendOSC (addresses.solo, channel.isSolo (), dump);
 
         final ISendBank sendBank = channel.getSendBank ();
         for (int i = 0; i < sendBank.getPageSize (); i++)
-            this.flushParameterData (deviceAddress + "send/" + (i + 1) + "/", sendBank.getItem (i), dump);
+            this.flushParameterData (this.getAddresses (addresses.sends, i, addresses.sendPrefix, ParameterAddresses::new), sendBank.getItem (i), dump);
 
         if (((OSCConfiguration) this.configuration).isEnableVUMeters ())
-            this.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            this.sendOSC (addresses.vu, channel.getVu (), dump);
 
         final double [] color = channel.getColor ();
-        this.sendOSCColor (deviceAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (addresses.color, color[0], color[1], color[2], dump);
     }
 
 
     /**
      * Flush all data of a parameter.
      *
-     * @param fxAddress The start address for the effect
+     * @param addresses The addresses for the parameter
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushParameterData (final String fxAddress, final IParameter fxParam, final boolean dump)
+    private void flushParameterData (final ParameterAddresses addresses, final IParameter fxParam, final boolean dump)
     {
         final boolean isSend = fxParam instanceof ISend;
 
-        this.sendOSC (fxAddress + "name", fxParam.getName (), dump);
-        this.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        this.sendOSC (fxAddress + (isSend ? "volume" : "value"), fxParam.getValue (), dump);
-        this.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        this.sendOSC (addresses.name, fxParam.getName (), dump);
+        this.sendOSC (isSend ? addresses.volumeStr : addresses.valueStr, fxParam.getDisplayedValue (), dump);
+        this.sendOSC (isSend ? addresses.volume : addresses.value, fxParam.getValue (), dump);
+        this.sendOSC (addresses.modulatedValue, fxParam.getModulatedValue (), dump);
     }
 
 
     /**
      * Flush all notes.
      *
-     * @param noteAddress The start address for the note
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushNotes (final String noteAddress, final boolean dump)
+    private void flushNotes (final boolean dump)
     {
-        for (int i = 0; i < 127; i++)
+        for (int i = 0; i < this.noteColorAddresses.length; i++)
         {
             final double [] color = this.getNoteColor (i);
-            this.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            this.sendOSCColor (this.noteColorAddresses[i], color[0], color[1], color[2], dump);
         }
     }
 
@@ -458,4 +659,279 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         final boolean isRecording = this.model.hasRecordingState ();
         return isRecording ? OSCColors.COLOR_RED : OSCColors.COLOR_GREEN;
     }
+
+
+    /**
+     * Get the addresses of an item of a bank. The addresses are registered when the item is used
+     * for the first time.
+     *
+     * @param addressList The addresses of the items which are already registered
+     * @param index The index of the item
+     * @param prefix The start of the address of the items, the item number and a slash are appended
+     * @param factory Creates and registers the addresses of an item from its address
+     * @param <T> The type of the addresses
+     * @return The addresses
+     */
+    private <T> T getAddresses (final List<T> addressList, final int index, final String prefix, final BiFunction<OpenSoundControlAddressRegistry, String, T> factory)
+    {
+        for (int i = addressList.size (); i <= index; i++)
+            addressList.add (factory.apply (this.addressRegistry, prefix + (i + 1) + "/"));
+        return addressList.get (index);
+    }
+
+
+    private static int [] registerAll (final OpenSoundControlAddressRegistry registry, final String prefix, final String... names)
+    {
+        final int [] ids = new int [names.length];
+        for (int i = 0; i < names.length; i++)
+            ids[i] = registry.register (prefix + names[i]);
+        return ids;
+    }
+
+
+    /** The addresses of a marker. */
+    private static class MarkerAddresses
+    {
+        final int exists;
+        final int name;
+        final int color;
+
+
+        MarkerAddresses (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            this.exists = registry.register (address + "exists");
+            this.name = registry.register (address + "name");
+            this.color = registry.register (address + "color");
+        }
+    }
+
+
+    /** The addresses of a track or layer. */
+    private static class ChannelAddresses
+    {
+        final int                      exists;
+        final int                      type;
+        final int                      activated;
+        final int                      selected;
+        final int                      isGroup;
+        final int                      name;
+        final int                      volumeStr;
+        final int                      volume;
+        final int                      panStr;
+        final int                      pan;
+        final int                      mute;
+        final int                      solo;
+        final int                      recarm;
+        final int                      monitor;
+        final int                      autoMonitor;
+        final int                      canHoldNotes;
+        final int                      canHoldAudioData;
+        final int                      position;
+        final int                      color;
+        final int                      crossfadeModeA;
+        final int                      crossfadeModeB;
+        final int                      crossfadeModeAB;
+        final int                      vu;
+        final String                   sendPrefix;
+        final String                   clipPrefix;
+        final List<ParameterAddresses> sends = new ArrayList<> ();
+        final List<ClipAddresses>      clips = new ArrayList<> ();
+
+
+        ChannelAddresses (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            this.exists = registry.register (address + "exists");
+            this.type = registry.register (address + "type");
+            this.activated = registry.register (address + "activated");
+            this.selected = registry.register (address + "selected");
+            this.isGroup = registry.register (address + "isGroup");
+            this.name = registry.register (address + "name");
+            this.volumeStr = registry.register (address + "volumeStr");
+            this.volume = registry.register (address + "volume");
+            this.panStr = registry.register (address + "panStr");
+            this.pan = registry.register (address + "pan");
+            this.mute = registry.register (address + "mute");
+            this.solo = registry.register (address + "solo");
+            this.recarm = registry.register (address + "recarm");
+            this.monitor = registry.register (address + "monitor");
+            this.autoMonitor = registry.register (address + "autoMonitor");
+            this.canHoldNotes = registry.register (address + "canHoldNotes");
+            this.canHoldAudioData = registry.register (address + "canHoldAudioData");
+            this.position = registry.register (address + "position");
+            this.color = registry.register (address + "color");
+            this.crossfadeModeA = registry.register (address + "crossfadeMode/A");
+            this.crossfadeModeB = registry.register (address + "crossfadeMode/B");
+            this.crossfadeModeAB = registry.register (address + "crossfadeMode/AB");
+            this.vu = registry.register (address + "vu");
+            this.sendPrefix = address + "send/";
+            this.clipPrefix = address + "clip/";
+        }
+    }
+
+
+    /** The addresses of a clip. */
+    private static class ClipAddresses
+    {
+        final int name;
+        final int isSelected;
+        final int hasContent;
+        final int isPlaying;
+        final int isRecording;
+        final int isPlayingQueued;
+        final int isRecordingQueued;
+        final int isStopQueued;
+        final int color;
+
+
+        ClipAddresses (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            this.name = registry.register (address + "name");
+            this.isSelected = registry.register (address + "isSelected");
+            this.hasContent = registry.register (address + "hasContent");
+            this.isPlaying = registry.register (address + "isPlaying");
+            this.isRecording = registry.register (address + "isRecording");
+            this.isPlayingQueued = registry.register (address + "isPlayingQueued");
+            this.isRecordingQueued = registry.register (address + "isRecordingQueued");
+            this.isStopQueued = registry.register (address + "isStopQueued");
+            this.color = registry.register (address + "color");
+        }
+    }
+
+
+    /** The addresses of a send or device parameter. */
+    private static class ParameterAddresses
+    {
+        final int name;
+        final int valueStr;
+        final int value;
+        final int volumeStr;
+        final int volume;
+        final int modulatedValue;
+
+
+        ParameterAddresses (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            this.name = registry.register (address + "name");
+            this.valueStr = registry.register (address + "valueStr");
+            this.value = registry.register (address + "value");
+            this.volumeStr = registry.register (address + "volumeStr");
+            this.volume = registry.register (address + "volume");
+            this.modulatedValue = registry.register (address + "modulatedValue");
+        }
+    }
+
+
+    /** The addresses of a scene. */
+    private static class SceneAddresses
+    {
+        final int exists;
+        final int name;
+        final int selected;
+
+
+        SceneAddresses (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            this.exists = registry.register (address + "exists");
+            this.name = registry.register (address + "name");
+            this.selected = registry.register (address + "selected");
+        }
+    }
+
+
+    /** The addresses of a device. */
+    private static class DeviceAddresses
+    {
+        final int                       exists;
+        final int                       name;
+        final int                       bypass;
+        final int                       expand;
+        final int                       window;
+        final int                       selectedPageName;
+        final String                    siblingPrefix;
+        final String                    parameterPrefix;
+        final String                    pagePrefix;
+        final List<SelectableAddresses> siblings   = new ArrayList<> ();
+        final List<ParameterAddresses>  parameters = new ArrayList<> ();
+        final List<SelectableAddresses> pages      = new ArrayList<> ();
+
+
+        DeviceAddresses (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            this.exists = registry.register (address + "exists");
+            this.name = registry.register (address + "name");
+            this.bypass = registry.register (address + "bypass");
+            this.expand = registry.register (address + "expand");
+            this.window = registry.register (address + "window");
+            this.selectedPageName = registry.register (address + "page/selected/name");
+            this.siblingPrefix = address + "sibling/";
+            this.parameterPrefix = address + "param/";
+            this.pagePrefix = address + "page/";
+        }
+    }
+
+
+    /** The addresses of a value and its selection state, e.g. of a sibling device. */
+    private static class SelectableAddresses
+    {
+        final int value;
+        final int selected;
+
+
+        SelectableAddresses (final int value, final int selected)
+        {
+            this.value = value;
+            this.selected = selected;
+        }
+
+
+        static SelectableAddresses createSibling (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            return new SelectableAddresses (registry.register (address + "name"), registry.register (address + "selected"));
+        }
+
+
+        static SelectableAddresses createPage (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            return new SelectableAddresses (registry.register (address), registry.register (address + "selected"));
+        }
+    }
+
+
+    /** The addresses of a browser filter column. */
+    private static class FilterAddresses
+    {
+        final int                        exists;
+        final int                        name;
+        final int                        wildcard;
+        final String                     itemPrefix;
+        final List<BrowserItemAddresses> items = new ArrayList<> ();
+
+
+        FilterAddresses (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            this.exists = registry.register (address + "exists");
+            this.name = registry.register (address + "name");
+            this.wildcard = registry.register (address + "wildcard");
+            this.itemPrefix = address + "item/";
+        }
+    }
+
+
+    /** The addresses of a browser column item. */
+    private static class BrowserItemAddresses
+    {
+        final int exists;
+        final int name;
+        final int hits;
+        final int isSelected;
+
+
+        BrowserItemAddresses (final OpenSoundControlAddressRegistry registry, final String address)
+        {
+            this.exists = registry.register (address + "exists");
+            this.name = registry.register (address + "name");
+            this.hits = registry.register (address + "hits");
+            this.isSelected = registry.register (address + "isSelected");
+        }
+    }
 }
@@ -88,6 +88,21 @@ public class PushConfiguration extends AbstractConfiguration implements IGraphic
     public static final Integer       COLOR_BACKGROUND_DARKER         = Integer.valueOf (79);
     /** Background color lighter of an element. */
     public static final Integer       COLOR_BACKGROUND_LIGHTER        = Integer.valueOf (80);
+    /** All display color settings. */
+    public static final Integer []    COLOR_SETTINGS                  =
+    {
+        COLOR_BACKGROUND,
+        COLOR_BORDER,
+        COLOR_TEXT,
+        COLOR_FADER,
+        COLOR_VU,
+        COLOR_EDIT,
+        COLOR_RECORD,
+        COLOR_SOLO,
+        COLOR_MUTE,
+        COLOR_BACKGROUND_DARKER,
+        COLOR_BACKGROUND_LIGHTER
+    };
     /** Session view options. */
     public static final Integer       SESSION_VIEW                    = Integer.valueOf (81);
     /** Display scenes or clips. */
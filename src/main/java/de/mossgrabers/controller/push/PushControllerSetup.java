@@ -338,6 +338,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
                 surface.sendPadVelocityCurve ();
                 surface.sendPadThreshold ();
             });
+            for (final Integer colorSetting: PushConfiguration.COLOR_SETTINGS)
+                this.configuration.addSettingObserver (colorSetting, surface.getDisplay ()::invalidate);
         }
         else
         {
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.controller.display.GraphicDisplay;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.display.VirtualDisplay;
@@ -71,18 +72,22 @@ public class PushDisplay extends GraphicDisplay
         BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON
     };
 
+    /** Header, length, offset and end byte of a message. */
+    private static final int       MSG_OVERHEAD  = 9;
+
     private static final String [] SYSEX_MESSAGE =
     {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
+        "F0 47 7F 15 18 00 ",
+        "F0 47 7F 15 19 00 ",
+        "F0 47 7F 15 1A 00 ",
+        "F0 47 7F 15 1B 00 "
     };
 
     private int                    maxParameterValue;
     private boolean                isPush2;
 
     private final PushUsbDisplay   usbDisplay;
+    private final SysexBuilder []  messages      = new SysexBuilder [4];
 
 
     /**
@@ -105,6 +110,9 @@ public class PushDisplay extends GraphicDisplay
         final IGraphicsDimensions dimensions = new DefaultGraphicsDimensions (960, 160);
         this.virtualDisplay = this.isPush2 ? new VirtualDisplay (host, this.model, configuration, dimensions, "Push 2 Display") : null;
         this.usbDisplay = this.isPush2 ? new PushUsbDisplay (host) : null;
+
+        for (int i = 0; i < this.messages.length; i++)
+            this.messages[i] = new SysexBuilder (SYSEX_MESSAGE[i]);
     }
 
 
@@ -173,10 +181,16 @@ public class PushDisplay extends GraphicDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final int [] array = new int [text.length ()];
-        for (int i = 0; i < text.length (); i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (PushDisplay.SYSEX_MESSAGE[row] + toHexStr (array) + "F7");
+        this.writeChanges (row, text, 1, MSG_OVERHEAD);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeRange (final int row, final CharSequence text, final int start, final int end)
+    {
+        // The length includes the offset byte
+        this.messages[row].reset ().add (end - start + 1).add (start).addText (text, start, end).send (this.output);
     }
 
 
@@ -255,20 +269,6 @@ public class PushDisplay extends GraphicDisplay
     }
 
 
-    private static String toHexStr (final int [] data)
-    {
-        final StringBuilder sysex = new StringBuilder ();
-        for (final int d: data)
-        {
-            final String v = Integer.toHexString (d).toUpperCase ();
-            if (v.length () < 2)
-                sysex.append ('0');
-            sysex.append (v).append (' ');
-        }
-        return sysex.toString ();
-    }
-
-
     /** {@inheritDoc} */
     @Override
     protected void send (final IBitmap image)
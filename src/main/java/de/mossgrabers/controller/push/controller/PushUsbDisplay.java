@@ -7,27 +7,34 @@ package de.mossgrabers.controller.push.controller;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IMemoryBlock;
 import de.mossgrabers.framework.graphics.IBitmap;
+import de.mossgrabers.framework.graphics.IEncoder;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.IUsbEndpoint;
 import de.mossgrabers.framework.usb.UsbException;
 
 import java.nio.ByteBuffer;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 /**
- * Connects to the display of the Push 2 via USB.
+ * Connects to the display of the Push 2 via USB. The frames are encoded alternately into one of
+ * two memory blocks and sent by a separate thread. The transfers block for up to one second,
+ * therefore the thread is not shared with the flush scheduler. A frame which still waits for its
+ * transfer is replaced by a newer frame, therefore the latest frame always reaches the display.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class PushUsbDisplay
 {
     /** The size of the display content. */
-    private static final int     DATA_SZ        = 20 * 0x4000;
+    private static final int      DATA_SZ         = 20 * 0x4000;
 
-    private static final int     TIMEOUT        = 1000;
+    private static final int      TIMEOUT         = 1000;
 
-    private static final byte [] DISPLAY_HEADER =
+    private static final byte []  DISPLAY_HEADER  =
     {
         (byte) 0xef,
         (byte) 0xcd,
@@ -47,11 +54,35 @@ public class PushUsbDisplay
         0
     };
 
-    private IUsbDevice           usbDevice;
-    private IUsbEndpoint         usbEndpoint;
-    private final IMemoryBlock   headerBlock;
-    private final IMemoryBlock   imageBlock;
-    private AtomicBoolean        isSending      = new AtomicBoolean (false);
+    private static final int      NONE            = -1;
+
+    private final IHost           host;
+    private IUsbDevice            usbDevice;
+    private IUsbEndpoint          usbEndpoint;
+    private final IMemoryBlock    headerBlock;
+    private final IMemoryBlock [] imageBlocks     = new IMemoryBlock [2];
+    private final IntBuffer []    imageData       = new IntBuffer [2];
+
+    // Guards the hand over of the image blocks between the encoder and the sender thread
+    private final Object          handoverLock    = new Object ();
+    private int                   pendingBlock    = NONE;
+    private int                   sendingBlock    = NONE;
+    private boolean               isRunning       = true;
+    private boolean               isTransferFailed;
+
+    // The encoded frames, 2 pixels are packed into one integer
+    private final IEncoder        encoder         = this::encode;
+    private int []                frame           = new int [0];
+    private int []                previousFrame   = new int [0];
+    private int []                line            = new int [0];
+    private int                   encodeBlock;
+    private boolean               isForced;
+    private boolean               hasChanged;
+
+    private final AtomicLong      sentFrames      = new AtomicLong ();
+    private final AtomicLong      droppedFrames   = new AtomicLong ();
+    private final AtomicLong      coalescedFrames = new AtomicLong ();
+    private final AtomicLong      transferTime    = new AtomicLong ();
 
 
     /**
@@ -61,6 +92,8 @@ public class PushUsbDisplay
      */
     public PushUsbDisplay (final IHost host)
     {
+        this.host = host;
+
         try
         {
             this.usbDevice = host.getUsbDevice (0);
@@ -75,79 +108,246 @@ public class PushUsbDisplay
 
         this.headerBlock = host.createMemoryBlock (DISPLAY_HEADER.length);
         this.headerBlock.createByteBuffer ().put (DISPLAY_HEADER);
-        this.imageBlock = host.createMemoryBlock (DATA_SZ);
+
+        // The line padding is never written again, therefore clear it only once
+        final byte [] empty = new byte [DATA_SZ];
+        for (int i = 0; i < this.imageBlocks.length; i++)
+        {
+            this.imageBlocks[i] = host.createMemoryBlock (DATA_SZ);
+            final ByteBuffer buffer = this.imageBlocks[i].createByteBuffer ();
+            buffer.put (empty);
+            buffer.clear ();
+            this.imageData[i] = buffer.order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+        }
+
+        if (this.usbEndpoint == null)
+            return;
+        final Thread senderThread = new Thread (this::sendFrames, "Push 2 Display");
+        senderThread.setDaemon (true);
+        senderThread.start ();
     }
 
 
     /**
-     * Send the buffered image to the screen.
+     * Encode the image and hand it over to the sender thread. Nothing is sent if the image has not
+     * changed since the previous frame.
      *
      * @param image An image of size 960 x 160 pixel
      */
-    public void send (final IBitmap image)
+    public synchronized void send (final IBitmap image)
     {
-        synchronized (this.isSending)
+        final boolean isReclaimed;
+        synchronized (this.handoverLock)
         {
-            if (this.usbDevice == null || this.usbEndpoint == null || this.isSending.get ())
+            if (!this.isRunning || this.usbEndpoint == null)
+            {
+                this.droppedFrames.incrementAndGet ();
                 return;
+            }
+
+            // Use the block which is not in transfer. If it still waits for its transfer, take it
+            // back while encoding, it gets replaced by the new frame
+            this.encodeBlock = this.sendingBlock == 0 ? 1 : 0;
+            isReclaimed = this.pendingBlock == this.encodeBlock;
+            if (isReclaimed)
+                this.pendingBlock = NONE;
+
+            // The previous frame did not reach the display, send the image even if it is equal
+            this.isForced = this.isTransferFailed;
+            this.isTransferFailed = false;
+        }
+
+        image.encode (this.encoder);
+
+        synchronized (this.handoverLock)
+        {
+            if (this.hasChanged)
+            {
+                if (isReclaimed)
+                    this.coalescedFrames.incrementAndGet ();
+            }
+            else if (!isReclaimed)
+                return;
+
+            // If the image has not changed the block still contains the waiting frame, which was
+            // taken back, therefore it is handed over again
+            this.pendingBlock = this.encodeBlock;
+            this.handoverLock.notifyAll ();
+        }
+    }
+
+
+    /**
+     * Stops all transfers to the device. Nulls the device.
+     */
+    public void shutdown ()
+    {
+        synchronized (this.handoverLock)
+        {
+            this.isRunning = false;
+            this.usbDevice = null;
+            this.usbEndpoint = null;
+            this.handoverLock.notifyAll ();
+        }
+    }
+
+
+    /**
+     * Get the number of frames which were sent to the display.
+     *
+     * @return The number of frames
+     */
+    public long getSentFrames ()
+    {
+        return this.sentFrames.get ();
+    }
+
+
+    /**
+     * Get the number of frames which were not sent since the device was not available or the
+     * transfer failed.
+     *
+     * @return The number of frames
+     */
+    public long getDroppedFrames ()
+    {
+        return this.droppedFrames.get ();
+    }
 
-            this.isSending.set (true);
 
-            final ByteBuffer buffer = this.imageBlock.createByteBuffer ();
+    /**
+     * Get the number of frames which were replaced by a newer frame before they were sent.
+     *
+     * @return The number of frames
+     */
+    public long getCoalescedFrames ()
+    {
+        return this.coalescedFrames.get ();
+    }
 
-            image.encode ( (imageBuffer, width, height) -> {
-                buffer.clear ();
 
-                final int padding = (buffer.capacity () - height * width * 2) / height;
+    /**
+     * Get the accumulated time of all transfers.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getTransferTime ()
+    {
+        return this.transferTime.get ();
+    }
 
-                for (int y = 0; y < height; y++)
+
+    /**
+     * The loop of the sender thread. Waits for the next frame and sends it.
+     */
+    private void sendFrames ()
+    {
+        while (true)
+        {
+            final IUsbEndpoint endpoint;
+            final int block;
+            synchronized (this.handoverLock)
+            {
+                this.sendingBlock = NONE;
+                while (this.isRunning && this.pendingBlock == NONE)
                 {
-                    for (int x = 0; x < width; x++)
+                    try
                     {
-                        final int blue = imageBuffer.get ();
-                        final int green = imageBuffer.get ();
-                        final int red = imageBuffer.get ();
-                        imageBuffer.get (); // Drop unused Alpha
-
-                        final int pixel = sPixelFromRGB (red, green, blue);
-                        buffer.put ((byte) (pixel & 0x00FF));
-                        buffer.put ((byte) ((pixel & 0xFF00) >> 8));
+                        this.handoverLock.wait ();
+                    }
+                    catch (final InterruptedException ex)
+                    {
+                        Thread.currentThread ().interrupt ();
+                        return;
                     }
-
-                    for (int x = 0; x < padding; x++)
-                        buffer.put ((byte) 0x00);
                 }
+                if (!this.isRunning)
+                    return;
+                endpoint = this.usbEndpoint;
+                block = this.pendingBlock;
+                this.pendingBlock = NONE;
+                this.sendingBlock = block;
+            }
 
-                imageBuffer.rewind ();
-            });
-
-            this.usbEndpoint.send (this.headerBlock, TIMEOUT);
-            this.usbEndpoint.send (this.imageBlock, TIMEOUT);
-            this.isSending.set (false);
+            final long start = System.nanoTime ();
+            try
+            {
+                endpoint.send (this.headerBlock, TIMEOUT);
+                endpoint.send (this.imageBlocks[block], TIMEOUT);
+                this.sentFrames.incrementAndGet ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.droppedFrames.incrementAndGet ();
+                this.host.error ("Could not send frame to the display.", ex);
+                synchronized (this.handoverLock)
+                {
+                    this.isTransferFailed = true;
+                }
+            }
+            this.transferTime.addAndGet (System.nanoTime () - start);
         }
     }
 
 
     /**
-     * Stops all transfers to the device. Nulls the device.
+     * Converts the image from BGRA to the RGB565 format of the display and copies the lines into
+     * the image block to encode, if the image differs from the previous one or the previous
+     * transfer failed.
+     *
+     * @param imageBuffer The image data, 4 bytes per pixel in the order blue, green, red, alpha
+     * @param width The width of the image
+     * @param height The height of the image
      */
-    public void shutdown ()
+    private void encode (final ByteBuffer imageBuffer, final int width, final int height)
     {
-        synchronized (this.isSending)
+        final int lineLength = width / 2;
+        final int frameLength = lineLength * height;
+        final boolean isNewSize = this.frame.length != frameLength;
+        if (isNewSize)
         {
-            this.usbDevice = null;
-            this.usbEndpoint = null;
+            this.frame = new int [frameLength];
+            this.previousFrame = new int [frameLength];
+            this.line = new int [width];
+        }
+
+        final int [] pixels = this.line;
+        final int [] data = this.frame;
+        final IntBuffer source = imageBuffer.duplicate ().order (ByteOrder.LITTLE_ENDIAN).asIntBuffer ();
+        int pos = 0;
+        for (int y = 0; y < height; y++)
+        {
+            source.get (pixels, 0, width);
+            for (int x = 0; x < width; x += 2)
+                data[pos++] = rgb565FromBGRA (pixels[x]) | rgb565FromBGRA (pixels[x + 1]) << 16;
+        }
+
+        this.hasChanged = isNewSize || this.isForced || !Arrays.equals (data, this.previousFrame);
+        if (!this.hasChanged)
+            return;
+
+        final IntBuffer target = this.imageData[this.encodeBlock];
+        final int stride = target.capacity () / height;
+        for (int y = 0; y < height; y++)
+        {
+            target.position (y * stride);
+            target.put (data, y * lineLength, lineLength);
         }
+
+        this.frame = this.previousFrame;
+        this.previousFrame = data;
     }
 
 
-    private static int sPixelFromRGB (final int red, final int green, final int blue)
+    /**
+     * Converts a pixel read as a little endian integer (alpha, red, green, blue from highest to
+     * lowest byte) to 16 bit with 5 bits blue, 6 bits green and 5 bits red.
+     *
+     * @param pixel The pixel
+     * @return The 16 bit pixel
+     */
+    private static int rgb565FromBGRA (final int pixel)
     {
-        int pixel = (blue & 0xF8) >> 3;
-        pixel <<= 6;
-        pixel += (green & 0xFC) >> 2;
-        pixel <<= 5;
-        pixel += (red & 0xF8) >> 3;
-        return pixel;
+        return (pixel & 0xF8) << 8 | (pixel & 0xFC00) >> 5 | (pixel & 0xF80000) >> 19;
     }
 }
@@ -64,6 +64,11 @@ public class DeviceParamsMode extends BaseMode
 
         this.isTemporary = false;
         this.showDevices = true;
+
+        // The modulated values are only needed while the parameters are displayed
+        final IParameterBank parameterBank = model.getCursorDevice ().getParameterBank ();
+        if (parameterBank != null)
+            this.setObserverDependencies (parameterBank.getModulatedValues ());
     }
 
 
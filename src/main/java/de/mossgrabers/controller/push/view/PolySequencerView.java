@@ -262,21 +262,22 @@ public class PolySequencerView extends AbstractSequencerView<PushControlSurface,
      *
      * @param isSet True if the note is set
      * @param hilite True if note should be highlighted
-     * @return The color identifier
+     * @return The color index
      */
-    protected String getStepColor (final int isSet, final boolean hilite)
+    protected int getStepColor (final int isSet, final boolean hilite)
     {
+        final ColorManager colorManager = this.model.getColorManager ();
         switch (isSet)
         {
             // Note continues
             case INoteClip.NOTE_CONTINUE:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT_CONT;
+                return colorManager.getColor (hilite ? HANDLE_HILITE_CONTENT : HANDLE_CONTENT_CONT);
             // Note starts
             case INoteClip.NOTE_START:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT;
+                return colorManager.getColor (hilite ? HANDLE_HILITE_CONTENT : HANDLE_CONTENT);
             // Empty
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return colorManager.getColor (hilite ? HANDLE_HILITE_NO_CONTENT : HANDLE_NO_CONTENT);
         }
     }
 
@@ -288,16 +289,17 @@ public class PolySequencerView extends AbstractSequencerView<PushControlSurface,
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The color index
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected int getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
+        final ColorManager colorManager = this.model.getColorManager ();
         if (isKeyboardEnabled)
         {
             if (this.keyManager.isKeyPressed (note))
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+                return colorManager.getColor (isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY);
             return this.getColor (note, this.useTrackColor ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return colorManager.getColor (AbstractPlayView.COLOR_OFF);
     }
 }
\ No newline at end of file
@@ -46,6 +46,8 @@ public class DevicePresetsMode extends AbstractMode<SLControlSurface, SLConfigur
         this.isTemporary = false;
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = 0;
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
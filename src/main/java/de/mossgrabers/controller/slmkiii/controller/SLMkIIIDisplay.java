@@ -9,7 +9,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -20,9 +20,9 @@ import de.mossgrabers.framework.utils.StringUtils;
 public class SLMkIIIDisplay extends AbstractDisplay
 {
     private static final String    MKIII_SYSEX_HEADER               = "F0 00 20 29 02 0A 01 ";
-    private static final String    MKIII_SYSEX_LAYOUT_COMMAND       = MKIII_SYSEX_HEADER + "01 %02d F7";
-    private static final String    MKIII_SYSEX_PROPERTY_COMMAND     = MKIII_SYSEX_HEADER + "02 %02d %02d %02d %s F7";
-    private static final String    MKIII_SYSEX_LED_COMMAND          = MKIII_SYSEX_HEADER + "03 %02X 01 %02X %02X %02X F7";
+    private static final int       MKIII_SYSEX_LAYOUT_COMMAND       = 1;
+    private static final int       MKIII_SYSEX_PROPERTY_COMMAND     = 2;
+    private static final int       MKIII_SYSEX_LED_COMMAND          = 3;
     @SuppressWarnings("unused")
     private static final String    MKIII_SYSEX_NOTIFICATION_COMMAND = MKIII_SYSEX_HEADER + "04 %s F7";
 
@@ -33,11 +33,9 @@ public class SLMkIIIDisplay extends AbstractDisplay
     /** The layout with larger selection boxes. */
     public static final Integer    SCREEN_LAYOUT_BOX                = Integer.valueOf (2);
 
-    private static final Integer   PROPERTY_TEXT                    = Integer.valueOf (1);
-    private static final Integer   PROPERTY_COLOR                   = Integer.valueOf (2);
-    private static final Integer   PROPERTY_VALUE                   = Integer.valueOf (3);
-
-    private static String          LED_CACHE_STR                    = "%02X%02X%02X";
+    private static final int       PROPERTY_TEXT                    = 1;
+    private static final int       PROPERTY_COLOR                   = 2;
+    private static final int       PROPERTY_VALUE                   = 3;
 
     private static final String [] SPACES                           =
     {
@@ -57,9 +55,10 @@ public class SLMkIIIDisplay extends AbstractDisplay
         "             "
     };
 
-    private final String []        ledCache                         = new String [8];
+    private final int []           ledCache                         = new int [8];
     private final int [] []        displayColorCache                = new int [9] [4];
     private final int [] []        displayValueCache                = new int [9] [4];
+    private final SysexBuilder     message                          = new SysexBuilder (MKIII_SYSEX_HEADER);
 
 
     /**
@@ -73,7 +72,7 @@ public class SLMkIIIDisplay extends AbstractDisplay
         super (host, output, 4 /* No of rows */, 9 /* No of cells */, 9 * 9 /* No of characters */);
 
         for (int i = 0; i < 8; i++)
-            this.ledCache[i] = "";
+            this.ledCache[i] = -1;
         this.clearDisplayCache ();
     }
 
@@ -140,9 +139,15 @@ public class SLMkIIIDisplay extends AbstractDisplay
     {
         for (int i = 0; i < this.noOfCells; i++)
         {
-            final int pos = 9 * i;
-            final String cellText = text.substring (pos, pos + 9).trim ();
-            this.setPropertyText (i, row, cellText);
+            // Trim the cell text without creating a sub-string
+            int start = 9 * i;
+            int end = start + 9;
+            while (start < end && text.charAt (start) <= ' ')
+                start++;
+            while (end > start && text.charAt (end - 1) <= ' ')
+                end--;
+
+            this.startProperty (PROPERTY_TEXT, i, row).addASCII (text, start, end).add (0).send (this.output);
         }
     }
 
@@ -154,7 +159,7 @@ public class SLMkIIIDisplay extends AbstractDisplay
      */
     public void setDisplayLayout (final Integer layout)
     {
-        this.output.sendSysex (String.format (MKIII_SYSEX_LAYOUT_COMMAND, layout));
+        this.message.reset ().add (MKIII_SYSEX_LAYOUT_COMMAND).add (layout.intValue ()).send (this.output);
         this.clearDisplayCache ();
         this.forceFlush ();
     }
@@ -182,17 +187,16 @@ public class SLMkIIIDisplay extends AbstractDisplay
      */
     public void setFaderLEDColor (final int led, final double hue, final double [] color)
     {
-        final Integer redHue = Integer.valueOf ((int) Math.round (hue * color[0] * 127.0));
-        final Integer greenHue = Integer.valueOf ((int) Math.round (hue * color[1] * 127.0));
-        final Integer blueHue = Integer.valueOf ((int) Math.round (hue * color[2] * 127.0));
+        final int redHue = (int) Math.round (hue * color[0] * 127.0);
+        final int greenHue = (int) Math.round (hue * color[1] * 127.0);
+        final int blueHue = (int) Math.round (hue * color[2] * 127.0);
 
-        final String cacheStr = String.format (LED_CACHE_STR, redHue, greenHue, blueHue);
-        if (this.ledCache[led - SLMkIIIControlSurface.MKIII_FADER_LED_1].compareTo (cacheStr) == 0)
+        final int cacheValue = redHue << 16 | greenHue << 8 | blueHue;
+        if (this.ledCache[led - SLMkIIIControlSurface.MKIII_FADER_LED_1] == cacheValue)
             return;
-        this.ledCache[led - SLMkIIIControlSurface.MKIII_FADER_LED_1] = cacheStr;
+        this.ledCache[led - SLMkIIIControlSurface.MKIII_FADER_LED_1] = cacheValue;
 
-        final String msg = String.format (MKIII_SYSEX_LED_COMMAND, Integer.valueOf (led), redHue, greenHue, blueHue);
-        this.output.sendSysex (msg);
+        this.message.reset ().add (MKIII_SYSEX_LED_COMMAND).add (led).add (1).add (redHue).add (greenHue).add (blueHue).send (this.output);
     }
 
 
@@ -209,21 +213,7 @@ public class SLMkIIIDisplay extends AbstractDisplay
             return;
         this.displayColorCache[hPosition][vPosition] = color;
 
-        this.setProperty (PROPERTY_COLOR, hPosition, vPosition, StringUtils.toHexStr (color));
-    }
-
-
-    /**
-     * Set a text property.
-     *
-     * @param hPosition The horizontal position (0-8)
-     * @param vPosition The vertical position (0-5), 0 (Parametername),1 (Parametertextwert), 5
-     *            (Trackname)
-     * @param text The text
-     */
-    private void setPropertyText (final int hPosition, final int vPosition, final String text)
-    {
-        this.setProperty (PROPERTY_TEXT, hPosition, vPosition, prepareString (text));
+        this.startProperty (PROPERTY_COLOR, hPosition, vPosition).add (color).send (this.output);
     }
 
 
@@ -240,22 +230,23 @@ public class SLMkIIIDisplay extends AbstractDisplay
             return;
         this.displayValueCache[hPosition][vPosition] = value;
 
-        this.setProperty (PROPERTY_VALUE, hPosition, vPosition, StringUtils.toHexStr (value));
+        this.startProperty (PROPERTY_VALUE, hPosition, vPosition).add (value).send (this.output);
     }
 
 
     /**
-     * Set a display property.
+     * Start the message to set a display property. The values of the property need to be added
+     * before sending it.
      *
      * @param property The property: PROPERTY_TEXT, PROPERTY_COLOR or PROPERTY_VALUE
      * @param hPosition The horizontal position (0-8)
-     * @param vPosition The vertical position (0-5)
-     * @param values The formatted values to insert
+     * @param vPosition The vertical position (0-5), for text properties: 0 (Parametername), 1
+     *            (Parametertextwert), 5 (Trackname)
+     * @return The message
      */
-    private void setProperty (final Integer property, final int hPosition, final int vPosition, final String values)
+    private SysexBuilder startProperty (final int property, final int hPosition, final int vPosition)
     {
-        final String msg = String.format (MKIII_SYSEX_PROPERTY_COMMAND, Integer.valueOf (hPosition), property, Integer.valueOf (vPosition), values);
-        this.output.sendSysex (msg);
+        return this.message.reset ().add (MKIII_SYSEX_PROPERTY_COMMAND).add (hPosition).add (property).add (vPosition);
     }
 
 
@@ -302,19 +293,6 @@ public class SLMkIIIDisplay extends AbstractDisplay
     }
 
 
-    /**
-     * Prepare a text to transmit it to the device.
-     *
-     * @param text The text to prepare
-     * @return The text formatted as SysEx containing only ASCII characters
-     */
-    private static String prepareString (final String text)
-    {
-        final String ascii = StringUtils.fixASCII (text);
-        return StringUtils.toHexStr (ascii.getBytes ()) + "00";
-    }
-
-
     /** {@inheritDoc} */
     @Override
     public void shutdown ()
@@ -32,6 +32,8 @@ public class BrowserMode extends BaseMode
         super ("Browser", surface, model);
 
         this.isTemporary = true;
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
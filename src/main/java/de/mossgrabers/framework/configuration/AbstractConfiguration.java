@@ -88,6 +88,8 @@ public abstract class AbstractConfiguration implements Configuration
     public static final Integer    KNOB_SPEED_NORMAL                 = Integer.valueOf (29);
     /** The speed of a knob in slow mode. */
     public static final Integer    KNOB_SPEED_SLOW                   = Integer.valueOf (30);
+    /** The maximum number of midi messages sent per second. */
+    public static final Integer    MIDI_MESSAGES_PER_SECOND          = Integer.valueOf (31);
 
     // Implementation IDs start at 50
 
@@ -292,6 +294,7 @@ public abstract class AbstractConfiguration implements Configuration
     };
     private int                                      knobSpeedNormal             = 10;
     private int                                      knobSpeedSlow               = 1;
+    private int                                      midiMessagesPerSecond       = 1000;
 
 
     /**
@@ -654,6 +657,17 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Get the maximum number of short midi messages which are sent to the controller per second.
+     *
+     * @return The number of messages
+     */
+    public int getMidiMessagesPerSecond ()
+    {
+        return this.midiMessagesPerSecond;
+    }
+
+
     /**
      * Activate the scale setting.
      *
@@ -747,6 +761,22 @@ public abstract class AbstractConfiguration implements Configuration
     }
 
 
+    /**
+     * Activate the setting for the maximum number of midi messages per second.
+     *
+     * @param settingsUI The settings
+     * @param defaultValue The default number of messages, which the controller can handle
+     */
+    protected void activateMidiMessagesPerSecondSetting (final ISettingsUI settingsUI, final int defaultValue)
+    {
+        final IIntegerSetting midiMessagesPerSecondSetting = settingsUI.getRangeSetting ("Max. midi messages per second", CATEGORY_HARDWARE_SETUP, 100, 10000, 100, "", defaultValue);
+        midiMessagesPerSecondSetting.addValueObserver (value -> {
+            this.midiMessagesPerSecond = value.intValue ();
+            this.notifyObservers (MIDI_MESSAGES_PER_SECOND);
+        });
+    }
+
+
     /**
      * Activate the behaviour on stop setting.
      *
@@ -13,15 +13,14 @@ import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
+import de.mossgrabers.framework.utils.FlushScheduler;
+import de.mossgrabers.framework.utils.FlushScheduler.Slot;
 import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -36,6 +35,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     protected static final int                          BUTTON_STATE_INTERVAL = 400;
     protected static final int                          NUM_NOTES             = 128;
     protected static final int                          NUM_BUTTONS           = 256;
+    protected static final int                          NUM_MIDI_CHANNELS     = 16;
 
     protected final IHost                               host;
     protected final C                                   configuration;
@@ -65,16 +65,18 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
 
     protected Display                                   display;
     protected final PadGrid                             pads;
-    protected final Map<Integer, Map<Integer, Integer>> triggerCommands       = new HashMap<> ();
-    protected final Map<Integer, Map<Integer, Integer>> continuousCommands    = new HashMap<> ();
-    protected final Map<Integer, Integer>               noteCommands          = new HashMap<> ();
+    // The command IDs indexed by [midi channel][midi CC], some surfaces use CCs above 127 for
+    // virtual buttons
+    protected final Integer [] []                       triggerCommands       = new Integer [NUM_MIDI_CHANNELS] [NUM_BUTTONS];
+    protected final Integer [] []                       continuousCommands    = new Integer [NUM_MIDI_CHANNELS] [NUM_BUTTONS];
+    protected final Integer []                          noteCommands          = new Integer [NUM_NOTES];
 
     private final boolean []                            gridNoteConsumed;
     private final ButtonEvent []                        gridNoteStates;
     private final int []                                gridNoteVelocities;
     private int []                                      keyTranslationTable;
 
-    private final LatestTaskExecutor                    flushExecutor         = new LatestTaskExecutor ();
+    private final Slot                                  flushSlot;
 
 
     /**
@@ -94,6 +96,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.configuration = configuration;
         this.colorManager = colorManager;
         this.pads = padGrid;
+        this.flushSlot = host.getFlushScheduler ().createSlot (host, this.getClass ().getSimpleName (), FlushScheduler.PRIORITY_LIGHTS);
 
         this.output = output;
         this.input = input;
@@ -227,7 +230,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignTriggerCommand (final int midiCC, final int midiChannel, final Integer commandID)
     {
-        this.triggerCommands.computeIfAbsent (Integer.valueOf (midiCC), k -> new HashMap<> ()).put (Integer.valueOf (midiChannel), commandID);
+        this.triggerCommands[midiChannel][midiCC] = commandID;
     }
 
 
@@ -243,8 +246,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getTriggerCommand (final int midiCC, final int midiChannel)
     {
-        final Map<Integer, Integer> channelMap = this.triggerCommands.get (Integer.valueOf (midiCC));
-        return channelMap == null ? null : channelMap.get (Integer.valueOf (midiChannel));
+        return lookupCommand (this.triggerCommands, midiChannel, midiCC);
     }
 
 
@@ -260,13 +262,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignContinuousCommand (final int midiCC, final int midiChannel, final Integer commandID)
     {
-        Map<Integer, Integer> channelMap = this.continuousCommands.get (Integer.valueOf (midiCC));
-        if (channelMap == null)
-        {
-            channelMap = new HashMap<> ();
-            this.continuousCommands.put (Integer.valueOf (midiCC), channelMap);
-        }
-        channelMap.put (Integer.valueOf (midiChannel), commandID);
+        this.continuousCommands[midiChannel][midiCC] = commandID;
     }
 
 
@@ -282,8 +278,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getContinuousCommand (final int midiCC, final int midiChannel)
     {
-        final Map<Integer, Integer> channelMap = this.continuousCommands.get (Integer.valueOf (midiCC));
-        return channelMap == null ? null : channelMap.get (Integer.valueOf (midiChannel));
+        return lookupCommand (this.continuousCommands, midiChannel, midiCC);
     }
 
 
@@ -291,7 +286,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignNoteCommand (final int midiNote, final Integer commandID)
     {
-        this.noteCommands.put (Integer.valueOf (midiNote), commandID);
+        this.noteCommands[midiNote] = commandID;
     }
 
 
@@ -299,7 +294,24 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getNoteCommand (final int midiNote)
     {
-        return this.noteCommands.get (Integer.valueOf (midiNote));
+        return midiNote < 0 || midiNote >= NUM_NOTES ? null : this.noteCommands[midiNote];
+    }
+
+
+    /**
+     * Get the command assigned to a midi channel and CC. The values come from the controller,
+     * therefore they are range checked.
+     *
+     * @param commands The command table indexed by [midi channel][midi CC]
+     * @param midiChannel The midi channel
+     * @param midiCC The midi CC
+     * @return The command ID or null if none is assigned or the channel or CC are out of range
+     */
+    private static Integer lookupCommand (final Integer [] [] commands, final int midiChannel, final int midiCC)
+    {
+        if (midiChannel < 0 || midiChannel >= NUM_MIDI_CHANNELS || midiCC < 0 || midiCC >= NUM_BUTTONS)
+            return null;
+        return commands[midiChannel][midiCC];
     }
 
 
@@ -623,7 +635,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void flush ()
     {
-        this.flushExecutor.execute ( () -> {
+        this.flushSlot.execute ( () -> {
             try
             {
                 this.scheduledFlush ();
@@ -641,7 +653,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void shutdown ()
     {
-        this.flushExecutor.shutdown ();
+        this.flushSlot.close ();
 
         for (final int button: this.getButtons ())
             this.setButton (button, 0);
@@ -1013,4 +1025,4 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.buttonStates[buttonID] = ButtonEvent.LONG;
         this.handleCCEvent (0, buttonID, 127);
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -10,6 +10,8 @@ import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.LightAnimator;
+import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.mode.Modes;
@@ -105,6 +107,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.createScales ();
         this.createModel ();
         this.createSurface ();
+        this.connectAnimator ();
         this.createModes ();
         this.createObservers ();
         this.createViews ();
@@ -154,6 +157,25 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Connect the pad grids of all surfaces to the light animator of the model.
+     */
+    protected void connectAnimator ()
+    {
+        if (this.model == null)
+            return;
+        final LightAnimator animator = this.model.getLightAnimator ();
+        if (animator == null)
+            return;
+        for (final S surface: this.surfaces)
+        {
+            final PadGrid padGrid = surface.getPadGrid ();
+            if (padGrid != null)
+                padGrid.setAnimator (animator);
+        }
+    }
+
+
     /**
      * Create the model.
      */
@@ -180,4 +180,29 @@ public class ColorEx
     {
         return this.blueValue;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Double.hashCode (this.redValue);
+        result = prime * result + Double.hashCode (this.greenValue);
+        return prime * result + Double.hashCode (this.blueValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final ColorEx other = (ColorEx) obj;
+        return this.redValue == other.redValue && this.greenValue == other.greenValue && this.blueValue == other.blueValue;
+    }
 }
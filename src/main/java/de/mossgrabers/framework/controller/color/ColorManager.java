@@ -4,25 +4,57 @@
 
 package de.mossgrabers.framework.controller.color;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
 /**
- * Manages color indices by IDs.
+ * Manages color indices by IDs. Each ID is interned as a compact integer handle, which is the same
+ * for all color managers. Looking up the color index of a handle is an array access, therefore use
+ * handles (stored in constants) in code which is called for each pad or button on each flush.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String         BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String                BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String         BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String                BUTTON_STATE_ON  = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String         BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String                BUTTON_STATE_HI  = "BUTTON_STATE_HI";
 
-    private final Map<String, Integer> colors           = new HashMap<> ();
+    private static final int                  NOT_REGISTERED   = Integer.MIN_VALUE;
+
+    private static final Map<String, Integer> HANDLES          = new HashMap<> ();
+    private static final List<String>         KEYS             = new ArrayList<> ();
+
+    private int []                            colors           = new int [0];
+
+
+    /**
+     * Get the handle of a color ID. The ID is interned if it was not used before, it does not need
+     * to be registered yet.
+     *
+     * @param key The color ID
+     * @return The handle
+     */
+    public static int getHandle (final String key)
+    {
+        synchronized (HANDLES)
+        {
+            final Integer handle = HANDLES.get (key);
+            if (handle != null)
+                return handle.intValue ();
+            KEYS.add (key);
+            final int newHandle = KEYS.size () - 1;
+            HANDLES.put (key, Integer.valueOf (newHandle));
+            return newHandle;
+        }
+    }
 
 
     /**
@@ -33,9 +65,16 @@ public class ColorManager
      */
     public void registerColor (final String key, final int colorIndex)
     {
-        if (this.colors.containsKey (key))
+        final int handle = getHandle (key);
+        if (handle >= this.colors.length)
+        {
+            final int oldLength = this.colors.length;
+            this.colors = Arrays.copyOf (this.colors, Math.max (2 * oldLength, handle + 1));
+            Arrays.fill (this.colors, oldLength, this.colors.length, NOT_REGISTERED);
+        }
+        if (this.colors[handle] != NOT_REGISTERED)
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
-        this.colors.put (key, Integer.valueOf (colorIndex));
+        this.colors[handle] = colorIndex;
     }
 
 
@@ -47,9 +86,36 @@ public class ColorManager
      */
     public int getColor (final String key)
     {
-        final Integer colorIndex = this.colors.get (key);
-        if (colorIndex == null)
+        final Integer handle;
+        synchronized (HANDLES)
+        {
+            handle = HANDLES.get (key);
+        }
+        if (handle == null)
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
-        return colorIndex.intValue ();
+        return this.getColor (handle.intValue ());
+    }
+
+
+    /**
+     * Get the color index which is registered with the key of the given handle.
+     *
+     * @param handle The handle of the key, see getHandle
+     * @return The color index
+     */
+    public int getColor (final int handle)
+    {
+        if (handle < 0 || handle >= this.colors.length || this.colors[handle] == NOT_REGISTERED)
+            throw new ColorIndexException ("Color for key " + getKey (handle) + " is not registered!");
+        return this.colors[handle];
+    }
+
+
+    private static String getKey (final int handle)
+    {
+        synchronized (HANDLES)
+        {
+            return handle >= 0 && handle < KEYS.size () ? KEYS.get (handle) : "#" + handle;
+        }
     }
 }
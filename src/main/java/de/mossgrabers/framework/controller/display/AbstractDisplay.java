@@ -7,6 +7,8 @@ package de.mossgrabers.framework.controller.display;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 
 /**
  * Abstract implementation of a display.
@@ -33,6 +35,10 @@ public abstract class AbstractDisplay implements Display
     protected String []     message;
     protected String []     cells;
 
+    private char [] []      sentCharacters;
+    // One bit per row, set by a forced flush and consumed by the thread which writes the row
+    private AtomicLong      forcedRows = new AtomicLong ();
+
 
     /**
      * Constructor.
@@ -63,6 +69,7 @@ public abstract class AbstractDisplay implements Display
 
         this.message = new String [this.noOfLines];
         this.cells = new String [this.noOfLines * this.noOfCells];
+        this.sentCharacters = new char [this.noOfLines] [];
     }
 
 
@@ -121,9 +128,10 @@ public abstract class AbstractDisplay implements Display
     public AbstractDisplay done (final int row)
     {
         final int index = row * this.noOfCells;
-        this.message[row] = "";
+        final StringBuilder sb = new StringBuilder (this.noOfCharacters);
         for (int i = 0; i < this.noOfCells; i++)
-            this.message[row] += this.cells[index + i];
+            sb.append (this.cells[index + i]);
+        this.message[row] = sb.toString ();
         return this;
     }
 
@@ -194,5 +202,97 @@ public abstract class AbstractDisplay implements Display
     {
         for (int row = 0; row < this.noOfLines; row++)
             this.currentMessage[row] = "";
+        this.forcedRows.set (-1L);
+    }
+
+
+    /**
+     * Compare the text of a row with the characters which were sent before and call
+     * {@link #writeRange(int, CharSequence, int, int)} for each range of changed characters. The ranges
+     * are extended to multiples of the given granularity, e.g. if the display can only be written
+     * in blocks of 10 characters. Ranges which are separated by fewer unchanged characters than the
+     * given gap are merged, since each write has the overhead of a message header. The whole row is
+     * written if nothing was sent since the last forced flush. Must only be called from one thread
+     * for a row.
+     *
+     * @param row The row
+     * @param text The text of the row
+     * @param granularity The number of characters, which can only be written together
+     * @param minGap The minimum number of unchanged characters between two ranges
+     */
+    protected void writeChanges (final int row, final CharSequence text, final int granularity, final int minGap)
+    {
+        final int length = text.length ();
+        char [] sent = this.sentCharacters[row];
+        if (this.isForced (row) || sent == null || sent.length != length)
+        {
+            if (sent == null || sent.length != length)
+            {
+                sent = new char [length];
+                this.sentCharacters[row] = sent;
+            }
+            for (int i = 0; i < length; i++)
+                sent[i] = text.charAt (i);
+            this.writeRange (row, text, 0, length);
+            return;
+        }
+
+        int start = -1;
+        int end = -1;
+        for (int blockStart = 0; blockStart < length; blockStart += granularity)
+        {
+            final int blockEnd = Math.min (blockStart + granularity, length);
+            boolean changed = false;
+            for (int i = blockStart; i < blockEnd; i++)
+            {
+                final char c = text.charAt (i);
+                if (sent[i] != c)
+                {
+                    sent[i] = c;
+                    changed = true;
+                }
+            }
+            if (!changed)
+                continue;
+
+            if (start >= 0 && blockStart - end >= minGap)
+            {
+                this.writeRange (row, text, start, end);
+                start = -1;
+            }
+            if (start < 0)
+                start = blockStart;
+            end = blockEnd;
+        }
+        if (start >= 0)
+            this.writeRange (row, text, start, end);
+    }
+
+
+    /**
+     * Test if a forced flush was requested for a row and clear the request.
+     *
+     * @param row The row
+     * @return True if the row needs to be written completely
+     */
+    private boolean isForced (final int row)
+    {
+        final long bit = 1L << row;
+        return (this.forcedRows.getAndAccumulate (bit, (rows, mask) -> rows & ~mask) & bit) != 0;
+    }
+
+
+    /**
+     * Write a range of characters of a row to the display. Needs to be implemented by displays
+     * which use {@link #writeChanges(int, CharSequence, int, int)}.
+     *
+     * @param row The row
+     * @param text The text of the row
+     * @param start The index of the first character to write
+     * @param end The index after the last character to write
+     */
+    protected void writeRange (final int row, final CharSequence text, final int start, final int end)
+    {
+        // Intentionally empty
     }
 }
\ No newline at end of file
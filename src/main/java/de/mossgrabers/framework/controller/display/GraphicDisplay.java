@@ -73,11 +73,21 @@ public abstract class GraphicDisplay extends AbstractDisplay implements GridChan
     }
 
 
+    /**
+     * Forces a complete redraw of the display, e.g. if the colors have changed.
+     */
+    public void invalidate ()
+    {
+        if (this.virtualDisplay != null)
+            this.virtualDisplay.invalidate ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void gridHasChanged ()
     {
-        if (this.virtualDisplay != null)
+        if (this.virtualDisplay != null && this.virtualDisplay.redrawGrid ())
             this.send (this.virtualDisplay.getImage ());
     }
 
@@ -0,0 +1,22 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+/**
+ * Interface for a set of lights which is animated by a light animator.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface ILightAnimationListener
+{
+    /**
+     * Update the animated lights to the given beat. Only changed lights should be sent.
+     *
+     * @param beat The current beat (quarter notes)
+     * @return True if there are still running animations
+     */
+    boolean animate (double beat);
+}
@@ -0,0 +1,147 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import de.mossgrabers.framework.utils.FrameworkException;
+
+import java.util.Arrays;
+
+
+/**
+ * An animation of the color of a light, e.g. a pad. The animation is a sequence of color indices
+ * (frames) which are shown one after the other at a rate synchronized to the beats of the
+ * transport. Looping animations (blink, pulse) are aligned to the beat grid. A non-looping
+ * animation (fade) runs once from the beat at which it was started and keeps its last color.
+ * <p>
+ * Animations are compared by value, therefore a view can set an equal animation on every redraw
+ * without restarting it.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LightAnimation
+{
+    private final int []  frames;
+    private final double  framesPerBeat;
+    private final boolean loop;
+
+
+    /**
+     * Constructor.
+     *
+     * @param frames The color indices of the frames, at least one
+     * @param framesPerBeat The number of frames to show per beat (quarter note)
+     * @param loop True to loop the frames, false to keep the last frame after the animation
+     */
+    public LightAnimation (final int [] frames, final double framesPerBeat, final boolean loop)
+    {
+        if (frames.length == 0 || framesPerBeat <= 0)
+            throw new FrameworkException ("An animation needs at least one frame and a positive rate.");
+
+        this.frames = frames.clone ();
+        this.framesPerBeat = framesPerBeat;
+        this.loop = loop;
+    }
+
+
+    /**
+     * Create an animation which switches between two colors once (slow) or twice (fast) per beat.
+     *
+     * @param color The base color
+     * @param blinkColor The color to blink with
+     * @param fast Blinking is fast if true
+     * @return The animation
+     */
+    public static LightAnimation blink (final int color, final int blinkColor, final boolean fast)
+    {
+        return new LightAnimation (new int []
+        {
+            color,
+            blinkColor
+        }, fast ? 4 : 2, true);
+    }
+
+
+    /**
+     * Create an animation which runs up and down through the given colors once per beat.
+     *
+     * @param colors The colors from the darkest to the brightest
+     * @return The animation
+     */
+    public static LightAnimation pulse (final int... colors)
+    {
+        final int length = Math.max (1, 2 * colors.length - 2);
+        final int [] frames = new int [length];
+        for (int i = 0; i < length; i++)
+            frames[i] = colors[i < colors.length ? i : length - i];
+        return new LightAnimation (frames, length, true);
+    }
+
+
+    /**
+     * Create an animation which runs once through the given colors and keeps the last one.
+     *
+     * @param beats The duration of the fade in beats (quarter notes)
+     * @param colors The colors from the first to the final one
+     * @return The animation
+     */
+    public static LightAnimation fade (final double beats, final int... colors)
+    {
+        return new LightAnimation (colors, colors.length / beats, false);
+    }
+
+
+    /**
+     * Get the color of the frame to show at the given beat.
+     *
+     * @param beat The current beat
+     * @param startBeat The beat at which the animation was started, only used if it does not loop
+     * @return The color index
+     */
+    public int getColor (final double beat, final double startBeat)
+    {
+        if (this.loop)
+            return this.frames[(int) Math.floorMod ((long) Math.floor (beat * this.framesPerBeat), (long) this.frames.length)];
+        final long frame = (long) Math.floor ((beat - startBeat) * this.framesPerBeat);
+        return this.frames[(int) Math.max (0, Math.min (frame, this.frames.length - 1))];
+    }
+
+
+    /**
+     * Test if the animation shows no further changes after the given beat.
+     *
+     * @param beat The current beat
+     * @param startBeat The beat at which the animation was started
+     * @return True if the animation does not loop and its last frame is reached
+     */
+    public boolean isFinished (final double beat, final double startBeat)
+    {
+        return !this.loop && (beat - startBeat) * this.framesPerBeat >= this.frames.length - 1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + Arrays.hashCode (this.frames);
+        result = prime * result + Double.hashCode (this.framesPerBeat);
+        return prime * result + Boolean.hashCode (this.loop);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final LightAnimation other = (LightAnimation) obj;
+        return this.framesPerBeat == other.framesPerBeat && this.loop == other.loop && Arrays.equals (this.frames, other.frames);
+    }
+}
@@ -0,0 +1,95 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ITransport;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Drives the light animations of all registered listeners (e.g. pad grids) with one shared timer.
+ * The phase of the animations is the beat position of the transport while it is playing.
+ * Otherwise, the beats are derived from the system clock at the current tempo. The timer only runs
+ * while at least one listener has running animations.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LightAnimator
+{
+    private static final int                    TICK_INTERVAL = 25;
+
+    private final IHost                         host;
+    private final ITransport                    transport;
+    private final List<ILightAnimationListener> listeners     = new ArrayList<> ();
+    private final Runnable                      tickTask      = this::tick;
+    private boolean                             isRunning;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the timer
+     * @param transport The transport to synchronize to
+     */
+    public LightAnimator (final IHost host, final ITransport transport)
+    {
+        this.host = host;
+        this.transport = transport;
+    }
+
+
+    /**
+     * Register a listener.
+     *
+     * @param listener The listener
+     */
+    public void addListener (final ILightAnimationListener listener)
+    {
+        this.listeners.add (listener);
+    }
+
+
+    /**
+     * Start the timer if it is not already running. Needs to be called if a listener started an
+     * animation.
+     */
+    public void start ()
+    {
+        if (this.isRunning)
+            return;
+        this.isRunning = true;
+        this.host.scheduleTask (this.tickTask, TICK_INTERVAL);
+    }
+
+
+    /**
+     * Get the current beat, which is the phase of all animations.
+     *
+     * @return The beat (quarter notes)
+     */
+    public double getBeat ()
+    {
+        if (this.transport.isPlaying ())
+            return this.transport.getPosition ();
+        return System.currentTimeMillis () * this.transport.getTempo () / 60000.0;
+    }
+
+
+    private void tick ()
+    {
+        final double beat = this.getBeat ();
+        boolean hasAnimations = false;
+        for (final ILightAnimationListener listener: this.listeners)
+            hasAnimations |= listener.animate (beat);
+
+        if (hasAnimations)
+            this.host.scheduleTask (this.tickTask, TICK_INTERVAL);
+        else
+            this.isRunning = false;
+    }
+}
@@ -99,6 +99,36 @@ public interface PadGrid
     void lightEx (int x, int y, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Animate the lighting state of a pad. Setting an equal animation again does not restart it.
+     * The animation is stopped by setting the lighting state of the pad with one of the light
+     * methods. Animations are only played if an animator is set.
+     *
+     * @param note The midi note of the pad
+     * @param animation The animation
+     */
+    void animate (int note, LightAnimation animation);
+
+
+    /**
+     * Animate the lighting state of a pad. Setting an equal animation again does not restart it.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param animation The animation
+     */
+    void animateEx (int x, int y, LightAnimation animation);
+
+
+    /**
+     * Set the animator which plays the animations of the pads. Without an animator only the first
+     * frame of an animation is shown.
+     *
+     * @param animator The animator, might be null
+     */
+    void setAnimator (LightAnimator animator);
+
+
     /**
      * Flush out all changes of the pad states.
      */
@@ -11,28 +11,41 @@ import java.util.Arrays;
 
 
 /**
- * Implementation of a grid of pads.
+ * Implementation of a grid of pads. The animator updates and flushes the animated pads from the
+ * timer of the host while the surface flushes the grid from the flush scheduler, therefore all
+ * methods which access the pad states are synchronized.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class PadGridImpl implements PadGrid
 {
-    protected static final int   NUM_NOTES = 128;
+    protected static final int      NUM_NOTES       = 128;
+    protected static final int      HANDLE_GRID_OFF = ColorManager.getHandle (GRID_OFF);
+    private static final int        MIN_BATCH_PADS  = 3;
 
-    protected final IMidiOutput  output;
-    protected final ColorManager colorManager;
+    protected final IMidiOutput     output;
+    protected final ColorManager    colorManager;
 
-    protected final int []       currentButtonColors;
-    protected final int []       buttonColors;
-    protected final int []       currentBlinkColors;
-    protected final int []       blinkColors;
-    protected final boolean []   currentBlinkFast;
-    protected final boolean []   blinkFast;
+    protected final int []          currentButtonColors;
+    protected final int []          buttonColors;
+    protected final int []          currentBlinkColors;
+    protected final int []          blinkColors;
+    protected final boolean []      currentBlinkFast;
+    protected final boolean []      blinkFast;
 
-    protected final int          rows;
-    protected final int          cols;
-    protected final int          startNote;
-    protected final int          endNote;
+    protected final int             rows;
+    protected final int             cols;
+    protected final int             startNote;
+    protected final int             endNote;
+
+    private final int []            changedPads;
+    private final int []            batchNotes;
+    private final int []            batchColors;
+
+    private final LightAnimation [] animations;
+    private final double []         animationStarts;
+    private LightAnimator           animator;
+    private int                     animationCount;
 
 
     /**
@@ -81,6 +94,13 @@ public class PadGridImpl implements PadGrid
         Arrays.fill (this.blinkColors, -1);
         Arrays.fill (this.currentBlinkFast, false);
         Arrays.fill (this.blinkFast, false);
+
+        this.changedPads = new int [this.rows * this.cols];
+        this.batchNotes = new int [this.changedPads.length];
+        this.batchColors = new int [this.changedPads.length];
+
+        this.animations = new LightAnimation [NUM_NOTES];
+        this.animationStarts = new double [NUM_NOTES];
     }
 
 
@@ -149,16 +169,56 @@ public class PadGridImpl implements PadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void animate (final int note, final LightAnimation animation)
+    {
+        this.setAnimation (note, animation);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void animateEx (final int x, final int y, final LightAnimation animation)
+    {
+        final int off = (this.rows - 1) * this.cols + this.startNote;
+        this.setAnimation (off + x - this.cols * y, animation);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAnimator (final LightAnimator animator)
+    {
+        this.animator = animator;
+        if (animator != null)
+            animator.addListener (this::animateLights);
+    }
+
+
     /**
-     * Set the lighting state of a pad.
+     * Set the lighting state of a pad. Stops a running animation of the pad. If the grid does not
+     * support blinking but an animator is set, the blinking is animated.
      *
      * @param index The index in the array (0-127)
      * @param color The color or brightness to set
      * @param blinkColor The state to make a pad blink
      * @param fast Blinking is fast if true
      */
-    protected void setLight (final int index, final int color, final int blinkColor, final boolean fast)
+    protected synchronized void setLight (final int index, final int color, final int blinkColor, final boolean fast)
     {
+        if (blinkColor >= 0 && this.animator != null && !this.supportsBlink ())
+        {
+            this.setAnimation (index, LightAnimation.blink (color, blinkColor, fast));
+            return;
+        }
+
+        if (this.animations[index] != null)
+        {
+            this.animations[index] = null;
+            this.animationCount--;
+        }
+
         if (blinkColor >= 0)
         {
             this.buttonColors[index] = color;
@@ -167,15 +227,85 @@ public class PadGridImpl implements PadGrid
         else
         {
             this.buttonColors[index] = color;
-            this.blinkColors[index] = this.colorManager.getColor (GRID_OFF);
+            this.blinkColors[index] = this.colorManager.getColor (HANDLE_GRID_OFF);
         }
         this.blinkFast[index] = fast;
     }
 
 
+    /**
+     * Set the animation of a pad. Does not restart the animation if it is equal to the running one.
+     *
+     * @param index The index in the array (0-127)
+     * @param animation The animation
+     */
+    protected synchronized void setAnimation (final int index, final LightAnimation animation)
+    {
+        if (this.animator == null)
+        {
+            // Without an animator show the first frame
+            this.setLight (index, animation.getColor (0, 0), -1, false);
+            return;
+        }
+
+        final double beat = this.animator.getBeat ();
+        if (!animation.equals (this.animations[index]))
+        {
+            if (this.animations[index] == null)
+                this.animationCount++;
+            this.animations[index] = animation;
+            this.animationStarts[index] = beat;
+        }
+        this.buttonColors[index] = animation.getColor (beat, this.animationStarts[index]);
+        this.blinkColors[index] = this.colorManager.getColor (HANDLE_GRID_OFF);
+        this.blinkFast[index] = false;
+        this.animator.start ();
+    }
+
+
+    /**
+     * Test if the controller can blink the pads by itself with
+     * {@link #sendBlinkState(int, int, boolean)}. If not, blinking is animated by the animator.
+     *
+     * @return True if blinking is supported
+     */
+    protected boolean supportsBlink ()
+    {
+        return true;
+    }
+
+
+    /**
+     * Update the colors of all animated pads and send the changed ones.
+     *
+     * @param beat The current beat
+     * @return True if there are still running animations
+     */
+    private synchronized boolean animateLights (final double beat)
+    {
+        if (this.animationCount == 0)
+            return false;
+
+        boolean isRunning = false;
+        for (int i = this.startNote; i <= this.endNote; i++)
+        {
+            final LightAnimation animation = this.animations[i];
+            if (animation == null)
+                continue;
+            // The beat source jumps back if the transport starts playing
+            if (beat < this.animationStarts[i])
+                this.animationStarts[i] = beat;
+            this.buttonColors[i] = animation.getColor (beat, this.animationStarts[i]);
+            isRunning |= !animation.isFinished (beat, this.animationStarts[i]);
+        }
+        this.flush ();
+        return isRunning;
+    }
+
+
     /** {@inheritDoc} */
     @Override
-    public void forceFlush (final int note)
+    public synchronized void forceFlush (final int note)
     {
         this.currentButtonColors[note] = -1;
         this.currentBlinkColors[note] = -1;
@@ -185,7 +315,7 @@ public class PadGridImpl implements PadGrid
 
     /** {@inheritDoc} */
     @Override
-    public void forceFlush ()
+    public synchronized void forceFlush ()
     {
         for (int i = this.startNote; i <= this.endNote; i++)
         {
@@ -198,30 +328,83 @@ public class PadGridImpl implements PadGrid
 
     /** {@inheritDoc} */
     @Override
-    public void flush ()
+    public synchronized void flush ()
     {
+        int count = 0;
         for (int i = this.startNote; i <= this.endNote; i++)
         {
-            final int note = this.translateToController (i);
+            // The blink state is sent again as well if only the base color changed
+            if (this.currentButtonColors[i] == this.buttonColors[i] && this.currentBlinkColors[i] == this.blinkColors[i] && this.currentBlinkFast[i] == this.blinkFast[i])
+                continue;
+            this.currentButtonColors[i] = this.buttonColors[i];
+            this.currentBlinkColors[i] = this.blinkColors[i];
+            this.currentBlinkFast[i] = this.blinkFast[i];
+            this.changedPads[count++] = i;
+        }
+        if (count == 0)
+            return;
 
-            boolean baseChanged = false;
-            if (this.currentButtonColors[i] != this.buttonColors[i])
+        final int batchSize = this.getBatchSize ();
+        if (batchSize > 0 && count >= MIN_BATCH_PADS)
+        {
+            for (int start = 0; start < count; start += batchSize)
             {
-                this.currentButtonColors[i] = this.buttonColors[i];
-                this.sendNoteState (note, this.buttonColors[i]);
-                baseChanged = true;
+                final int size = Math.min (batchSize, count - start);
+                for (int j = 0; j < size; j++)
+                {
+                    final int pad = this.changedPads[start + j];
+                    this.batchNotes[j] = this.translateToController (pad);
+                    this.batchColors[j] = this.currentButtonColors[pad];
+                }
+                this.sendNoteStates (this.batchNotes, this.batchColors, size);
             }
-            // No "else" here: Blinking color needs a base color
-            if (baseChanged || this.currentBlinkColors[i] != this.blinkColors[i] || this.currentBlinkFast[i] != this.blinkFast[i])
+        }
+        else
+        {
+            for (int j = 0; j < count; j++)
             {
-                this.currentBlinkColors[i] = this.blinkColors[i];
-                this.currentBlinkFast[i] = this.blinkFast[i];
-
-                this.sendNoteState (note, this.currentButtonColors[i]);
-                if (this.blinkColors[i] != this.colorManager.getColor (GRID_OFF))
-                    this.sendBlinkState (note, this.blinkColors[i], this.blinkFast[i]);
+                final int pad = this.changedPads[j];
+                this.sendNoteState (this.translateToController (pad), this.currentButtonColors[pad]);
             }
         }
+
+        // The blink states must follow the base colors since setting a base color stops blinking
+        final int offColor = this.colorManager.getColor (HANDLE_GRID_OFF);
+        for (int j = 0; j < count; j++)
+        {
+            final int pad = this.changedPads[j];
+            if (this.currentBlinkColors[pad] != offColor)
+                this.sendBlinkState (this.translateToController (pad), this.currentBlinkColors[pad], this.currentBlinkFast[pad]);
+        }
+    }
+
+
+    /**
+     * Get the maximum number of pads which can be updated with one message by
+     * {@link #sendNoteStates(int[], int[], int)}. Batching is only used if at least 3 pads changed,
+     * fewer pads are sent with {@link #sendNoteState(int, int)}.
+     *
+     * @return The maximum number of pads per message, 0 if the controller does not support
+     *         batched updates
+     */
+    protected int getBatchSize ()
+    {
+        return 0;
+    }
+
+
+    /**
+     * Send the updates of several notes/pads to the controller with one message. Only called if
+     * {@link #getBatchSize()} is larger than 0.
+     *
+     * @param notes The notes, the array is reused and only valid during the call
+     * @param colors The colors of the notes, the array is reused and only valid during the call
+     * @param count The number of notes to send, never larger than the batch size
+     */
+    protected void sendNoteStates (final int [] notes, final int [] colors, final int count)
+    {
+        for (int i = 0; i < count; i++)
+            this.sendNoteState (notes[i], colors[i]);
     }
 
 
@@ -254,7 +437,7 @@ public class PadGridImpl implements PadGrid
     @Override
     public void turnOff ()
     {
-        final int color = this.colorManager.getColor (GRID_OFF);
+        final int color = this.colorManager.getColor (HANDLE_GRID_OFF);
         for (int i = this.startNote; i <= this.endNote; i++)
             this.light (i, color, -1, false);
         this.flush ();
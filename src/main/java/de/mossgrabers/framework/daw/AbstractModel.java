@@ -6,9 +6,11 @@ package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.LightAnimator;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.ObserverSubscriptions;
 import de.mossgrabers.framework.scale.Scales;
 
 import java.util.HashMap;
@@ -23,30 +25,32 @@ import java.util.Map;
  */
 public abstract class AbstractModel implements IModel
 {
-    protected IHost              host;
-    protected IApplication       application;
-    protected IMixer             mixer;
-    protected ITransport         transport;
-    protected IGroove            groove;
-    protected IProject           project;
-    protected IBrowser           browser;
-    protected IArranger          arranger;
-    protected IMarkerBank        markerBank;
-    protected ITrackBank         currentTrackBank;
-    protected ITrackBank         trackBank;
-    protected ITrackBank         effectTrackBank;
-    protected IMasterTrack       masterTrack;
-    protected ICursorDevice      instrumentDevice;
-    protected ICursorDevice      cursorDevice;
-    protected ICursorDevice      drumDevice64;
-    protected Map<String, IClip> cursorClips = new HashMap<> ();
-
-    protected Scales             scales;
-    protected ColorManager       colorManager;
-    protected IValueChanger      valueChanger;
-    protected ModelSetup         modelSetup;
-
-    private int                  lastSelection;
+    protected IHost                       host;
+    protected IApplication                application;
+    protected IMixer                      mixer;
+    protected ITransport                  transport;
+    protected IGroove                     groove;
+    protected IProject                    project;
+    protected IBrowser                    browser;
+    protected IArranger                   arranger;
+    protected IMarkerBank                 markerBank;
+    protected ITrackBank                  currentTrackBank;
+    protected ITrackBank                  trackBank;
+    protected ITrackBank                  effectTrackBank;
+    protected IMasterTrack                masterTrack;
+    protected LightAnimator               lightAnimator;
+    protected ICursorDevice               instrumentDevice;
+    protected ICursorDevice               cursorDevice;
+    protected ICursorDevice               drumDevice64;
+    protected Map<String, IClip>          cursorClips = new HashMap<> ();
+
+    protected Scales                      scales;
+    protected ColorManager                colorManager;
+    protected IValueChanger               valueChanger;
+    protected ModelSetup                  modelSetup;
+    protected final ObserverSubscriptions observerSubscriptions = new ObserverSubscriptions ();
+
+    private int                           lastSelection;
 
 
     /**
@@ -154,6 +158,22 @@ public abstract class AbstractModel implements IModel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public ObserverSubscriptions getObserverSubscriptions ()
+    {
+        return this.observerSubscriptions;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public LightAnimator getLightAnimator ()
+    {
+        return this.lightAnimator;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ICursorDevice getCursorDevice ()
@@ -4,6 +4,8 @@
 
 package de.mossgrabers.framework.daw;
 
+import de.mossgrabers.framework.controller.color.ColorManager;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -300,11 +302,16 @@ public class DAWColors
     };
 
     private static final Map<String, double []> COLOR_LOOKUP            = new HashMap<> (DAW_COLORS.length);
+    private static final int []                 DAW_COLOR_HANDLES       = new int [DAW_COLORS.length];
+    private static final int                    COLOR_OFF_HANDLE        = ColorManager.getHandle (COLOR_OFF);
 
     static
     {
         for (int i = 0; i < DAW_COLORS.length; i++)
+        {
             COLOR_LOOKUP.put (DAW_COLORS[i], COLORS[i]);
+            DAW_COLOR_HANDLES[i] = ColorManager.getHandle (DAW_COLORS[i]);
+        }
     }
 
 
@@ -364,17 +371,38 @@ public class DAWColors
      */
     public static String getColorIndex (final double red, final double green, final double blue)
     {
-        String cid = COLOR_OFF;
+        final int index = getNearestColor (red, green, blue);
+        return index < 0 ? COLOR_OFF : DAW_COLORS[index];
+    }
+
+
+    /**
+     * Get the handle of the color ID that is assigned to the given RGB values.
+     *
+     * @param rgb The red, green and blue value
+     * @return The handle of the ID or of the COLOR_OFF ID if none is mapped, see
+     *         ColorManager.getHandle
+     */
+    public static int getColorHandle (final double [] rgb)
+    {
+        final int index = getNearestColor (rgb[0], rgb[1], rgb[2]);
+        return index < 0 ? COLOR_OFF_HANDLE : DAW_COLOR_HANDLES[index];
+    }
+
+
+    private static int getNearestColor (final double red, final double green, final double blue)
+    {
+        int index = -1;
         double minError = 1.0;
         for (int i = 0; i < COLORS.length; i++)
         {
             final double error = Math.pow (COLORS[i][0] - red, 2.0) + Math.pow (COLORS[i][1] - green, 2.0) + Math.pow (COLORS[i][2] - blue, 2.0);
             if (error < minError)
             {
-                cid = DAW_COLORS[i];
+                index = i;
                 minError = error;
             }
         }
-        return cid;
+        return index;
     }
 }
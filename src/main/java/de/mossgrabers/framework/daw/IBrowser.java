@@ -103,7 +103,8 @@ public interface IBrowser extends ObserverManagement
 
 
     /**
-     * Check if the browser is active.
+     * Check if the browser is active. This is also up to date while the observers of the browser
+     * are disabled.
      *
      * @return True if active
      */
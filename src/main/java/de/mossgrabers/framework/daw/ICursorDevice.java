@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.daw.data.IDevice;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -236,4 +237,12 @@ public interface ICursorDevice extends IDevice
      * @return The bank
      */
     IChannelBank<?> getLayerOrDrumPadBank ();
+
+    /**
+     * Add an observer, which is called when a state of the device (e.g. enabled or window open)
+     * changes. Changes of the parameters are observed with the parameters.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (IValueObserver<Void> observer);
 }
\ No newline at end of file
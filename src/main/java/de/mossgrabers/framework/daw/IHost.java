@@ -12,6 +12,7 @@ import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.usb.IUsbDevice;
 import de.mossgrabers.framework.usb.UsbException;
+import de.mossgrabers.framework.utils.FlushScheduler;
 
 import java.util.List;
 
@@ -88,6 +89,14 @@ public interface IHost
     void scheduleTask (Runnable task, long delay);
 
 
+    /**
+     * Get the scheduler which executes the flush tasks of the surfaces and displays.
+     *
+     * @return The scheduler
+     */
+    FlushScheduler getFlushScheduler ();
+
+
     /**
      * Print the error to the console.
      *
@@ -122,13 +131,15 @@ public interface IHost
 
 
     /**
-     * Connect to an OSC server.
+     * Connect to an OSC server. The caller owns the returned client and needs to close it if it is
+     * Closeable.
      *
      * @param serverAddress The address of the server
      * @param serverPort The port of the server
+     * @param maxPacketSize The maximum size of an UDP packet, bundles are split to stay below
      * @return Interface for interacting with the server
      */
-    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort);
+    IOpenSoundControlClient connectToOSCServer (String serverAddress, int serverPort, int maxPacketSize);
 
 
     /**
@@ -151,7 +162,7 @@ public interface IHost
 
 
     /**
-     * Call on shutdown to release all OSC resources.
+     * Call on shutdown to release all OSC servers. The OSC clients are closed by their owners.
      */
     void releaseOSC ();
 
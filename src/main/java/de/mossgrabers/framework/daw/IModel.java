@@ -6,9 +6,11 @@ package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.LightAnimator;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.observer.ObserverSubscriptions;
 import de.mossgrabers.framework.scale.Scales;
 
 
@@ -107,6 +109,24 @@ public interface IModel
     Scales getScales ();
 
 
+    /**
+     * Get the subscriptions, which enable the observers of model areas only while an active mode
+     * or view reads them.
+     *
+     * @return The observer subscriptions
+     */
+    ObserverSubscriptions getObserverSubscriptions ();
+
+
+    /**
+     * Get the animator, which plays the light animations of all surfaces synchronized to the
+     * transport.
+     *
+     * @return The light animator
+     */
+    LightAnimator getLightAnimator ();
+
+
     /**
      * True if there is a selected device.
      *
@@ -218,6 +238,14 @@ public interface IModel
     boolean hasSolo ();
 
 
+    /**
+     * Check if any of the tracks is armed for recording.
+     *
+     * @return True if there is at least one armed track
+     */
+    boolean hasArmedTrack ();
+
+
     /**
      * Deactivate all solo states of all tracks.
      */
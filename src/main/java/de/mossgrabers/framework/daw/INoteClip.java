@@ -108,6 +108,16 @@ public interface INoteClip extends IClip
     int getUpperRowWithData ();
 
 
+    /**
+     * Get the version of the step data. It is increased whenever the state of a note of the
+     * monitored page changes. Compare it to a previously retrieved version to detect if the notes
+     * need to be redrawn.
+     *
+     * @return The version
+     */
+    long getStepDataVersion ();
+
+
     /**
      * Set the length of a step.
      *
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw;
 
 import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.observer.ObserverManagement;
 
 
 /**
@@ -14,5 +15,12 @@ import de.mossgrabers.framework.daw.data.IParameter;
  */
 public interface IParameterBank extends IBank<IParameter>
 {
-    // Intentionally empty
+    /**
+     * Get the modulated values of the parameters as a model area. Modes, which display the
+     * modulated values, can declare it as a dependency. Dis-/enabling it does not affect the other
+     * values of the parameters.
+     *
+     * @return The model area of the modulated values
+     */
+    ObserverManagement getModulatedValues ();
 }
\ No newline at end of file
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.daw;
 
+import de.mossgrabers.framework.observer.IValueObserver;
 import de.mossgrabers.framework.observer.ObserverManagement;
 
 
@@ -274,6 +275,14 @@ public interface ITransport extends ObserverManagement
     String getBeatText ();
 
 
+    /**
+     * Get the play position in beats.
+     *
+     * @return The play position in beats (quarter notes)
+     */
+    double getPosition ();
+
+
     /**
      * Sets the transport playback position to the given beat time value.
      *
@@ -488,4 +497,12 @@ public interface ITransport extends ObserverManagement
      * @return The quarters per measure.
      */
     int getQuartersPerMeasure ();
+
+    /**
+     * Add an observer, which is called when a state (e.g. playing or recording), the tempo, the
+     * crossfader or the metronome volume changes. Changes of the play position are not reported.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (IValueObserver<Void> observer);
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Stores the note states of a page of steps of a clip. Each state (see the constants of
+ * INoteClip) is packed into 2 bits, the states of a row are stored in consecutive longs. The number
+ * of set steps per row as well as the lowest and highest row which contain notes are updated on
+ * each change. Therefore, these queries do not need to scan the steps.
+ * <p>
+ * Each change of a state increases the version of the store. Compare it to a previously retrieved
+ * version to detect if the step data needs to be redrawn.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StepStore
+{
+    private static final int STEPS_PER_WORD = 32;
+
+    private final int        numSteps;
+    private final int        numRows;
+    private final int        wordsPerRow;
+    private final long []    cells;
+    private final int []     rowCounts;
+    private int              lowerRow       = -1;
+    private int              upperRow       = -1;
+    private long             version;
+
+
+    /**
+     * Constructor.
+     *
+     * @param numSteps The number of steps of a page
+     * @param numRows The number of note rows
+     */
+    public StepStore (final int numSteps, final int numRows)
+    {
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.wordsPerRow = (numSteps + STEPS_PER_WORD - 1) / STEPS_PER_WORD;
+        this.cells = new long [this.wordsPerRow * numRows];
+        this.rowCounts = new int [numRows];
+    }
+
+
+    /**
+     * Get the state of a note.
+     *
+     * @param step The step
+     * @param row The row
+     * @return The state, 0 if the step or row is outside of the store
+     */
+    public int get (final int step, final int row)
+    {
+        if (step < 0 || step >= this.numSteps || row < 0 || row >= this.numRows)
+            return INoteClip.NOTE_OFF;
+        return (int) (this.cells[this.getWordIndex (step, row)] >>> getShift (step)) & 3;
+    }
+
+
+    /**
+     * Set the state of a note.
+     *
+     * @param step The step
+     * @param row The row
+     * @param state The state, 0: not set, 1: note continues playing, 2: start of note
+     * @return True if the state was changed
+     */
+    public boolean set (final int step, final int row, final int state)
+    {
+        if (step < 0 || step >= this.numSteps)
+            throw new IndexOutOfBoundsException ("Step " + step + " is outside of 0.." + (this.numSteps - 1));
+
+        final int index = this.getWordIndex (step, row);
+        final int shift = getShift (step);
+        final int oldState = (int) (this.cells[index] >>> shift) & 3;
+        final int newState = state & 3;
+        if (oldState == newState)
+            return false;
+
+        this.cells[index] = this.cells[index] & ~(3L << shift) | (long) newState << shift;
+        this.version++;
+
+        if (oldState == INoteClip.NOTE_OFF)
+        {
+            if (this.rowCounts[row]++ == 0)
+                this.addOccupiedRow (row);
+        }
+        else if (newState == INoteClip.NOTE_OFF && --this.rowCounts[row] == 0)
+            this.removeOccupiedRow (row);
+        return true;
+    }
+
+
+    /**
+     * Check if the row contains at least one note.
+     *
+     * @param row The row
+     * @return True if there is a note in the row
+     */
+    public boolean hasRowData (final int row)
+    {
+        return row >= 0 && row < this.numRows && this.rowCounts[row] > 0;
+    }
+
+
+    /**
+     * Get the lowest row which contains a note.
+     *
+     * @return The row or -1 if there are no notes
+     */
+    public int getLowerRowWithData ()
+    {
+        return this.lowerRow;
+    }
+
+
+    /**
+     * Get the highest row which contains a note.
+     *
+     * @return The row or -1 if there are no notes
+     */
+    public int getUpperRowWithData ()
+    {
+        return this.upperRow;
+    }
+
+
+    /**
+     * Get the version of the stored states, which is increased with each change.
+     *
+     * @return The version
+     */
+    public long getVersion ()
+    {
+        return this.version;
+    }
+
+
+    private void addOccupiedRow (final int row)
+    {
+        if (this.lowerRow < 0 || row < this.lowerRow)
+            this.lowerRow = row;
+        if (row > this.upperRow)
+            this.upperRow = row;
+    }
+
+
+    private void removeOccupiedRow (final int row)
+    {
+        if (this.lowerRow == this.upperRow)
+        {
+            this.lowerRow = -1;
+            this.upperRow = -1;
+            return;
+        }
+
+        // Only the rows between the lowest and the highest one need to be searched
+        if (row == this.lowerRow)
+        {
+            do
+                this.lowerRow++;
+            while (this.rowCounts[this.lowerRow] == 0);
+        }
+        else if (row == this.upperRow)
+        {
+            do
+                this.upperRow--;
+            while (this.rowCounts[this.upperRow] == 0);
+        }
+    }
+
+
+    private int getWordIndex (final int step, final int row)
+    {
+        return row * this.wordsPerRow + step / STEPS_PER_WORD;
+    }
+
+
+    private static int getShift (final int step)
+    {
+        return 2 * (step % STEPS_PER_WORD);
+    }
+}
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.ISlotBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.observer.IValueObserver;
+import de.mossgrabers.framework.observer.NoteMaskObserver;
 import de.mossgrabers.framework.observer.NoteObserver;
 
 
@@ -611,6 +612,14 @@ public class EmptyTrackData implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final IValueObserver<Void> observer)
+    {
+        // Intentionally empty
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enter ()
@@ -626,6 +635,14 @@ public class EmptyTrackData implements ITrack
         // Intentionally empty
     }
 
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNoteMaskObserver (final NoteMaskObserver observer)
+    {
+        // Intentionally empty
+    }
+
     class EmptySlotBank extends EmptyBank<ISlot> implements ISlotBank
     {
         @Override
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.daw.ISendBank;
 import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.observer.IValueObserver;
 
 
 /**
@@ -297,4 +298,12 @@ public interface IChannel extends IItem
      * Enter sub-channels of the channel, if any.
      */
     void enter ();
+
+    /**
+     * Add an observer, which is called when a state (e.g. mute, solo or the record arm of a track),
+     * the volume, the panorama or a send of the channel changes.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (IValueObserver<Void> observer);
 }
\ No newline at end of file
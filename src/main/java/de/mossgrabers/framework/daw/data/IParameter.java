@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.daw.data;
 
+import de.mossgrabers.framework.observer.IValueObserver;
+
+
 /**
  * Interface to a parameter.
  *
@@ -90,4 +93,11 @@ public interface IParameter extends IItem
      * @param enable True in case visual indications should be shown
      */
     void setIndication (boolean enable);
+
+    /**
+     * Add an observer, which is called when the value of the parameter changes.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (IValueObserver<Void> observer);
 }
\ No newline at end of file
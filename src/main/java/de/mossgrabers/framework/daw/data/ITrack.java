@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.daw.ISlotBank;
+import de.mossgrabers.framework.observer.NoteMaskObserver;
 import de.mossgrabers.framework.observer.NoteObserver;
 
 
@@ -215,4 +216,12 @@ public interface ITrack extends IChannel
      * @param observer The note observer
      */
     void addNoteObserver (final NoteObserver observer);
+
+
+    /**
+     * Add an observer which gets all started and stopped notes of an update in one call.
+     *
+     * @param observer The note mask observer
+     */
+    void addNoteMaskObserver (final NoteMaskObserver observer);
 }
\ No newline at end of file
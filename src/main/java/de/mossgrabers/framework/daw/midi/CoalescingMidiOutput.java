@@ -0,0 +1,356 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * An output stage for a midi output which limits the number of short messages sent per second.
+ * Messages are queued by their address, which is the status and data1 byte. If a message for an
+ * address is already waiting in the queue, its value is replaced with the newer one. Therefore,
+ * only the latest value of e.g. an LED or a fader position is sent if the device cannot keep up.
+ * The queue is drained in the order in which the addresses were queued first. System exclusive
+ * messages are not coalesced. They are sent after all short messages, which were queued before
+ * them, therefore they never overtake e.g. a fader position or an LED state.
+ * <p>
+ * The queues of all outputs are drained by one shared daemon thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CoalescingMidiOutput extends AbstractMidiOutputImpl
+{
+    /** The interval in milliseconds in which the queue is drained. */
+    private static final int                      DRAIN_INTERVAL = 10;
+
+    private static final int                      NUM_ADDRESSES  = 0x80 * 128;
+    private static final int                      EMPTY          = -1;
+
+    private static final ScheduledExecutorService DRAIN_EXECUTOR = Executors.newSingleThreadScheduledExecutor (task -> {
+        final Thread thread = new Thread (task, "Coalescing Midi Output");
+        thread.setDaemon (true);
+        return thread;
+    });
+
+    private final IMidiOutput                     output;
+    private volatile int                          messagesPerDrain;
+    private final ScheduledFuture<?>              drainTask;
+    private volatile boolean                      isShutdown;
+    // Sending a message and taking it from the queue must not be interrupted by a system exclusive
+    // message, which is sent directly
+    private final Object                          sendLock       = new Object ();
+
+    // The latest status and data bytes for each address, packed into one integer
+    private final int []                          messages       = new int [NUM_ADDRESSES];
+    // Ring buffer with the queued addresses, each address is queued only once
+    private final int []                          queue          = new int [NUM_ADDRESSES];
+    private int                                   queueStart;
+    private int                                   queueSize;
+    private long                                  dequeuedMessages;
+    private final Deque<PendingSysex>             sysexQueue     = new ArrayDeque<> ();
+
+    private int                                   maxQueueSize;
+    private long                                  sentMessages;
+    private long                                  coalescedMessages;
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The output to which the messages are sent
+     * @param messagesPerSecond The maximum number of short messages to send per second
+     */
+    public CoalescingMidiOutput (final IMidiOutput output, final int messagesPerSecond)
+    {
+        this.output = output;
+        this.setMessagesPerSecond (messagesPerSecond);
+
+        Arrays.fill (this.messages, EMPTY);
+
+        this.drainTask = DRAIN_EXECUTOR.scheduleWithFixedDelay (this::drain, DRAIN_INTERVAL, DRAIN_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+
+    /**
+     * Set the maximum number of short messages to send per second.
+     *
+     * @param messagesPerSecond The number of messages
+     */
+    public void setMessagesPerSecond (final int messagesPerSecond)
+    {
+        this.messagesPerDrain = Math.max (1, messagesPerSecond * DRAIN_INTERVAL / 1000);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.queueSysex (data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        this.queueSysex (data);
+    }
+
+
+    /**
+     * Get the number of messages which are waiting to be sent.
+     *
+     * @return The number of messages
+     */
+    public synchronized int getQueueSize ()
+    {
+        return this.queueSize;
+    }
+
+
+    /**
+     * Get the largest number of messages which were waiting to be sent at the same time.
+     *
+     * @return The number of messages
+     */
+    public synchronized int getMaxQueueSize ()
+    {
+        return this.maxQueueSize;
+    }
+
+
+    /**
+     * Get the number of messages which were sent to the output.
+     *
+     * @return The number of messages
+     */
+    public synchronized long getSentMessages ()
+    {
+        return this.sentMessages;
+    }
+
+
+    /**
+     * Get the number of messages which were replaced by a newer value before they were sent.
+     *
+     * @return The number of messages
+     */
+    public synchronized long getCoalescedMessages ()
+    {
+        return this.coalescedMessages;
+    }
+
+
+    /**
+     * Stops draining the queue and sends all waiting messages immediately. Messages which are
+     * queued afterwards are sent immediately as well.
+     */
+    public void shutdown ()
+    {
+        this.isShutdown = true;
+        this.drainTask.cancel (false);
+        this.drain (Integer.MAX_VALUE);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void sendMidiShort (final int status, final int data1, final int data2)
+    {
+        if (this.isShutdown)
+        {
+            this.send (status, data1, data2);
+            return;
+        }
+
+        final int address = this.getAddress (status, data1);
+        final int message = status << 16 | data1 << 8 | data2;
+        synchronized (this)
+        {
+            if (this.messages[address] == EMPTY)
+            {
+                this.queue[(this.queueStart + this.queueSize) % NUM_ADDRESSES] = address;
+                this.queueSize++;
+                this.maxQueueSize = Math.max (this.maxQueueSize, this.queueSize);
+            }
+            else
+                this.coalescedMessages++;
+            this.messages[address] = message;
+        }
+    }
+
+
+    /**
+     * Send a system exclusive message directly if no other message is waiting. Otherwise, queue it
+     * behind the waiting messages.
+     *
+     * @param data The message as a byte array or a hex string
+     */
+    private void queueSysex (final Object data)
+    {
+        synchronized (this.sendLock)
+        {
+            synchronized (this)
+            {
+                if (this.queueSize > 0 || !this.sysexQueue.isEmpty ())
+                {
+                    // The array might be reused by the caller (e.g. from a SysexBuilder)
+                    final Object copy = data instanceof byte [] ? ((byte []) data).clone () : data;
+                    this.sysexQueue.add (new PendingSysex (copy, this.dequeuedMessages + this.queueSize));
+                    return;
+                }
+            }
+            this.sendSysexData (data);
+        }
+    }
+
+
+    /**
+     * Get the address of a message. Messages with the same address replace each other while they
+     * are waiting in the queue. The address is built from the status and data1 byte except for
+     * channel aftertouch and pitchbend, which use data1 for the value.
+     *
+     * @param status The status byte of the message
+     * @param data1 The data1 byte of the message
+     * @return The address in the range of 0 to 0x3FFF
+     */
+    protected int getAddress (final int status, final int data1)
+    {
+        final int address = (status & 0x7F) << 7;
+        switch (status & 0xF0)
+        {
+            case 0xD0:
+            case 0xE0:
+                return address;
+            default:
+                return address | data1 & 0x7F;
+        }
+    }
+
+
+    /**
+     * Send the next messages of the queue, limited by the maximum number of messages per drain
+     * interval.
+     */
+    private void drain ()
+    {
+        this.drain (this.messagesPerDrain);
+    }
+
+
+    /**
+     * Send the next messages of the queue.
+     *
+     * @param maxMessages The maximum number of messages to send
+     */
+    private void drain (final int maxMessages)
+    {
+        for (int i = 0; i < maxMessages; i++)
+        {
+            synchronized (this.sendLock)
+            {
+                final int message;
+                final PendingSysex sysex;
+                synchronized (this)
+                {
+                    // Send a system exclusive message once all messages queued before it are sent
+                    final PendingSysex next = this.sysexQueue.peek ();
+                    if (next != null && next.position <= this.dequeuedMessages)
+                    {
+                        sysex = this.sysexQueue.poll ();
+                        message = EMPTY;
+                    }
+                    else
+                    {
+                        if (this.queueSize == 0)
+                            return;
+                        sysex = null;
+                        final int address = this.queue[this.queueStart];
+                        this.queueStart = (this.queueStart + 1) % NUM_ADDRESSES;
+                        this.queueSize--;
+                        this.dequeuedMessages++;
+                        message = this.messages[address];
+                        this.messages[address] = EMPTY;
+                        this.sentMessages++;
+                    }
+                }
+
+                if (sysex == null)
+                    this.send (message >> 16, message >> 8 & 0xFF, message & 0xFF);
+                else
+                    this.sendSysexData (sysex.data);
+            }
+        }
+    }
+
+
+    /**
+     * Sends a system exclusive message with the matching method of the output.
+     *
+     * @param data The message as a byte array or a hex string
+     */
+    private void sendSysexData (final Object data)
+    {
+        if (data instanceof byte [])
+            this.output.sendSysex ((byte []) data);
+        else
+            this.output.sendSysex ((String) data);
+    }
+
+
+    /**
+     * Sends a short message with the matching method of the output.
+     *
+     * @param status The status byte of the message
+     * @param data1 The data1 byte of the message
+     * @param data2 The data2 byte of the message
+     */
+    private void send (final int status, final int data1, final int data2)
+    {
+        final int channel = status & 0x0F;
+        switch (status & 0xF0)
+        {
+            case 0x90:
+                this.output.sendNoteEx (channel, data1, data2);
+                break;
+            case 0xA0:
+                this.output.sendPolyphonicAftertouch (channel, data1, data2);
+                break;
+            case 0xB0:
+                this.output.sendCCEx (channel, data1, data2);
+                break;
+            case 0xD0:
+                this.output.sendChannelAftertouch (channel, data1, data2);
+                break;
+            case 0xE0:
+                this.output.sendPitchbend (channel, data1, data2);
+                break;
+            default:
+                // Not created by AbstractMidiOutputImpl
+                break;
+        }
+    }
+
+    /** A system exclusive message, which waits for the short messages queued before it. */
+    private static class PendingSysex
+    {
+        private final Object data;
+        private final long   position;
+
+
+        PendingSysex (final Object data, final long position)
+        {
+            this.data = data;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * Builds system exclusive messages directly as bytes. The header of the messages is converted only
+ * once. Since the host requires an array with the exact length of the message, one array is kept
+ * for each message length. Therefore, sending the same kind of message repeatedly does not allocate
+ * any memory. A builder is not thread safe, use one instance for each thread which sends messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    private static final int END_OF_SYSEX = 0xF7;
+
+    private final int        headerLength;
+    private byte []          buffer;
+    private int              length;
+    private byte [] []       messages     = new byte [0] [];
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of all messages as hex string, e.g. "F0 00 00 66 14 12"
+     */
+    public SysexBuilder (final String header)
+    {
+        this (toBytes (StringUtils.fromHexStr (header.replace (" ", ""))));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param header The header of all messages starting with 0xF0
+     */
+    public SysexBuilder (final byte [] header)
+    {
+        this.headerLength = header.length;
+        this.buffer = new byte [Math.max (64, header.length * 2)];
+        System.arraycopy (header, 0, this.buffer, 0, header.length);
+        this.length = this.headerLength;
+    }
+
+
+    /**
+     * Starts a new message. The header is kept.
+     *
+     * @return The builder for chaining
+     */
+    public SysexBuilder reset ()
+    {
+        this.length = this.headerLength;
+        return this;
+    }
+
+
+    /**
+     * Append a byte.
+     *
+     * @param value The value to append (0-255)
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.length++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Append several bytes.
+     *
+     * @param values The values to append (0-255)
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int [] values)
+    {
+        this.ensureCapacity (values.length);
+        for (final int value: values)
+            this.buffer[this.length++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Append several bytes.
+     *
+     * @param values The values to append
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final byte [] values)
+    {
+        this.ensureCapacity (values.length);
+        System.arraycopy (values, 0, this.buffer, this.length, values.length);
+        this.length += values.length;
+        return this;
+    }
+
+
+    /**
+     * Append the codes of all characters of a text. The characters are not converted, this is
+     * intended for devices with their own character set.
+     *
+     * @param text The text to append
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final CharSequence text)
+    {
+        return this.addText (text, 0, text.length ());
+    }
+
+
+    /**
+     * Append the codes of the characters of a part of a text. The characters are not converted,
+     * this is intended for devices with their own character set.
+     *
+     * @param text The text to append
+     * @param start The index of the first character to append
+     * @param end The index after the last character to append
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final CharSequence text, final int start, final int end)
+    {
+        this.ensureCapacity (end - start);
+        for (int i = start; i < end; i++)
+            this.buffer[this.length++] = (byte) text.charAt (i);
+        return this;
+    }
+
+
+    /**
+     * Append a part of a text. Characters which are not ASCII are replaced in the same way as
+     * {@link StringUtils#fixASCII(String)} does.
+     *
+     * @param text The text to append
+     * @param start The index of the first character to append
+     * @param end The index after the last character to append
+     * @return The builder for chaining
+     */
+    public SysexBuilder addASCII (final CharSequence text, final int start, final int end)
+    {
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            if (c > 127)
+                this.addText (StringUtils.getASCIIReplacement (c));
+            else
+                this.add (c);
+        }
+        return this;
+    }
+
+
+    /**
+     * Finishes the message and sends it. Afterwards, a new message is started.
+     *
+     * @param output The output to send the message to
+     */
+    public void send (final IMidiOutput output)
+    {
+        output.sendSysex (this.toArray ());
+        this.reset ();
+    }
+
+
+    /**
+     * Finishes the message by appending the end of system exclusive byte. The returned array is
+     * re-used by all following messages of the same length, therefore it must not be stored.
+     *
+     * @return The message
+     */
+    public byte [] toArray ()
+    {
+        this.add (END_OF_SYSEX);
+
+        if (this.length >= this.messages.length)
+        {
+            final byte [] [] newMessages = new byte [this.buffer.length + 1] [];
+            System.arraycopy (this.messages, 0, newMessages, 0, this.messages.length);
+            this.messages = newMessages;
+        }
+        byte [] message = this.messages[this.length];
+        if (message == null)
+        {
+            message = new byte [this.length];
+            this.messages[this.length] = message;
+        }
+        System.arraycopy (this.buffer, 0, message, 0, this.length);
+
+        this.length--;
+        return message;
+    }
+
+
+    private void ensureCapacity (final int additional)
+    {
+        final int required = this.length + additional;
+        if (required <= this.buffer.length)
+            return;
+        final byte [] newBuffer = new byte [Math.max (required, this.buffer.length * 2)];
+        System.arraycopy (this.buffer, 0, newBuffer, 0, this.length);
+        this.buffer = newBuffer;
+    }
+
+
+    private static byte [] toBytes (final int [] values)
+    {
+        final byte [] result = new byte [values.length];
+        for (int i = 0; i < values.length; i++)
+            result[i] = (byte) values[i];
+        return result;
+    }
+}
@@ -27,10 +27,8 @@ import de.mossgrabers.framework.utils.Pair;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 
@@ -60,40 +58,25 @@ public class DisplayModel
     /** Display a list. */
     public static final int                GRID_ELEMENT_LIST               = 8;
 
-    /** Timeout for displaying the notification message. */
-    private static final int               TIMEOUT                         = 2;
+    /** Timeout for displaying the notification message in milliseconds. */
+    private static final int               TIMEOUT                         = 2000;
 
-    private final AtomicInteger            counter                         = new AtomicInteger ();
-    private final ScheduledExecutorService executor                        = Executors.newSingleThreadScheduledExecutor ();
+    private final AtomicLong               notificationEnd                 = new AtomicLong ();
+    private final AtomicBoolean            isShutdown                      = new AtomicBoolean (false);
 
     private final List<GridChangeListener> listeners                       = new ArrayList<> ();
     private final List<IGridElement>       elements                        = new ArrayList<> (8);
     private final AtomicReference<String>  notificationMessage             = new AtomicReference<> ();
+    private final AtomicBoolean            isInvalid                       = new AtomicBoolean (false);
     private ModelInfo                      info                            = new ModelInfo (null, Collections.emptyList ());
 
 
     /**
-     * Constructor.
-     */
-    public DisplayModel ()
-    {
-        // Manage notification message display time
-        this.executor.scheduleAtFixedRate ( () -> {
-            final int c = this.counter.get ();
-            if (c <= 0)
-                return;
-            if (this.counter.decrementAndGet () == 0)
-                this.notificationMessage.set (null);
-        }, 1, 1, TimeUnit.SECONDS);
-    }
-
-
-    /**
-     * Shutdown the count down process.
+     * Shutdown the model. No further messages are sent.
      */
     public void shutdown ()
     {
-        this.executor.shutdown ();
+        this.isShutdown.set (true);
     }
 
 
@@ -109,20 +92,44 @@ public class DisplayModel
 
 
     /**
-     * Send the message to the display process.
+     * Send the message to the display process. Nothing is sent if the content has not changed
+     * since the last call.
      */
     public void send ()
     {
-        if (this.executor.isShutdown ())
+        if (this.isShutdown.get ())
+            return;
+
+        // The notification is removed with the first message after its display time
+        String notification = this.notificationMessage.get ();
+        if (notification != null && System.currentTimeMillis () >= this.notificationEnd.get ())
+        {
+            this.notificationMessage.compareAndSet (notification, null);
+            notification = null;
+        }
+        if (!this.isInvalid.getAndSet (false) && this.info.isEqual (notification, this.elements))
+        {
+            this.elements.clear ();
             return;
+        }
 
-        this.info = new ModelInfo (this.notificationMessage.get (), this.elements);
+        this.info = new ModelInfo (notification, this.elements);
         this.elements.clear ();
         for (final GridChangeListener listener: this.listeners)
             listener.gridHasChanged ();
     }
 
 
+    /**
+     * Forces that the next call to send notifies the listeners even if the content has not
+     * changed, e.g. if the colors of the display have changed.
+     */
+    public void invalidate ()
+    {
+        this.isInvalid.set (true);
+    }
+
+
     /**
      * Set a midi clip to display in a piano roll.
      *
@@ -142,7 +149,7 @@ public class DisplayModel
      */
     public void setNotificationMessage (final String message)
     {
-        this.counter.set (TIMEOUT);
+        this.notificationEnd.set (System.currentTimeMillis () + TIMEOUT);
         this.notificationMessage.set (message);
     }
 
@@ -8,6 +8,7 @@ import de.mossgrabers.framework.graphics.grid.IGridElement;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 
 /**
@@ -54,4 +55,39 @@ public class ModelInfo
     {
         return this.elements;
     }
+
+
+    /**
+     * Check if the info contains the same notification and elements. Allows to compare the info
+     * with new values without creating a new info object.
+     *
+     * @param notification The notification message, if any
+     * @param elements The elements
+     * @return True if both are equal to the ones of this info
+     */
+    public boolean isEqual (final String notification, final List<IGridElement> elements)
+    {
+        return Objects.equals (this.notification, notification) && this.elements.equals (elements);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return 31 * Objects.hashCode (this.notification) + this.elements.hashCode ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final ModelInfo other = (ModelInfo) obj;
+        return this.isEqual (other.notification, other.elements);
+    }
 }
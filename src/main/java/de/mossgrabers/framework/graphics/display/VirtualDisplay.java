@@ -10,6 +10,7 @@ import de.mossgrabers.framework.daw.resource.ResourceHandler;
 import de.mossgrabers.framework.graphics.Align;
 import de.mossgrabers.framework.graphics.IBitmap;
 import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
+import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.graphics.grid.IGridElement;
 
@@ -17,7 +18,8 @@ import java.util.List;
 
 
 /**
- * Draws the content of the display based on the model into a bitmap.
+ * Draws the content of the display based on the model into a bitmap. Only the columns of the grid
+ * which differ from the last drawn content are redrawn.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
@@ -28,6 +30,10 @@ public class VirtualDisplay
     private final IGraphicsConfiguration configuration;
     private final IGraphicsDimensions    dimensions;
 
+    private ModelInfo                    drawnInfo;
+    private boolean []                   dirtyColumns = new boolean [8];
+    private volatile boolean             isInvalid    = true;
+
 
     /**
      * Constructor.
@@ -48,17 +54,27 @@ public class VirtualDisplay
 
         this.image = host.createBitmap (dimensions.getWidth (), dimensions.getHeight ());
         this.image.setDisplayWindowTitle (windowTitle);
+    }
 
-        this.model.addGridElementChangeListener (this::redrawGrid);
+
+    /**
+     * Redraw the display. Needs to be called when the model has changed.
+     *
+     * @return True if the image has changed
+     */
+    public boolean redrawGrid ()
+    {
+        return this.drawGrid (this.image);
     }
 
 
     /**
-     * Redraw the display.
+     * Forces a complete redraw with the next update, e.g. if the colors have changed.
      */
-    public void redrawGrid ()
+    public void invalidate ()
     {
-        this.drawGrid (this.image);
+        this.isInvalid = true;
+        this.model.invalidate ();
     }
 
 
@@ -74,39 +90,138 @@ public class VirtualDisplay
 
 
     /**
-     * Draws the N grid elements of the grid.
+     * Draws the N grid elements of the grid. Only the columns which have changed are redrawn
+     * unless a notification is displayed, the number of elements has changed or an element draws
+     * outside of its column.
      *
      * @param bitmap The bitmap to draw to
+     * @return True if the image has changed
      */
-    private void drawGrid (final IBitmap bitmap)
+    private boolean drawGrid (final IBitmap bitmap)
     {
+        final ModelInfo info = this.model.getInfo ();
+        final ModelInfo previousInfo = this.drawnInfo;
+        if (info == previousInfo && !this.isInvalid)
+            return false;
+        this.drawnInfo = info;
+
+        final List<IGridElement> elements = info.getElements ();
+        final int size = elements.size ();
+        if (this.dirtyColumns.length < size)
+            this.dirtyColumns = new boolean [size];
+
+        final boolean redrawAll = this.isInvalid || this.markDirtyColumns (previousInfo, info);
+        this.isInvalid = false;
+        if (!redrawAll)
+        {
+            boolean hasChanges = false;
+            for (int i = 0; i < size; i++)
+                hasChanges |= this.dirtyColumns[i];
+            if (!hasChanges)
+                return false;
+        }
+
         bitmap.render (gc -> {
             final int width = this.dimensions.getWidth ();
             final int height = this.dimensions.getHeight ();
-            final double separatorSize = this.dimensions.getSeparatorSize ();
-
-            // Clear display
             final ColorEx colorBorder = this.configuration.getColorBorder ();
-            gc.fillRectangle (0, 0, width, height, colorBorder);
 
-            final ModelInfo info = this.model.getInfo ();
-            final List<IGridElement> elements = info.getElements ();
-            final int size = elements.size ();
-            if (size == 0)
-                return;
-            final int gridWidth = width / size;
-            final double paintWidth = gridWidth - separatorSize;
-            final double offsetX = separatorSize / 2.0;
+            if (redrawAll)
+            {
+                // Clear display
+                gc.fillRectangle (0, 0, width, height, colorBorder);
+                if (size == 0)
+                    return;
 
-            for (int i = 0; i < size; i++)
-                elements.get (i).draw (gc, this.configuration, this.dimensions, i * gridWidth + offsetX, paintWidth, height);
+                this.drawElements (gc, elements, 0, size - 1);
+
+                final String notification = info.getNotification ();
+                if (notification == null)
+                    return;
 
-            final String notification = info.getNotification ();
-            if (notification == null)
+                final ColorEx colorText = this.configuration.getColorText ();
+                gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
                 return;
+            }
 
-            final ColorEx colorText = this.configuration.getColorText ();
-            gc.drawTextInBounds (notification, 0, 0, width, height, Align.CENTER, colorText, colorBorder, height / 4.0);
+            // Redraw all consecutive dirty columns together. The neighbours are drawn as well
+            // since the elements draw into the separators
+            final int gridWidth = width / size;
+            int start = 0;
+            while (start < size)
+            {
+                if (!this.dirtyColumns[start])
+                {
+                    start++;
+                    continue;
+                }
+                int end = start;
+                while (end + 1 < size && this.dirtyColumns[end + 1])
+                    end++;
+
+                final int clipLeft = start * gridWidth;
+                final int clipRight = end == size - 1 ? width : (end + 1) * gridWidth;
+                gc.setClip (clipLeft, 0, clipRight - clipLeft, height);
+                gc.fillRectangle (clipLeft, 0, clipRight - clipLeft, height, colorBorder);
+                this.drawElements (gc, elements, Math.max (0, start - 1), Math.min (size - 1, end + 1));
+                gc.resetClip ();
+
+                start = end + 1;
+            }
         });
+        return true;
+    }
+
+
+    /**
+     * Compares the elements with the previously drawn ones and marks the columns which need to be
+     * redrawn.
+     *
+     * @param previousInfo The info which was drawn before, might be null
+     * @param info The info to draw
+     * @return True if the whole display needs to be redrawn
+     */
+    private boolean markDirtyColumns (final ModelInfo previousInfo, final ModelInfo info)
+    {
+        // A notification covers all columns
+        if (previousInfo == null || previousInfo.getNotification () != null || info.getNotification () != null)
+            return true;
+
+        final List<IGridElement> elements = info.getElements ();
+        final List<IGridElement> previousElements = previousInfo.getElements ();
+        final int size = elements.size ();
+        if (previousElements.size () != size)
+            return true;
+
+        for (int i = 0; i < size; i++)
+        {
+            final IGridElement element = elements.get (i);
+            final IGridElement previousElement = previousElements.get (i);
+            if (element.drawsOutsideBounds () || previousElement.drawsOutsideBounds ())
+                return true;
+            this.dirtyColumns[i] = !element.equals (previousElement);
+        }
+        return false;
+    }
+
+
+    /**
+     * Draws a range of the grid elements.
+     *
+     * @param gc The graphics context
+     * @param elements All elements of the grid
+     * @param first The index of the first element to draw
+     * @param last The index of the last element to draw
+     */
+    private void drawElements (final IGraphicsContext gc, final List<IGridElement> elements, final int first, final int last)
+    {
+        final int gridWidth = this.dimensions.getWidth () / elements.size ();
+        final double separatorSize = this.dimensions.getSeparatorSize ();
+        final double paintWidth = gridWidth - separatorSize;
+        final double offsetX = separatorSize / 2.0;
+        final int height = this.dimensions.getHeight ();
+
+        for (int i = first; i <= last; i++)
+            elements.get (i).draw (gc, this.configuration, this.dimensions, i * gridWidth + offsetX, paintWidth, height);
     }
 }
@@ -126,4 +126,22 @@ public class ClipListGridElement extends AbstractGridElement
             gc.strokeRectangle (itemLeft, itemTop + separatorSize, itemWidth, itemHeight - 2 * separatorSize, color, slot.isSelected () ? 2 : 1);
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return System.identityHashCode (this);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        // Draws the current state of the DAW objects, therefore it is never equal to a previous
+        // element
+        return this == obj;
+    }
 }
@@ -27,4 +27,14 @@ public interface IGridElement
      * @param height The height of the drawing area of the element
      */
     void draw (final IGraphicsContext gc, final IGraphicsConfiguration configuration, IGraphicsDimensions dimensions, final double left, final double width, final double height);
+
+
+    /**
+     * Returns true if the element draws outside of its drawing area (apart from the separators to
+     * its neighbours), e.g. a header text which spans several elements. Such elements prevent that
+     * single elements of the grid are redrawn.
+     *
+     * @return True if the element draws outside of its bounds
+     */
+    boolean drawsOutsideBounds ();
 }
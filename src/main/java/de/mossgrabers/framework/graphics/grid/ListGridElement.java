@@ -63,4 +63,20 @@ public class ListGridElement extends AbstractGridElement
             gc.drawTextInBounds (item.getKey (), itemLeft + inset, itemTop, itemWidth - 2 * inset, itemHeight, Align.LEFT, isSelected ? borderColor : textColor, itemHeight / 2);
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return 31 * super.hashCode () + this.items.hashCode ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        return super.equals (obj) && this.items.equals (((ListGridElement) obj).items);
+    }
 }
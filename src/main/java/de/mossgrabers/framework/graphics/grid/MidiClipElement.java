@@ -13,9 +13,14 @@ import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.util.Arrays;
+import java.util.Objects;
+
 
 /**
- * An element which displays the notes of a midi clip.
+ * An element which displays the notes of a midi clip. The element stores the state of the clip
+ * when it is created (including the version of its step data), therefore it is only redrawn if
+ * the clip changed.
  *
  * Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
  *
@@ -31,6 +36,18 @@ public class MidiClipElement extends AbstractGridElement
     private final INoteClip      clip;
     private int                  quartersPerMeasure;
 
+    // The state of the clip at creation time to detect changes
+    private final long           stepDataVersion;
+    private final int            editPage;
+    private final double         stepLength;
+    private final boolean        isLoopEnabled;
+    private final double         loopStart;
+    private final double         loopLength;
+    private final double         playStart;
+    private final double         playEnd;
+    private final double []      color;
+    private final int            currentStep;
+
 
     /**
      * Constructor.
@@ -43,6 +60,17 @@ public class MidiClipElement extends AbstractGridElement
         super (null, false, null, null, null, false);
         this.clip = clip;
         this.quartersPerMeasure = quartersPerMeasure;
+
+        this.stepDataVersion = clip.getStepDataVersion ();
+        this.editPage = clip.getEditPage ();
+        this.stepLength = clip.getStepLength ();
+        this.isLoopEnabled = clip.isLoopEnabled ();
+        this.loopStart = clip.getLoopStart ();
+        this.loopLength = clip.getLoopLength ();
+        this.playStart = clip.getPlayStart ();
+        this.playEnd = clip.getPlayEnd ();
+        this.color = clip.getColor ();
+        this.currentStep = clip.getCurrentStep ();
     }
 
 
@@ -167,4 +195,25 @@ public class MidiClipElement extends AbstractGridElement
         if (playStep >= 0)
             gc.fillRectangle (left + playStep * stepWidth - 1, 0, 3, height, ColorEx.WHITE);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        final int result = super.hashCode ();
+        return prime * result + Objects.hash (this.clip, Integer.valueOf (this.quartersPerMeasure), Long.valueOf (this.stepDataVersion), Integer.valueOf (this.editPage), Integer.valueOf (this.currentStep), Double.valueOf (this.playStart), Double.valueOf (this.playEnd));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final MidiClipElement other = (MidiClipElement) obj;
+        return this.clip == other.clip && this.quartersPerMeasure == other.quartersPerMeasure && this.stepDataVersion == other.stepDataVersion && this.editPage == other.editPage && this.currentStep == other.currentStep && this.isLoopEnabled == other.isLoopEnabled && Double.compare (this.stepLength, other.stepLength) == 0 && Double.compare (this.loopStart, other.loopStart) == 0 && Double.compare (this.loopLength, other.loopLength) == 0 && Double.compare (this.playStart, other.playStart) == 0 && Double.compare (this.playEnd, other.playEnd) == 0 && Arrays.equals (this.color, other.color);
+    }
 }
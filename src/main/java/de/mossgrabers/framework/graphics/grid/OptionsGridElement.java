@@ -10,6 +10,8 @@ import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 
+import java.util.Objects;
+
 
 /**
  * An element in the grid which can display on option on top and on the bottom of the element. In
@@ -113,4 +115,34 @@ public class OptionsGridElement extends AbstractGridElement
         gc.fillRectangle (left, top, width, height, backgroundColor);
         gc.drawTextInBounds (menu, left, top, width, height, Align.CENTER, ColorEx.calcContrastColor (backgroundColor), height / 2);
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean drawsOutsideBounds ()
+    {
+        // The header texts may span multiple grids
+        return this.headerTop != null && this.headerTop.length () > 0 || this.headerBottom != null && this.headerBottom.length () > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        final int result = super.hashCode ();
+        return prime * result + Objects.hash (this.headerBottom, this.headerTop, this.menuBottomName, Boolean.valueOf (this.isMenuBottomSelected), Boolean.valueOf (this.useSmallTopMenu), this.menuTopColor, this.menuBottomColor, Boolean.valueOf (this.isBottomHeaderSelected));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final OptionsGridElement other = (OptionsGridElement) obj;
+        return this.isMenuBottomSelected == other.isMenuBottomSelected && this.useSmallTopMenu == other.useSmallTopMenu && this.isBottomHeaderSelected == other.isBottomHeaderSelected && Objects.equals (this.headerTop, other.headerTop) && Objects.equals (this.headerBottom, other.headerBottom) && Objects.equals (this.menuBottomName, other.menuBottomName) && Objects.equals (this.menuTopColor, other.menuTopColor) && Objects.equals (this.menuBottomColor, other.menuBottomColor);
+    }
 }
@@ -164,4 +164,26 @@ public class SelectionGridElement extends AbstractGridElement
     {
         return configuration.getColorText ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = super.hashCode ();
+        result = prime * result + (this.type == null ? 0 : this.type.hashCode ());
+        return prime * result + (this.isActive ? 1231 : 1237);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final SelectionGridElement other = (SelectionGridElement) obj;
+        return this.type == other.type && this.isActive == other.isActive;
+    }
 }
@@ -11,6 +11,8 @@ import de.mossgrabers.framework.graphics.IGraphicsConfiguration;
 import de.mossgrabers.framework.graphics.IGraphicsContext;
 import de.mossgrabers.framework.graphics.IGraphicsDimensions;
 
+import java.util.Arrays;
+
 
 /**
  * An element in the grid which contains a menu and a channels' sends 1-4 or 5-8.
@@ -134,4 +136,27 @@ public class SendsGridElement extends SelectionGridElement
             topy += sendRowHeight;
         }
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        final int prime = 31;
+        int result = super.hashCode ();
+        result = prime * result + Arrays.hashCode (this.sendData);
+        result = prime * result + (this.isExMode ? 1231 : 1237);
+        return prime * result + (this.isSendActive ? 1231 : 1237);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (!super.equals (obj))
+            return false;
+        final SendsGridElement other = (SendsGridElement) obj;
+        return this.isExMode == other.isExMode && this.isSendActive == other.isSendActive && Arrays.equals (this.sendData, other.sendData);
+    }
 }
@@ -9,6 +9,8 @@ import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IBank;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.IItem;
+import de.mossgrabers.framework.observer.ObserverManagement;
+import de.mossgrabers.framework.observer.ObserverSubscriptions.Subscription;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
@@ -39,6 +41,8 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     protected boolean          isTemporary;
     protected boolean          isAbsolute;
 
+    private Subscription       observerSubscription;
+
 
     /**
      * Constructor.
@@ -97,6 +101,27 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        if (this.observerSubscription != null)
+            this.observerSubscription.setActive (enable);
+    }
+
+
+    /**
+     * Declare the model areas, which the mode reads. Their observers are disabled until the mode
+     * (or another one which reads them) is activated.
+     *
+     * @param areas The model areas, e.g. the arranger or the groove
+     */
+    protected void setObserverDependencies (final ObserverManagement... areas)
+    {
+        this.observerSubscription = this.model.getObserverSubscriptions ().createSubscription (areas);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateDisplay ()
@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.mode;
 
+import de.mossgrabers.framework.observer.ObserverManagement;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
@@ -11,11 +12,12 @@ import de.mossgrabers.framework.utils.ButtonEvent;
  * Interface to a mode. A mode has a number of knobs, one or two rows of buttons to navigate it and
  * optionally a display. Furthermore, a mode (normally) edits N items (e.g. track volume, pan,
  * device parameter). Items are organized in pages. The number of items on a page should be
- * identical to the number of knobs and buttons of a row.
+ * identical to the number of knobs and buttons of a row. The observers of the model areas a mode
+ * reads are enabled by the mode manager only while the mode is active.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface Mode
+public interface Mode extends ObserverManagement
 {
     /**
      * Get the name of the mode.
@@ -83,11 +83,11 @@ public class ModeManager
         // Deactivate the current temporary or active mode
         if (this.temporaryModeId != null)
         {
-            this.getMode (this.temporaryModeId).onDeactivate ();
+            deactivate (this.getMode (this.temporaryModeId));
             this.temporaryModeId = null;
         }
         else if (this.activeModeId != null)
-            this.getMode (this.activeModeId).onDeactivate ();
+            deactivate (this.getMode (this.activeModeId));
 
         // Activate the new temporary or active mode
         if (id == null)
@@ -102,10 +102,13 @@ public class ModeManager
                 this.temporaryModeId = id;
             else
             {
+                // The active mode is replaced while a temporary mode was shown on top of it
+                if (this.activeModeId != null && !this.activeModeId.equals (id))
+                    this.getMode (this.activeModeId).enableObservers (false);
                 this.previousModeId = this.activeModeId;
                 this.activeModeId = id;
             }
-            newMode.onActivate ();
+            activate (newMode);
         }
 
         this.notifyObservers (this.previousModeId, this.getActiveOrTempModeId ());
@@ -192,7 +195,7 @@ public class ModeManager
         if (this.temporaryModeId != null)
         {
             oldModeId = this.temporaryModeId;
-            this.getMode (this.temporaryModeId).onDeactivate ();
+            deactivate (this.getMode (this.temporaryModeId));
             this.temporaryModeId = null;
             Mode mode = this.getMode (this.activeModeId);
             if (mode == null)
@@ -200,12 +203,12 @@ public class ModeManager
                 this.activeModeId = this.defaultModeId;
                 mode = this.getMode (this.activeModeId);
             }
-            mode.onActivate ();
+            activate (mode);
         }
         else if (this.previousModeId != null)
         {
             oldModeId = this.activeModeId;
-            this.getMode (this.activeModeId).onDeactivate ();
+            deactivate (this.getMode (this.activeModeId));
             this.activeModeId = this.previousModeId;
             Mode mode = this.getMode (this.activeModeId);
             if (mode == null)
@@ -213,7 +216,7 @@ public class ModeManager
                 this.activeModeId = this.defaultModeId;
                 mode = this.getMode (this.activeModeId);
             }
-            mode.onActivate ();
+            activate (mode);
         }
 
         if (oldModeId != null)
@@ -254,4 +257,28 @@ public class ModeManager
         for (final ModeChangeListener listener: this.modeChangeListeners)
             listener.call (oldMode, newMode);
     }
+
+
+    /**
+     * Enable the observers the mode reads and activate it.
+     *
+     * @param mode The mode
+     */
+    private static void activate (final Mode mode)
+    {
+        mode.enableObservers (true);
+        mode.onActivate ();
+    }
+
+
+    /**
+     * Deactivate the mode and disable the observers it reads.
+     *
+     * @param mode The mode
+     */
+    private static void deactivate (final Mode mode)
+    {
+        mode.onDeactivate ();
+        mode.enableObservers (false);
+    }
 }
@@ -31,6 +31,8 @@ public class BrowserMode<S extends IControlSurface<C>, C extends Configuration>
     {
         super ("Browser", surface, model, false);
         this.isTemporary = false;
+
+        this.setObserverDependencies (model.getBrowser ());
     }
 
 
@@ -0,0 +1,24 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+/**
+ * Callback interface for observing all notes of a track at once. The 128 notes are stored as bits
+ * in two longs: note n is bit (n % 64) of element (n / 64).
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface NoteMaskObserver
+{
+    /**
+     * The callback function. The arrays are reused and only valid during the call.
+     *
+     * @param trackIndex The index of the track on which the notes are playing
+     * @param playingNotes The bits of all currently playing notes
+     * @param changedNotes The bits of all notes which were started or stopped since the last call
+     */
+    void call (int trackIndex, long [] playingNotes, long [] changedNotes);
+}
@@ -0,0 +1,118 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.observer;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Enables the observers of model areas (e.g. the arranger or the groove) only while they are
+ * needed. Modes and views declare the areas they read as a subscription. An area is enabled as long
+ * as at least one of its subscriptions is active and disabled when the last one is deactivated.
+ * Areas which are not part of any subscription are not touched and stay enabled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ObserverSubscriptions
+{
+    private final Map<ObserverManagement, int []> counters = new IdentityHashMap<> ();
+
+
+    /**
+     * Create a subscription for some model areas. The areas are disabled until a subscription,
+     * which contains them, is activated.
+     *
+     * @param areas The model areas, null entries (areas which are not present in the model) are
+     *            ignored
+     * @return The subscription, which is inactive
+     */
+    public Subscription createSubscription (final ObserverManagement... areas)
+    {
+        final List<ObserverManagement> presentAreas = new ArrayList<> (areas.length);
+        for (final ObserverManagement area: areas)
+        {
+            if (area == null)
+                continue;
+            presentAreas.add (area);
+            if (this.counters.containsKey (area))
+                continue;
+            this.counters.put (area, new int [1]);
+            area.enableObservers (false);
+        }
+        return new Subscription (presentAreas.toArray (new ObserverManagement [presentAreas.size ()]));
+    }
+
+
+    /**
+     * Get if the observers of a model area are currently enabled by an active subscription.
+     *
+     * @param area The model area
+     * @return True if the area is part of a subscription and at least one of them is active
+     */
+    public boolean isEnabled (final ObserverManagement area)
+    {
+        final int [] counter = this.counters.get (area);
+        return counter != null && counter[0] > 0;
+    }
+
+
+    private void activate (final ObserverManagement [] areas, final boolean enable)
+    {
+        for (final ObserverManagement area: areas)
+        {
+            final int [] counter = this.counters.get (area);
+            if (enable)
+            {
+                if (counter[0]++ == 0)
+                    area.enableObservers (true);
+            }
+            else if (--counter[0] == 0)
+                area.enableObservers (false);
+        }
+    }
+
+
+    /** The model areas read by one mode or view. */
+    public class Subscription
+    {
+        private final ObserverManagement [] areas;
+        private boolean                     isActive;
+
+
+        Subscription (final ObserverManagement [] areas)
+        {
+            this.areas = areas;
+        }
+
+
+        /**
+         * Activate or deactivate the subscription. Activating an active subscription (or
+         * deactivating an inactive one) does nothing.
+         *
+         * @param isActive True to activate
+         */
+        public void setActive (final boolean isActive)
+        {
+            if (this.isActive == isActive)
+                return;
+            this.isActive = isActive;
+            ObserverSubscriptions.this.activate (this.areas, isActive);
+        }
+
+
+        /**
+         * Get if the subscription is active.
+         *
+         * @return True if active
+         */
+        public boolean isActive ()
+        {
+            return this.isActive;
+        }
+    }
+}
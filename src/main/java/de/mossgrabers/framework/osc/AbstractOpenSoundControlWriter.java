@@ -8,7 +8,9 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.StringUtils;
 
+import java.io.Closeable;
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -17,20 +19,36 @@ import java.util.Map;
 
 
 /**
- * Base class for sending OSC messages to an OSC server.
+ * Base class for sending OSC messages to one or several OSC servers (the clients of the DAW, e.g.
+ * tablets). The writer owns the connections to the clients. Changed values are detected once and
+ * the resulting message is created once. It is sent to the clients for which the subtree of the
+ * value is active (see OpenSoundControlSubscriptions). For each address the writer remembers the
+ * clients which missed its last change, they receive the current value once the subtree is active
+ * for them again. Values which are only sent due to a dump are only sent to the clients which
+ * requested it.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
-    protected final IHost                          host;
-    protected final IModel                         model;
-    protected final IOpenSoundControlConfiguration configuration;
+    /** The maximum number of clients, limited by the bits of the client masks. */
+    private static final int                        MAX_CLIENTS     = 64;
 
-    protected final IOpenSoundControlClient        oscClient;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final IHost                           host;
+    protected final IModel                          model;
+    protected final IOpenSoundControlConfiguration  configuration;
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    protected final Map<String, Object>             oldValues       = new HashMap<> ();
+    protected final OpenSoundControlAddressRegistry addressRegistry = new OpenSoundControlAddressRegistry ();
+    protected final OpenSoundControlSubscriptions   subscriptions   = new OpenSoundControlSubscriptions ();
+
+    private final List<IOpenSoundControlMessage>    messages        = new ArrayList<> ();
+    private final Client []                         clients         = new Client [MAX_CLIENTS];
+    private long                                    connectedClients;
+    private long                                    activeClients;
+    private long                                    dumpClients;
+    private int                                     messagesSize;
+    private int                                     dumpedParts;
 
 
     /**
@@ -38,35 +56,49 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
      *
      * @param host The host
      * @param model The model
-     * @param oscClient The OSC client to write to
      * @param configuration The OSC configuration
      */
-    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlClient oscClient, final IOpenSoundControlConfiguration configuration)
+    protected AbstractOpenSoundControlWriter (final IHost host, final IModel model, final IOpenSoundControlConfiguration configuration)
     {
         this.host = host;
         this.model = model;
-        this.oscClient = oscClient;
         this.configuration = configuration;
     }
 
 
     /**
-     * Send all collected messages.
+     * Send all collected messages. The messages which all clients need are encoded into one list
+     * and sent to each client, all other messages only to the clients which need them.
      */
     public void flush ()
     {
         synchronized (this.messages)
         {
-            try
+            this.endSubtree ();
+            this.dumpedParts = 0;
+            if (this.messagesSize == 0)
+                return;
+            this.messagesSize = 0;
+
+            this.logMessages (this.messages);
+            for (final Client client: this.clients)
             {
-                this.logMessages (this.messages);
-                this.oscClient.sendBundle (this.messages);
+                if (client == null)
+                    continue;
+                this.logMessages (client.messages);
+                try
+                {
+                    if (!this.messages.isEmpty ())
+                        client.oscClient.sendBundle (this.messages);
+                    if (!client.messages.isEmpty ())
+                        client.oscClient.sendBundle (client.messages);
+                }
+                catch (final IOException ex)
+                {
+                    this.model.getHost ().error ("Could not send UDP message.", ex);
+                }
+                client.messages.clear ();
             }
-            catch (final IOException ex)
-            {
-                this.model.getHost ().error ("Could not send UDP message.", ex);
-            }
-
             this.messages.clear ();
         }
     }
@@ -91,6 +123,271 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe (final InetSocketAddress sender, final String pattern, final double maxRate)
+    {
+        synchronized (this.messages)
+        {
+            this.subscriptions.subscribe (pattern, maxRate, this.getClients (sender));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void unsubscribe (final InetSocketAddress sender, final String pattern)
+    {
+        synchronized (this.messages)
+        {
+            this.subscriptions.unsubscribe (pattern, this.getClients (sender));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void requestDump (final InetSocketAddress sender)
+    {
+        synchronized (this.messages)
+        {
+            this.subscriptions.requestDump (this.getClients (sender));
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addClient (final String host, final int port)
+    {
+        synchronized (this.messages)
+        {
+            int index = this.findClient (host, port);
+            if (index < 0)
+            {
+                index = this.findClient (null, -1);
+                if (index < 0)
+                {
+                    this.host.error ("Maximum number of OSC clients reached.");
+                    return;
+                }
+                final IOpenSoundControlClient oscClient = this.host.connectToOSCServer (host, port, this.configuration.getMaxPacketSize ());
+                if (oscClient == null)
+                    return;
+                this.clients[index] = new Client (oscClient, host, port);
+                this.connectedClients |= 1L << index;
+            }
+
+            // Only the new client needs all values
+            this.subscriptions.requestDump (1L << index);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeClient (final String host, final int port)
+    {
+        synchronized (this.messages)
+        {
+            final int index = this.findClient (host, port);
+            if (index >= 0)
+                this.closeClient (index);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
+    {
+        synchronized (this.messages)
+        {
+            for (int i = 0; i < this.clients.length; i++)
+            {
+                if (this.clients[i] != null)
+                    this.closeClient (i);
+            }
+        }
+    }
+
+
+    /**
+     * Remove a client, its subscriptions and pending dumps and close its connection.
+     *
+     * @param index The index of the client
+     */
+    private void closeClient (final int index)
+    {
+        final IOpenSoundControlClient oscClient = this.clients[index].oscClient;
+        this.clients[index] = null;
+        this.connectedClients &= ~(1L << index);
+        this.subscriptions.removeClients (1L << index);
+        if (oscClient instanceof Closeable)
+        {
+            try
+            {
+                ((Closeable) oscClient).close ();
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not close UDP channel.", ex);
+            }
+        }
+    }
+
+
+    /**
+     * Find the index of a client.
+     *
+     * @param host The host of the client, null to find an empty slot
+     * @param port The port of the client
+     * @return The index or -1 if not found
+     */
+    private int findClient (final String host, final int port)
+    {
+        for (int i = 0; i < this.clients.length; i++)
+        {
+            final Client client = this.clients[i];
+            if (host == null ? client == null : client != null && host.equals (client.host) && port == client.port)
+                return i;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Get the client from which a message was received. Clients often send from a different port
+     * than the one they receive on, therefore a client on the same host is used if no client
+     * matches the port as well.
+     *
+     * @param sender The address from which the message was received, might be null
+     * @return The bit mask of the client, all clients if the sender is not a known client
+     */
+    private long getClients (final InetSocketAddress sender)
+    {
+        if (sender == null || sender.getAddress () == null)
+            return OpenSoundControlSubscriptions.ALL_CLIENTS;
+
+        int index = -1;
+        for (int i = 0; i < this.clients.length; i++)
+        {
+            final Client client = this.clients[i];
+            if (client == null || !sender.getAddress ().equals (client.address.getAddress ()))
+                continue;
+            if (sender.getPort () == client.port)
+                return 1L << i;
+            if (index < 0)
+                index = i;
+        }
+        return index < 0 ? OpenSoundControlSubscriptions.ALL_CLIENTS : 1L << index;
+    }
+
+
+    /**
+     * Get the clients which are connected.
+     *
+     * @return The bit mask of the client indices
+     */
+    protected long getConnectedClients ()
+    {
+        synchronized (this.messages)
+        {
+            return this.connectedClients;
+        }
+    }
+
+
+    /**
+     * Start to flush the values of a subtree. The changed values are sent to the clients for which
+     * the subtree is active. The next subtree or endSubtree ends the flush of the subtree.
+     *
+     * @param subtree The ID of the subtree
+     * @return True if the values of the subtree need to be flushed since it is active for at least
+     *         one client or has a pending dump
+     */
+    protected boolean startSubtree (final int subtree)
+    {
+        synchronized (this.messages)
+        {
+            this.activeClients = this.subscriptions.getActiveClients (subtree) & this.connectedClients;
+            this.dumpClients = 0;
+            return this.activeClients != 0 || this.subscriptions.isDumpPending (subtree);
+        }
+    }
+
+
+    /**
+     * End the flush of a subtree. The following values are sent to all clients.
+     */
+    protected void endSubtree ()
+    {
+        synchronized (this.messages)
+        {
+            this.activeClients = this.connectedClients;
+            this.dumpClients = 0;
+        }
+    }
+
+
+    /**
+     * Test if the pending dump of a subtree should be sent now. Dumps are spread over several
+     * flushes: once the collected messages exceed the budget, no further dump is started until the
+     * next flush. At least one dump is started per flush. If true is returned the dump is marked
+     * as done.
+     *
+     * @param subtree The ID of the subtree
+     * @param budget The maximum number of bytes to collect before dumps are postponed, 0 to send
+     *            all pending dumps at once
+     * @return True if all values of the subtree need to be sent
+     */
+    protected boolean isDumpDue (final int subtree, final int budget)
+    {
+        synchronized (this.messages)
+        {
+            this.dumpClients = 0;
+            if (!this.subscriptions.isDumpPending (subtree) || this.isBudgetExceeded (budget))
+                return false;
+            this.dumpedParts++;
+            this.dumpClients = this.subscriptions.dumpDone (subtree);
+        }
+        return true;
+    }
+
+
+    /**
+     * Test if an item (e.g. a track) of the pending dump of a subtree should be sent now. Works
+     * like isDumpDue for a whole subtree but the budget is checked before each item, therefore a
+     * large subtree is spread over several flushes as well. All items of the subtree need to be
+     * tested in ascending order in each flush.
+     *
+     * @param subtree The ID of the subtree
+     * @param item The index of the item
+     * @param numItems The number of items of the subtree
+     * @param budget The maximum number of bytes to collect before dumps are postponed, 0 to send
+     *            all pending dumps at once
+     * @return True if all values of the item need to be sent
+     */
+    protected boolean isDumpDue (final int subtree, final int item, final int numItems, final int budget)
+    {
+        synchronized (this.messages)
+        {
+            this.dumpClients = 0;
+            if (!this.subscriptions.isDumpPending (subtree, item, numItems) || this.isBudgetExceeded (budget))
+                return false;
+            this.dumpedParts++;
+            this.dumpClients = this.subscriptions.dumpDone (subtree, item, numItems);
+        }
+        return true;
+    }
+
+
+    private boolean isBudgetExceeded (final int budget)
+    {
+        return budget > 0 && this.dumpedParts > 0 && this.messagesSize >= budget;
+    }
+
+
     protected void fastSendOSC (final String address, final List<Object> parameters)
     {
         this.sendOSC (address, parameters, true);
@@ -138,6 +435,91 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     }
 
 
+    protected void sendOSCColor (final int addressID, final double red, final double green, final double blue, final boolean dump)
+    {
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        final long receivers = this.getReceivers (addressID, this.addressRegistry.update (addressID, r << 16 | g << 8 | b), dump);
+        if (receivers != 0)
+            this.addMessage (addressID, "rgb(" + r + "," + g + "," + b + ")", receivers);
+    }
+
+
+    protected void sendOSC (final int addressID, final boolean value, final boolean dump)
+    {
+        this.sendOSC (addressID, value ? 1 : 0, dump);
+    }
+
+
+    protected void sendOSC (final int addressID, final double value, final boolean dump)
+    {
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        final long receivers = this.getReceivers (addressID, this.addressRegistry.update (addressID, floatValue), dump);
+        if (receivers != 0)
+            this.addMessage (addressID, Float.valueOf (floatValue), receivers);
+    }
+
+
+    protected void sendOSC (final int addressID, final int value, final boolean dump)
+    {
+        final long receivers = this.getReceivers (addressID, this.addressRegistry.update (addressID, value), dump);
+        if (receivers != 0)
+            this.addMessage (addressID, Integer.valueOf (value), receivers);
+    }
+
+
+    protected void sendOSC (final int addressID, final String value, final boolean dump)
+    {
+        final long receivers = this.getReceivers (addressID, this.addressRegistry.update (addressID, (Object) value), dump);
+        if (receivers != 0)
+            this.addMessage (addressID, StringUtils.fixASCII (value), receivers);
+    }
+
+
+    /**
+     * Get the clients which need the value of a registered address. These are the clients for
+     * which the current subtree is active and which did not receive the value yet as well as the
+     * clients which need a dump. The clients which do not receive a changed value are remembered
+     * for the address.
+     *
+     * @param addressID The ID of the address of the OSC message
+     * @param changed True if the value is different from the one of the last flush
+     * @param dump True to send the value to the clients which need a dump
+     * @return The bit mask of the clients which need the value, 0 if no message needs to be sent
+     */
+    protected long getReceivers (final int addressID, final boolean changed, final boolean dump)
+    {
+        synchronized (this.messages)
+        {
+            final long missed = this.addressRegistry.getMissedClients (addressID);
+            final long receivers = (changed ? this.activeClients : this.activeClients & missed) | this.getDumpReceivers (dump);
+            final long newMissed = (changed ? this.connectedClients : missed) & ~receivers;
+            if (newMissed != missed)
+                this.addressRegistry.setMissedClients (addressID, newMissed);
+            return receivers;
+        }
+    }
+
+
+    /**
+     * Adds a message for a registered address to the messages list. The message will be sent when
+     * flush gets called.
+     *
+     * @param addressID The ID of the address of the OSC message
+     * @param value The value of the OSC message
+     * @param receivers The bit mask of the clients which need the message, see getReceivers
+     */
+    protected void addMessage (final int addressID, final Object value, final long receivers)
+    {
+        synchronized (this.messages)
+        {
+            this.addMessage (this.host.createOSCMessage (this.addressRegistry.getAddress (addressID), Collections.singletonList (value)), receivers);
+        }
+    }
+
+
     /**
      * Tests if the vlaue(s) of given message is identical to that of the cache. If this is not the
      * case or if dump is true, the message is added to the messages list.The message will be sent
@@ -152,20 +534,57 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     @SuppressWarnings("unchecked")
     protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
+        final boolean changed = !compareValues (this.oldValues.get (cacheAddress), testValue);
+        if (!changed && !dump)
             return;
-        this.oldValues.put (cacheAddress, testValue);
+        if (changed)
+            this.oldValues.put (cacheAddress, testValue);
         synchronized (this.messages)
         {
+            final long receivers = (changed ? this.activeClients : 0) | this.getDumpReceivers (dump);
+            if (receivers == 0)
+                return;
             final Object converted = convertBooleanToInt (value);
-            this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
+            this.addMessage (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)), receivers);
+        }
+    }
+
+
+    /**
+     * Get the clients which need a dumped value. Outside of a subtree a dumped value is sent to
+     * all clients.
+     *
+     * @param dump True if the value is dumped
+     * @return The bit mask of the clients
+     */
+    private long getDumpReceivers (final boolean dump)
+    {
+        if (!dump)
+            return 0;
+        return this.dumpClients == 0 ? this.connectedClients : this.dumpClients & this.connectedClients;
+    }
+
+
+    private void addMessage (final IOpenSoundControlMessage message, final long receivers)
+    {
+        this.messagesSize += OpenSoundControlEncoder.getSize (message);
+        final long clientMask = receivers & this.connectedClients;
+        if (clientMask == this.connectedClients)
+        {
+            this.messages.add (message);
+            return;
+        }
+        for (int i = 0; i < this.clients.length; i++)
+        {
+            if ((clientMask & 1L << i) != 0)
+                this.clients[i].messages.add (message);
         }
     }
 
 
     protected boolean isConnected ()
     {
-        return this.oscClient != null;
+        return this.getConnectedClients () != 0;
     }
 
 
@@ -264,4 +683,24 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     {
         return false;
     }
+
+
+    /** An OSC server to which the values are sent. */
+    private static class Client
+    {
+        private final IOpenSoundControlClient        oscClient;
+        private final String                         host;
+        private final int                            port;
+        private final InetSocketAddress              address;
+        private final List<IOpenSoundControlMessage> messages = new ArrayList<> ();
+
+
+        Client (final IOpenSoundControlClient oscClient, final String host, final int port)
+        {
+            this.oscClient = oscClient;
+            this.host = host;
+            this.port = port;
+            this.address = new InetSocketAddress (host, port);
+        }
+    }
 }
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.osc;
 
+import java.net.InetSocketAddress;
+
+
 /**
  * Interface for a callback to handle OSC messages.
  *
@@ -15,6 +18,7 @@ public interface IOpenSoundControlCallback
      * Handle an OSC message.
      *
      * @param message The message to handle
+     * @param sender The address from which the message was received, null if unknown
      */
-    void handle (IOpenSoundControlMessage message);
+    void handle (IOpenSoundControlMessage message, InetSocketAddress sender);
 }
@@ -33,4 +33,13 @@ public interface IOpenSoundControlConfiguration
      * @return True to enable filtering
      */
     boolean filterHeartbeatMessages ();
+
+
+    /**
+     * Get the maximum size of an UDP packet. Bundles are split into several packets to stay below
+     * it.
+     *
+     * @return The size in bytes
+     */
+    int getMaxPacketSize ();
 }
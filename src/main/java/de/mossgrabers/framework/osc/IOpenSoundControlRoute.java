@@ -0,0 +1,23 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * Interface for a handler of an OSC address, which was registered at a router.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IOpenSoundControlRoute
+{
+    /**
+     * Handle a message which matched the address pattern of the route.
+     *
+     * @param indices The numbers of the index placeholders of the pattern in the order of their
+     *            appearance, the array is reused and only valid during the call
+     * @param message The message to handle
+     */
+    void handle (int [] indices, IOpenSoundControlMessage message);
+}
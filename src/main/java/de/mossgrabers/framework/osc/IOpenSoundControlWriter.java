@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.osc;
 
+import java.net.InetSocketAddress;
+
+
 /**
  * Interface for sending OSC messages.
  *
@@ -34,4 +37,60 @@ public interface IOpenSoundControlWriter
      * @param address The OSC address
      */
     void fastSendOSC (String address);
+
+
+    /**
+     * Subscribe to an address pattern. As long as a client has at least one subscription, only
+     * the values matched by its subscriptions are sent to it.
+     *
+     * @param sender The address from which the subscription was received, it is used to find the
+     *            subscribing client. If it is not a known client, all clients subscribe
+     * @param pattern The address pattern, might contain OSC wildcards
+     * @param maxRate The maximum number of updates per second, 0 or less for no limit
+     */
+    void subscribe (InetSocketAddress sender, String pattern, double maxRate);
+
+
+    /**
+     * Remove the subscription of an address pattern.
+     *
+     * @param sender The address from which the request was received, see subscribe
+     * @param pattern The address pattern
+     */
+    void unsubscribe (InetSocketAddress sender, String pattern);
+
+
+    /**
+     * Request a dump of all (subscribed) values. The dump is sent with the next flushes.
+     *
+     * @param sender The address from which the request was received, only this client gets the
+     *            dump. If it is not a known client, all clients get the dump
+     */
+    void requestDump (InetSocketAddress sender);
+
+
+    /**
+     * Add an OSC server (e.g. a tablet) to which all changed values are sent as well. The new
+     * client receives a dump of all values, the other clients only the changed values. The writer
+     * owns the connection to the client.
+     *
+     * @param host The host of the server
+     * @param port The port of the server
+     */
+    void addClient (String host, int port);
+
+
+    /**
+     * Remove an OSC server which was added with addClient and close the connection to it.
+     *
+     * @param host The host of the server
+     * @param port The port of the server
+     */
+    void removeClient (String host, int port);
+
+
+    /**
+     * Remove all OSC servers and close the connections to them.
+     */
+    void shutdown ();
 }
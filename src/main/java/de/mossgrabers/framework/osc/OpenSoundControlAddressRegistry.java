@@ -0,0 +1,149 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * Assigns a fixed ID to each registered OSC address and stores the last value sent to it. Integer
+ * (and boolean) and float values are stored in primitive arrays, all other values (e.g. strings)
+ * as references. This allows to detect changed values without building the address and without
+ * boxing the value. Additionally, the clients which did not receive the last change of an address
+ * are stored as a bit mask of the client indices.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlAddressRegistry
+{
+    private static final int           INITIAL_SIZE = 256;
+
+    private final Map<String, Integer> ids          = new HashMap<> ();
+    private String []                  addresses    = new String [INITIAL_SIZE];
+    private boolean []                 hasValue     = new boolean [INITIAL_SIZE];
+    private int []                     intValues    = new int [INITIAL_SIZE];
+    private float []                   floatValues  = new float [INITIAL_SIZE];
+    private Object []                  objectValues = new Object [INITIAL_SIZE];
+    private long []                    missed       = new long [INITIAL_SIZE];
+    private int                        size         = 0;
+
+
+    /**
+     * Register an address. If the address is already registered its ID is returned.
+     *
+     * @param address The OSC address
+     * @return The ID of the address
+     */
+    public int register (final String address)
+    {
+        final Integer id = this.ids.get (address);
+        if (id != null)
+            return id.intValue ();
+
+        if (this.size == this.addresses.length)
+        {
+            final int newSize = 2 * this.size;
+            this.addresses = Arrays.copyOf (this.addresses, newSize);
+            this.hasValue = Arrays.copyOf (this.hasValue, newSize);
+            this.intValues = Arrays.copyOf (this.intValues, newSize);
+            this.floatValues = Arrays.copyOf (this.floatValues, newSize);
+            this.objectValues = Arrays.copyOf (this.objectValues, newSize);
+            this.missed = Arrays.copyOf (this.missed, newSize);
+        }
+
+        this.addresses[this.size] = address;
+        this.ids.put (address, Integer.valueOf (this.size));
+        return this.size++;
+    }
+
+
+    /**
+     * Get the address of an ID.
+     *
+     * @param id The ID of the address
+     * @return The OSC address
+     */
+    public String getAddress (final int id)
+    {
+        return this.addresses[id];
+    }
+
+
+    /**
+     * Get the clients which did not receive the last change of the value of an address.
+     *
+     * @param id The ID of the address
+     * @return The bit mask of the client indices
+     */
+    public long getMissedClients (final int id)
+    {
+        return this.missed[id];
+    }
+
+
+    /**
+     * Set the clients which did not receive the last change of the value of an address.
+     *
+     * @param id The ID of the address
+     * @param clients The bit mask of the client indices
+     */
+    public void setMissedClients (final int id, final long clients)
+    {
+        this.missed[id] = clients;
+    }
+
+
+    /**
+     * Store the integer value for an address.
+     *
+     * @param id The ID of the address
+     * @param value The value
+     * @return True if the value is different from the stored one or no value was stored yet
+     */
+    public boolean update (final int id, final int value)
+    {
+        if (this.hasValue[id] && this.intValues[id] == value)
+            return false;
+        this.hasValue[id] = true;
+        this.intValues[id] = value;
+        return true;
+    }
+
+
+    /**
+     * Store the float value for an address.
+     *
+     * @param id The ID of the address
+     * @param value The value
+     * @return True if the value is different from the stored one or no value was stored yet
+     */
+    public boolean update (final int id, final float value)
+    {
+        if (this.hasValue[id] && Float.floatToIntBits (this.floatValues[id]) == Float.floatToIntBits (value))
+            return false;
+        this.hasValue[id] = true;
+        this.floatValues[id] = value;
+        return true;
+    }
+
+
+    /**
+     * Store the value for an address. The initial value is null.
+     *
+     * @param id The ID of the address
+     * @param value The value, might be null
+     * @return True if the value is not equal to the stored one
+     */
+    public boolean update (final int id, final Object value)
+    {
+        if (Objects.equals (this.objectValues[id], value))
+            return false;
+        this.objectValues[id] = value;
+        return true;
+    }
+}
@@ -0,0 +1,199 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/**
+ * Decodes OSC 1.0 packets (messages and bundles) from a byte buffer. The arguments are read
+ * directly from the buffer into the values array of the message. The time tags of bundles are
+ * ignored, all messages are handed to the callback immediately.
+ * <p>
+ * Argument types are decoded as follows: i, r to Integer, h, t to Long, f to Float, d to Double, s,
+ * S to String, c to Character, b, m to byte arrays, T, I to Boolean.TRUE, F to Boolean.FALSE and N
+ * to null.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlDecoder
+{
+    private static final byte [] BUNDLE_TAG   = "#bundle".getBytes (StandardCharsets.US_ASCII);
+
+    private byte []              stringBuffer = new byte [256];
+
+
+    /**
+     * Decode a packet and hand all contained messages to the callback.
+     *
+     * @param buffer The buffer which contains the packet from its position up to its limit
+     * @param sender The address from which the packet was received, handed to the callback
+     * @param callback The callback to hand the messages to
+     * @throws IOException The packet is malformed
+     */
+    public void decode (final ByteBuffer buffer, final InetSocketAddress sender, final IOpenSoundControlCallback callback) throws IOException
+    {
+        try
+        {
+            if (isBundle (buffer))
+                this.decodeBundle (buffer, sender, callback);
+            else
+                callback.handle (this.decodeMessage (buffer), sender);
+        }
+        catch (final BufferUnderflowException | IndexOutOfBoundsException ex)
+        {
+            throw new IOException ("Malformed OSC packet.", ex);
+        }
+    }
+
+
+    private void decodeBundle (final ByteBuffer buffer, final InetSocketAddress sender, final IOpenSoundControlCallback callback) throws IOException
+    {
+        // Skip the "#bundle" string and the time tag
+        buffer.position (buffer.position () + OpenSoundControlEncoder.BUNDLE_HEADER_SIZE);
+
+        final int limit = buffer.limit ();
+        while (buffer.remaining () >= 4)
+        {
+            final int size = buffer.getInt ();
+            final int end = buffer.position () + size;
+            if (size < 0 || end > limit)
+                throw new IOException ("Bundle element exceeds the packet.");
+
+            buffer.limit (end);
+            if (isBundle (buffer))
+                this.decodeBundle (buffer, sender, callback);
+            else
+                callback.handle (this.decodeMessage (buffer), sender);
+            buffer.limit (limit);
+            buffer.position (end);
+        }
+    }
+
+
+    private IOpenSoundControlMessage decodeMessage (final ByteBuffer buffer) throws IOException
+    {
+        final String address = this.decodeString (buffer);
+
+        // The type tag string is optional in old implementations
+        if (!buffer.hasRemaining () || buffer.get (buffer.position ()) != ',')
+            return new OpenSoundControlMessage (address, new Object [0]);
+
+        final int tagStart = buffer.position () + 1;
+        int tagEnd = tagStart;
+        while (buffer.get (tagEnd) != 0)
+            tagEnd++;
+        skipString (buffer, tagEnd);
+
+        final Object [] values = new Object [tagEnd - tagStart];
+        for (int i = 0; i < values.length; i++)
+            values[i] = this.decodeValue (buffer, buffer.get (tagStart + i));
+        return new OpenSoundControlMessage (address, values);
+    }
+
+
+    private Object decodeValue (final ByteBuffer buffer, final byte typeTag) throws IOException
+    {
+        switch (typeTag)
+        {
+            case 'i':
+            case 'r':
+                return Integer.valueOf (buffer.getInt ());
+            case 'f':
+                return Float.valueOf (buffer.getFloat ());
+            case 's':
+            case 'S':
+                return this.decodeString (buffer);
+            case 'h':
+            case 't':
+                return Long.valueOf (buffer.getLong ());
+            case 'd':
+                return Double.valueOf (buffer.getDouble ());
+            case 'c':
+                return Character.valueOf ((char) buffer.getInt ());
+            case 'b':
+            {
+                final byte [] blob = new byte [buffer.getInt ()];
+                buffer.get (blob);
+                pad (buffer);
+                return blob;
+            }
+            case 'm':
+            {
+                final byte [] midi = new byte [4];
+                buffer.get (midi);
+                return midi;
+            }
+            case 'T':
+            case 'I':
+                return Boolean.TRUE;
+            case 'F':
+                return Boolean.FALSE;
+            case 'N':
+                return null;
+            default:
+                throw new IOException ("Unsupported OSC type tag: " + (char) typeTag);
+        }
+    }
+
+
+    /**
+     * Read a zero terminated UTF-8 string and skip the padding.
+     *
+     * @param buffer The buffer to read from
+     * @return The string
+     */
+    private String decodeString (final ByteBuffer buffer)
+    {
+        final int start = buffer.position ();
+        int end = start;
+        while (buffer.get (end) != 0)
+            end++;
+
+        final int length = end - start;
+        if (length > this.stringBuffer.length)
+            this.stringBuffer = new byte [Math.max (length, 2 * this.stringBuffer.length)];
+        buffer.get (this.stringBuffer, 0, length);
+        skipString (buffer, end);
+        return new String (this.stringBuffer, 0, length, StandardCharsets.UTF_8);
+    }
+
+
+    /**
+     * Position the buffer after the zero terminator at the given position and its padding.
+     *
+     * @param buffer The buffer
+     * @param terminator The position of the zero terminator
+     */
+    private static void skipString (final ByteBuffer buffer, final int terminator)
+    {
+        buffer.position (terminator + 1);
+        pad (buffer);
+    }
+
+
+    private static void pad (final ByteBuffer buffer)
+    {
+        buffer.position (Math.min (buffer.limit (), buffer.position () + 3 & ~3));
+    }
+
+
+    private static boolean isBundle (final ByteBuffer buffer)
+    {
+        final int start = buffer.position ();
+        if (buffer.remaining () < OpenSoundControlEncoder.BUNDLE_HEADER_SIZE)
+            return false;
+        for (int i = 0; i < BUNDLE_TAG.length; i++)
+        {
+            if (buffer.get (start + i) != BUNDLE_TAG[i])
+                return false;
+        }
+        return true;
+    }
+}
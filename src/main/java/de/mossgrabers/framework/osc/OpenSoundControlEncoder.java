@@ -0,0 +1,248 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.nio.ByteBuffer;
+
+
+/**
+ * Encodes OSC 1.0 messages and bundles into a byte buffer. Supported argument types are Integer
+ * (i), Long (h), Float (f), Double (d), String (s), Boolean (T, F), byte arrays (b) and null (N).
+ * All other objects are encoded as the string of their toString method.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public final class OpenSoundControlEncoder
+{
+    /** The size of the bundle header: "#bundle" string and the time tag. */
+    public static final int      BUNDLE_HEADER_SIZE = 16;
+
+    private static final byte [] BUNDLE_TAG         =
+    {
+        '#',
+        'b',
+        'u',
+        'n',
+        'd',
+        'l',
+        'e',
+        0
+    };
+
+    /** The time tag, which means "immediately". */
+    private static final long    TIME_TAG_IMMEDIATE = 1;
+
+
+    /**
+     * Constructor, private due to utility class.
+     */
+    private OpenSoundControlEncoder ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Write the header of a bundle, which is to be executed immediately.
+     *
+     * @param buffer The buffer to write to
+     */
+    public static void encodeBundleHeader (final ByteBuffer buffer)
+    {
+        buffer.put (BUNDLE_TAG);
+        buffer.putLong (TIME_TAG_IMMEDIATE);
+    }
+
+
+    /**
+     * Write a message.
+     *
+     * @param buffer The buffer to write to
+     * @param message The message to encode
+     * @throws java.nio.BufferOverflowException If the message does not fit into the buffer
+     */
+    public static void encodeMessage (final ByteBuffer buffer, final IOpenSoundControlMessage message)
+    {
+        encodeString (buffer, message.getAddress ());
+
+        final Object [] values = message.getValues ();
+        buffer.put ((byte) ',');
+        for (final Object value: values)
+            buffer.put (getTypeTag (value));
+        buffer.put ((byte) 0);
+        pad (buffer);
+
+        for (final Object value: values)
+            encodeValue (buffer, value);
+    }
+
+
+    /**
+     * Get the number of bytes of an encoded message.
+     *
+     * @param message The message
+     * @return The number of bytes
+     */
+    public static int getSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        int size = getStringSize (message.getAddress ()) + pad (values.length + 2);
+        for (final Object value: values)
+            size += getValueSize (value);
+        return size;
+    }
+
+
+    private static byte getTypeTag (final Object value)
+    {
+        if (value == null)
+            return 'N';
+        if (value instanceof Integer)
+            return 'i';
+        if (value instanceof Float)
+            return 'f';
+        if (value instanceof Boolean)
+            return ((Boolean) value).booleanValue () ? (byte) 'T' : (byte) 'F';
+        if (value instanceof Double)
+            return 'd';
+        if (value instanceof Long)
+            return 'h';
+        if (value instanceof byte [])
+            return 'b';
+        return 's';
+    }
+
+
+    private static void encodeValue (final ByteBuffer buffer, final Object value)
+    {
+        if (value == null || value instanceof Boolean)
+            return;
+
+        if (value instanceof Integer)
+            buffer.putInt (((Integer) value).intValue ());
+        else if (value instanceof Float)
+            buffer.putFloat (((Float) value).floatValue ());
+        else if (value instanceof Double)
+            buffer.putDouble (((Double) value).doubleValue ());
+        else if (value instanceof Long)
+            buffer.putLong (((Long) value).longValue ());
+        else if (value instanceof byte [])
+        {
+            final byte [] blob = (byte []) value;
+            buffer.putInt (blob.length);
+            buffer.put (blob);
+            pad (buffer);
+        }
+        else
+            encodeString (buffer, value.toString ());
+    }
+
+
+    private static int getValueSize (final Object value)
+    {
+        if (value == null || value instanceof Boolean)
+            return 0;
+        if (value instanceof Integer || value instanceof Float)
+            return 4;
+        if (value instanceof Double || value instanceof Long)
+            return 8;
+        if (value instanceof byte [])
+            return 4 + pad (((byte []) value).length);
+        return getStringSize (value.toString ());
+    }
+
+
+    /**
+     * Get the number of bytes of an encoded string including the zero terminator and the padding.
+     *
+     * @param text The text
+     * @return The number of bytes
+     */
+    private static int getStringSize (final String text)
+    {
+        final int length = text.length ();
+        int size = 0;
+        for (int i = 0; i < length; i++)
+        {
+            final int c = text.codePointAt (i);
+            if (c < 0x80)
+                size++;
+            else if (c < 0x800)
+                size += 2;
+            else if (c < 0x10000)
+                size += 3;
+            else
+            {
+                size += 4;
+                i++;
+            }
+        }
+        return pad (size + 1);
+    }
+
+
+    /**
+     * Round up to the next multiple of 4.
+     *
+     * @param size The size to round
+     * @return The rounded size
+     */
+    private static int pad (final int size)
+    {
+        return size + 3 & ~3;
+    }
+
+
+    /**
+     * Write a string as UTF-8, terminated by a zero byte and padded to a multiple of 4 bytes.
+     *
+     * @param buffer The buffer to write to
+     * @param text The text to write
+     */
+    private static void encodeString (final ByteBuffer buffer, final String text)
+    {
+        final int length = text.length ();
+        for (int i = 0; i < length; i++)
+        {
+            final int c = text.codePointAt (i);
+            if (c < 0x80)
+                buffer.put ((byte) c);
+            else if (c < 0x800)
+            {
+                buffer.put ((byte) (0xC0 | c >> 6));
+                buffer.put ((byte) (0x80 | c & 0x3F));
+            }
+            else if (c < 0x10000)
+            {
+                buffer.put ((byte) (0xE0 | c >> 12));
+                buffer.put ((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put ((byte) (0x80 | c & 0x3F));
+            }
+            else
+            {
+                buffer.put ((byte) (0xF0 | c >> 18));
+                buffer.put ((byte) (0x80 | c >> 12 & 0x3F));
+                buffer.put ((byte) (0x80 | c >> 6 & 0x3F));
+                buffer.put ((byte) (0x80 | c & 0x3F));
+                // Skip the low surrogate
+                i++;
+            }
+        }
+        buffer.put ((byte) 0);
+        pad (buffer);
+    }
+
+
+    /**
+     * Fill the buffer with zero bytes up to the next multiple of 4.
+     *
+     * @param buffer The buffer to pad
+     */
+    private static void pad (final ByteBuffer buffer)
+    {
+        while ((buffer.position () & 3) != 0)
+            buffer.put ((byte) 0);
+    }
+}
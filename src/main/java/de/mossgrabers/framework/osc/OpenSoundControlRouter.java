@@ -0,0 +1,334 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.utils.FrameworkException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Dispatches OSC messages to routes, which are registered for address patterns. The patterns are
+ * stored in a tree of address parts. A part is either a name or an index placeholder, e.g.
+ * "/track/{8}/volume". The placeholder matches the numbers 1 to 8 and the matched number is handed
+ * to the route.
+ * <p>
+ * Addresses without wildcards are resolved by walking the tree without creating any objects.
+ * Addresses which contain OSC wildcards ('?', '*', '[...]' and '{...,...}') are handed to all
+ * matching routes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlRouter
+{
+    private static final int    MAX_INDICES      = 8;
+    private static final int    MAX_INDEX_DIGITS = 9;
+    private static final String WILDCARDS        = "?*[{";
+
+    private final Node          root             = new Node ();
+    private final int []        indices          = new int [MAX_INDICES];
+
+
+    /**
+     * Register a route for an address pattern.
+     *
+     * @param pattern The address pattern, index placeholders are written as the maximum index in
+     *            curly brackets, e.g. "/track/{8}/send/{8}/volume"
+     * @param route The route to call for matching messages
+     */
+    public void addRoute (final String pattern, final IOpenSoundControlRoute route)
+    {
+        if (pattern.isEmpty () || pattern.charAt (0) != '/')
+            throw new FrameworkException ("OSC address pattern must start with a slash: " + pattern);
+
+        Node node = this.root;
+        int indexCount = 0;
+        for (final String part: pattern.substring (1).split ("/"))
+        {
+            if (part.length () > 2 && part.charAt (0) == '{' && part.charAt (part.length () - 1) == '}')
+            {
+                if (++indexCount > MAX_INDICES)
+                    throw new FrameworkException ("Too many index placeholders in OSC address pattern: " + pattern);
+                final int maxIndex = Integer.parseInt (part.substring (1, part.length () - 1));
+                if (node.indexNode == null)
+                    node.indexNode = new Node ();
+                node.maxIndex = Math.max (node.maxIndex, maxIndex);
+                node = node.indexNode;
+            }
+            else
+                node = node.getOrCreateChild (part);
+        }
+        node.route = route;
+    }
+
+
+    /**
+     * Call the route(s) matching the address of the message.
+     *
+     * @param message The message
+     * @return True if at least one route was called
+     */
+    public boolean route (final IOpenSoundControlMessage message)
+    {
+        final String address = message.getAddress ();
+        if (address.isEmpty () || address.charAt (0) != '/')
+            return false;
+        if (containsWildcard (address))
+            return this.routeWildcard (this.root, address, 1, 0, message);
+
+        final int length = address.length ();
+        Node node = this.root;
+        int indexCount = 0;
+        int start = 1;
+        while (true)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            final Node child = node.getChild (address, start, end);
+            if (child != null)
+                node = child;
+            else
+            {
+                final int index = parseIndex (address, start, end);
+                if (node.indexNode == null || index < 1 || index > node.maxIndex)
+                    return false;
+                this.indices[indexCount++] = index;
+                node = node.indexNode;
+            }
+
+            if (end == length)
+                break;
+            start = end + 1;
+        }
+
+        if (node.route == null)
+            return false;
+        node.route.handle (this.indices, message);
+        return true;
+    }
+
+
+    /**
+     * Call all routes below the given node which match the remaining address pattern.
+     *
+     * @param node The node to start from
+     * @param address The address pattern
+     * @param start The start of the address part to match against the children of the node
+     * @param indexCount The number of indices already matched
+     * @param message The message
+     * @return True if at least one route was called
+     */
+    private boolean routeWildcard (final Node node, final String address, final int start, final int indexCount, final IOpenSoundControlMessage message)
+    {
+        int end = address.indexOf ('/', start);
+        if (end < 0)
+            end = address.length ();
+
+        boolean matched = false;
+        for (int i = 0; i < node.names.size (); i++)
+        {
+            if (matches (address, start, end, node.names.get (i), 0))
+                matched |= this.routeWildcardNext (node.children.get (i), address, end, indexCount, message);
+        }
+
+        if (node.indexNode != null)
+        {
+            for (int index = 1; index <= node.maxIndex; index++)
+            {
+                if (!matches (address, start, end, Integer.toString (index), 0))
+                    continue;
+                this.indices[indexCount] = index;
+                matched |= this.routeWildcardNext (node.indexNode, address, end, indexCount + 1, message);
+            }
+        }
+        return matched;
+    }
+
+
+    private boolean routeWildcardNext (final Node node, final String address, final int end, final int indexCount, final IOpenSoundControlMessage message)
+    {
+        if (end < address.length ())
+            return this.routeWildcard (node, address, end + 1, indexCount, message);
+        if (node.route == null)
+            return false;
+        node.route.handle (this.indices, message);
+        return true;
+    }
+
+
+    /**
+     * Tests if a part of an OSC address pattern matches a name.
+     *
+     * @param pattern The address pattern
+     * @param patternStart The start of the part in the pattern
+     * @param patternEnd The end of the part in the pattern (exclusive)
+     * @param name The name to match
+     * @param nameStart The position in the name to start matching at
+     * @return True if the part matches
+     */
+    static boolean matches (final String pattern, final int patternStart, final int patternEnd, final String name, final int nameStart)
+    {
+        int p = patternStart;
+        int n = nameStart;
+        final int nameLength = name.length ();
+        while (p < patternEnd)
+        {
+            final char c = pattern.charAt (p);
+            switch (c)
+            {
+                case '*':
+                    while (p < patternEnd && pattern.charAt (p) == '*')
+                        p++;
+                    if (p == patternEnd)
+                        return true;
+                    for (int i = n; i <= nameLength; i++)
+                    {
+                        if (matches (pattern, p, patternEnd, name, i))
+                            return true;
+                    }
+                    return false;
+
+                case '?':
+                    if (n >= nameLength)
+                        return false;
+                    p++;
+                    n++;
+                    break;
+
+                case '[':
+                {
+                    final int close = pattern.indexOf (']', p + 1);
+                    if (close < 0 || close >= patternEnd || n >= nameLength)
+                        return false;
+                    int i = p + 1;
+                    final boolean negate = i < close && pattern.charAt (i) == '!';
+                    if (negate)
+                        i++;
+                    final char ch = name.charAt (n);
+                    boolean found = false;
+                    while (i < close)
+                    {
+                        if (i + 2 < close && pattern.charAt (i + 1) == '-')
+                        {
+                            found |= ch >= pattern.charAt (i) && ch <= pattern.charAt (i + 2);
+                            i += 3;
+                        }
+                        else
+                        {
+                            found |= ch == pattern.charAt (i);
+                            i++;
+                        }
+                    }
+                    if (found == negate)
+                        return false;
+                    p = close + 1;
+                    n++;
+                    break;
+                }
+
+                case '{':
+                {
+                    final int close = pattern.indexOf ('}', p + 1);
+                    if (close < 0 || close >= patternEnd)
+                        return false;
+                    int alternativeStart = p + 1;
+                    while (alternativeStart <= close)
+                    {
+                        int alternativeEnd = pattern.indexOf (',', alternativeStart);
+                        if (alternativeEnd < 0 || alternativeEnd > close)
+                            alternativeEnd = close;
+                        final int alternativeLength = alternativeEnd - alternativeStart;
+                        if (name.regionMatches (n, pattern, alternativeStart, alternativeLength) && matches (pattern, close + 1, patternEnd, name, n + alternativeLength))
+                            return true;
+                        alternativeStart = alternativeEnd + 1;
+                    }
+                    return false;
+                }
+
+                default:
+                    if (n >= nameLength || name.charAt (n) != c)
+                        return false;
+                    p++;
+                    n++;
+                    break;
+            }
+        }
+        return n == nameLength;
+    }
+
+
+    private static boolean containsWildcard (final String address)
+    {
+        for (int i = 0; i < address.length (); i++)
+        {
+            if (WILDCARDS.indexOf (address.charAt (i)) >= 0)
+                return true;
+        }
+        return false;
+    }
+
+
+    /**
+     * Parse a part of an address as a positive number.
+     *
+     * @param address The address
+     * @param start The start of the part
+     * @param end The end of the part (exclusive)
+     * @return The number or -1 if the part is not a number
+     */
+    private static int parseIndex (final String address, final int start, final int end)
+    {
+        if (start == end || end - start > MAX_INDEX_DIGITS)
+            return -1;
+        int index = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = address.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            index = index * 10 + c - '0';
+        }
+        return index;
+    }
+
+
+    /** A node in the tree of address parts. */
+    private static class Node
+    {
+        private final List<String>     names    = new ArrayList<> ();
+        private final List<Node>       children = new ArrayList<> ();
+        private Node                   indexNode;
+        private int                    maxIndex;
+        private IOpenSoundControlRoute route;
+
+
+        Node getChild (final String address, final int start, final int end)
+        {
+            final int length = end - start;
+            for (int i = 0; i < this.names.size (); i++)
+            {
+                final String name = this.names.get (i);
+                if (name.length () == length && address.regionMatches (start, name, 0, length))
+                    return this.children.get (i);
+            }
+            return null;
+        }
+
+
+        Node getOrCreateChild (final String name)
+        {
+            final int pos = this.names.indexOf (name);
+            if (pos >= 0)
+                return this.children.get (pos);
+            final Node child = new Node ();
+            this.names.add (name);
+            this.children.add (child);
+            return child;
+        }
+    }
+}
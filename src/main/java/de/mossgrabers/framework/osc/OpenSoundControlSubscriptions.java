@@ -0,0 +1,374 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Manages the address patterns, which the OSC clients subscribed to. The addresses a writer sends
+ * are grouped into subtrees, e.g. all track or all transport addresses. A subtree is identified by
+ * the first parts of its addresses. A subtree is active for a client if the first part of a pattern
+ * subscribed by the client matches one of its first parts. If a client has no subscription at all,
+ * all subtrees are active for it. The clients are given as bit masks of the client indices.
+ * <p>
+ * A subscription can be limited to a maximum rate. Its subtrees are then only active for its
+ * clients if the subscription is due.
+ * <p>
+ * A dump sends all values of the subscribed subtrees. The subtrees of a dump are marked as pending
+ * and can be sent one after the other in several flushes. A subtree with a pending dump needs to
+ * be flushed even if it is not active for any client. Subtrees with many values (e.g. all tracks)
+ * can be dumped item by item: a running item dump keeps its clients and continues with the next
+ * item in the next flush.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSubscriptions
+{
+    /** The bit mask for all clients. */
+    public static final long         ALL_CLIENTS   = -1L;
+
+    private final List<String []>    subtrees      = new ArrayList<> ();
+    private final List<Subscription> subscriptions = new ArrayList<> ();
+    private long []                  active        = new long [0];
+    private long []                  pendingDump   = new long [0];
+    private long []                  runningDump   = new long [0];
+    private int []                   dumpPosition  = new int [0];
+    private int                      dumpTotal;
+    private int                      dumpDone;
+
+
+    /**
+     * Add a subtree of addresses. All subtrees need to be added before the first subscription.
+     *
+     * @param firstParts The first parts of the addresses of the subtree, e.g. "track" and "master"
+     * @return The ID of the subtree
+     */
+    public synchronized int addSubtree (final String... firstParts)
+    {
+        this.subtrees.add (firstParts);
+        final int size = this.subtrees.size ();
+        this.active = new long [size];
+        this.pendingDump = new long [size];
+        this.runningDump = new long [size];
+        this.dumpPosition = new int [size];
+        return size - 1;
+    }
+
+
+    /**
+     * Subscribe to an address pattern. An existing subscription of the clients with the same
+     * pattern is replaced. The values of all subtrees matched by the pattern are sent completely
+     * to the clients.
+     *
+     * @param pattern The address pattern, might contain OSC wildcards, e.g. "/track/*&#47;volume"
+     * @param maxRate The maximum number of updates per second, 0 or less for no limit
+     * @param clients The bit mask of the subscribing clients
+     */
+    public synchronized void subscribe (final String pattern, final double maxRate, final long clients)
+    {
+        this.removeSubscription (pattern, clients);
+
+        final Subscription subscription = new Subscription (pattern, maxRate <= 0 ? 0 : (long) (1000.0 / maxRate), this.matchSubtrees (pattern), clients);
+        this.subscriptions.add (subscription);
+        for (int i = 0; i < subscription.subtrees.length; i++)
+        {
+            if (subscription.subtrees[i])
+                this.markDump (i, clients);
+        }
+    }
+
+
+    /**
+     * Remove the subscription of an address pattern.
+     *
+     * @param pattern The address pattern
+     * @param clients The bit mask of the clients to unsubscribe
+     */
+    public synchronized void unsubscribe (final String pattern, final long clients)
+    {
+        this.removeSubscription (pattern, clients);
+    }
+
+
+    /**
+     * Remove all subscriptions and pending dumps of clients, e.g. since they disconnected.
+     *
+     * @param clients The bit mask of the clients
+     */
+    public synchronized void removeClients (final long clients)
+    {
+        for (int s = this.subscriptions.size () - 1; s >= 0; s--)
+        {
+            final Subscription subscription = this.subscriptions.get (s);
+            subscription.clients &= ~clients;
+            if (subscription.clients == 0)
+                this.subscriptions.remove (s);
+        }
+
+        for (int i = 0; i < this.pendingDump.length; i++)
+        {
+            // Count dumps which nobody waits for anymore as done to finish the progress
+            if (this.pendingDump[i] != 0 && (this.pendingDump[i] &= ~clients) == 0)
+                this.dumpDone++;
+            if (this.runningDump[i] != 0 && (this.runningDump[i] &= ~clients) == 0)
+                this.dumpDone++;
+        }
+    }
+
+
+    /**
+     * Request a dump of all subtrees the clients subscribed to. For clients without any
+     * subscription all subtrees are dumped.
+     *
+     * @param clients The bit mask of the clients which need the dump
+     */
+    public synchronized void requestDump (final long clients)
+    {
+        final long unsubscribed = clients & ~this.getSubscribedClients ();
+        for (int i = 0; i < this.pendingDump.length; i++)
+        {
+            final long dumpClients = unsubscribed | (clients & this.getSubscribedClients (i));
+            if (dumpClients != 0)
+                this.markDump (i, dumpClients);
+        }
+    }
+
+
+    /**
+     * Update for which clients the subtrees are active. Needs to be called at the start of a
+     * flush.
+     *
+     * @param now The current time in milliseconds
+     * @param clients The bit mask of the connected clients
+     */
+    public synchronized void update (final long now, final long clients)
+    {
+        final long unsubscribed = clients & ~this.getSubscribedClients ();
+        for (int i = 0; i < this.active.length; i++)
+            this.active[i] = unsubscribed;
+
+        for (int s = 0; s < this.subscriptions.size (); s++)
+        {
+            final Subscription subscription = this.subscriptions.get (s);
+            if (now - subscription.lastUpdate < subscription.interval)
+                continue;
+            subscription.lastUpdate = now;
+            for (int i = 0; i < subscription.subtrees.length; i++)
+            {
+                if (subscription.subtrees[i])
+                    this.active[i] |= subscription.clients & clients;
+            }
+        }
+    }
+
+
+    /**
+     * Get the clients for which the changed values of a subtree should be flushed.
+     *
+     * @param subtree The ID of the subtree
+     * @return The bit mask of the clients
+     */
+    public synchronized long getActiveClients (final int subtree)
+    {
+        return this.active[subtree];
+    }
+
+
+    /**
+     * Test if all values of a subtree need to be sent since there is a new subscription for it or
+     * a dump was requested.
+     *
+     * @param subtree The ID of the subtree
+     * @return True if all values need to be sent
+     */
+    public synchronized boolean isDumpPending (final int subtree)
+    {
+        return this.pendingDump[subtree] != 0 || this.runningDump[subtree] != 0;
+    }
+
+
+    /**
+     * Test if an item of a subtree is the next one of its dump. The items need to be tested in
+     * ascending order. If the test of the first item finds a pending dump, an item dump is started
+     * for the clients which requested it. Clients which request a dump while an item dump is
+     * running get their own dump after it.
+     *
+     * @param subtree The ID of the subtree
+     * @param item The index of the item
+     * @param numItems The number of items of the subtree
+     * @return True if the item is the next one to dump
+     */
+    public synchronized boolean isDumpPending (final int subtree, final int item, final int numItems)
+    {
+        if (this.runningDump[subtree] == 0)
+        {
+            if (item != 0 || this.pendingDump[subtree] == 0)
+                return false;
+            this.runningDump[subtree] = this.pendingDump[subtree];
+            this.pendingDump[subtree] = 0;
+            this.dumpPosition[subtree] = 0;
+        }
+        return item == this.dumpPosition[subtree] && item < numItems;
+    }
+
+
+    /**
+     * Mark the pending dump of a subtree as sent.
+     *
+     * @param subtree The ID of the subtree
+     * @return The bit mask of the clients which needed the dump
+     */
+    public synchronized long dumpDone (final int subtree)
+    {
+        final long clients = this.pendingDump[subtree];
+        if (clients == 0)
+            return 0;
+        this.pendingDump[subtree] = 0;
+        this.dumpDone++;
+        return clients;
+    }
+
+
+    /**
+     * Mark an item of the running item dump of a subtree as sent. The dump is done after the last
+     * item.
+     *
+     * @param subtree The ID of the subtree
+     * @param item The index of the item, which must have been tested with isDumpPending
+     * @param numItems The number of items of the subtree
+     * @return The bit mask of the clients which need the item
+     */
+    public synchronized long dumpDone (final int subtree, final int item, final int numItems)
+    {
+        final long clients = this.runningDump[subtree];
+        this.dumpPosition[subtree] = item + 1;
+        if (item + 1 >= numItems)
+        {
+            this.runningDump[subtree] = 0;
+            this.dumpDone++;
+        }
+        return clients;
+    }
+
+
+    /**
+     * Get the progress of the running dump(s). Once 100 is returned the dump is complete and the
+     * progress is reset.
+     *
+     * @return The progress in percent or -1 if no dump is running
+     */
+    public synchronized int getDumpProgress ()
+    {
+        if (this.dumpTotal == 0)
+            return -1;
+        final int progress = 100 * this.dumpDone / this.dumpTotal;
+        if (this.dumpDone == this.dumpTotal)
+        {
+            this.dumpTotal = 0;
+            this.dumpDone = 0;
+        }
+        return progress;
+    }
+
+
+    private void markDump (final int subtree, final long clients)
+    {
+        if (this.pendingDump[subtree] == 0)
+            this.dumpTotal++;
+        this.pendingDump[subtree] |= clients;
+    }
+
+
+    /**
+     * Get the clients which have at least one subscription.
+     *
+     * @return The bit mask of the clients
+     */
+    private long getSubscribedClients ()
+    {
+        long clients = 0;
+        for (int s = 0; s < this.subscriptions.size (); s++)
+            clients |= this.subscriptions.get (s).clients;
+        return clients;
+    }
+
+
+    /**
+     * Get the clients which subscribed to a subtree.
+     *
+     * @param subtree The ID of the subtree
+     * @return The bit mask of the clients
+     */
+    private long getSubscribedClients (final int subtree)
+    {
+        long clients = 0;
+        for (int s = 0; s < this.subscriptions.size (); s++)
+        {
+            final Subscription subscription = this.subscriptions.get (s);
+            if (subscription.subtrees[subtree])
+                clients |= subscription.clients;
+        }
+        return clients;
+    }
+
+
+    private void removeSubscription (final String pattern, final long clients)
+    {
+        for (int s = this.subscriptions.size () - 1; s >= 0; s--)
+        {
+            final Subscription subscription = this.subscriptions.get (s);
+            if (!subscription.pattern.equals (pattern))
+                continue;
+            subscription.clients &= ~clients;
+            if (subscription.clients == 0)
+                this.subscriptions.remove (s);
+        }
+    }
+
+
+    private boolean [] matchSubtrees (final String pattern)
+    {
+        final boolean [] matched = new boolean [this.subtrees.size ()];
+        final int start = pattern.startsWith ("/") ? 1 : 0;
+        int end = pattern.indexOf ('/', start);
+        if (end < 0)
+            end = pattern.length ();
+
+        for (int i = 0; i < matched.length; i++)
+        {
+            for (final String firstPart: this.subtrees.get (i))
+            {
+                if (OpenSoundControlRouter.matches (pattern, start, end, firstPart, 0))
+                {
+                    matched[i] = true;
+                    break;
+                }
+            }
+        }
+        return matched;
+    }
+
+
+    /** A subscription of an address pattern by one or several clients. */
+    private static class Subscription
+    {
+        private final String     pattern;
+        private final long       interval;
+        private final boolean [] subtrees;
+        private long             clients;
+        private long             lastUpdate = Long.MIN_VALUE / 2;
+
+
+        Subscription (final String pattern, final long interval, final boolean [] subtrees, final long clients)
+        {
+            this.pattern = pattern;
+            this.interval = interval;
+            this.subtrees = subtrees;
+            this.clients = clients;
+        }
+    }
+}
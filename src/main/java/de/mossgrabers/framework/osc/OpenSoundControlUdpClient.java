@@ -0,0 +1,144 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.List;
+
+
+/**
+ * Sends OSC messages via UDP. The messages are encoded into reusable direct buffers. Bundles are
+ * split into several packets so that each packet stays below the configured maximum packet size
+ * (e.g. 1472 bytes for an Ethernet MTU of 1500), which prevents IP fragmentation. A single message
+ * which is larger than the maximum packet size is sent on its own.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlUdpClient implements IOpenSoundControlClient
+{
+    /** The default maximum packet size, matches an Ethernet MTU of 1500 bytes. */
+    public static final int         DEFAULT_MAX_PACKET_SIZE = 1472;
+
+    /** The maximum payload of an UDP packet. */
+    static final int                MAX_UDP_SIZE            = 65507;
+
+    private final DatagramChannel   channel;
+    private final InetSocketAddress serverSocketAddress;
+    private final int               maxPacketSize;
+    private final ByteBuffer        messageBuffer           = ByteBuffer.allocateDirect (MAX_UDP_SIZE);
+    private final ByteBuffer        packetBuffer;
+
+
+    /**
+     * Constructor.
+     *
+     * @param serverAddress The address of the server to send to
+     * @param serverPort The port of the server to send to
+     * @param maxPacketSize The maximum size of a bundle packet in bytes
+     * @throws IOException Could not open the channel
+     */
+    public OpenSoundControlUdpClient (final String serverAddress, final int serverPort, final int maxPacketSize) throws IOException
+    {
+        this.maxPacketSize = Math.max (OpenSoundControlEncoder.BUNDLE_HEADER_SIZE + 4, Math.min (maxPacketSize, MAX_UDP_SIZE));
+        this.packetBuffer = ByteBuffer.allocateDirect (this.maxPacketSize);
+        this.serverSocketAddress = new InetSocketAddress (serverAddress, serverPort);
+        this.channel = DatagramChannel.open ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendMessage (final IOpenSoundControlMessage message) throws IOException
+    {
+        this.encode (message);
+        this.send (this.messageBuffer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
+    {
+        int count = 0;
+        this.startBundle ();
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            this.encode (message);
+            final int size = this.messageBuffer.remaining ();
+            final boolean isOversized = OpenSoundControlEncoder.BUNDLE_HEADER_SIZE + 4 + size > this.maxPacketSize;
+
+            // Send the already collected messages first to keep the order of the messages
+            if (count > 0 && (isOversized || this.packetBuffer.position () + 4 + size > this.maxPacketSize))
+            {
+                this.endBundle ();
+                this.startBundle ();
+                count = 0;
+            }
+
+            if (isOversized)
+            {
+                this.send (this.messageBuffer);
+                continue;
+            }
+
+            this.packetBuffer.putInt (size);
+            this.packetBuffer.put (this.messageBuffer);
+            count++;
+        }
+        if (count > 0)
+            this.endBundle ();
+    }
+
+
+    /**
+     * Close the UDP channel.
+     *
+     * @throws IOException Could not close the channel
+     */
+    public void close () throws IOException
+    {
+        this.channel.close ();
+    }
+
+
+    private void encode (final IOpenSoundControlMessage message) throws IOException
+    {
+        this.messageBuffer.clear ();
+        try
+        {
+            OpenSoundControlEncoder.encodeMessage (this.messageBuffer, message);
+        }
+        catch (final BufferOverflowException ex)
+        {
+            throw new IOException ("OSC message is too large for an UDP packet: " + message.getAddress (), ex);
+        }
+        this.messageBuffer.flip ();
+    }
+
+
+    private void startBundle ()
+    {
+        this.packetBuffer.clear ();
+        OpenSoundControlEncoder.encodeBundleHeader (this.packetBuffer);
+    }
+
+
+    private void endBundle () throws IOException
+    {
+        this.packetBuffer.flip ();
+        this.send (this.packetBuffer);
+    }
+
+
+    private void send (final ByteBuffer buffer) throws IOException
+    {
+        // Not connected on purpose, a connected channel fails if no one listens on the port
+        this.channel.send (buffer, this.serverSocketAddress);
+    }
+}
@@ -0,0 +1,139 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+
+/**
+ * Receives OSC messages via UDP. The packets are received into a reusable direct buffer and
+ * decoded from there. The channel is non-blocking and polled from a task scheduled with the host,
+ * therefore the callback is always called from the thread of the host and not from a separate
+ * network thread. The address of the sender of a packet is handed to the callback with each of its
+ * messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlUdpServer implements IOpenSoundControlServer, Closeable
+{
+    /** The interval in milliseconds in which the channel is polled for new packets. */
+    private static final int                POLL_INTERVAL = 5;
+
+    private final IHost                     host;
+    private final IOpenSoundControlCallback callback;
+    private final OpenSoundControlDecoder   decoder       = new OpenSoundControlDecoder ();
+    private final ByteBuffer                buffer        = ByteBuffer.allocateDirect (OpenSoundControlUdpClient.MAX_UDP_SIZE);
+    private final Runnable                  pollTask      = this::pollChannel;
+    private DatagramChannel                 channel;
+    private boolean                         isPolling;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for scheduling the polling and logging errors
+     * @param callback The callback to hand the received messages to
+     */
+    public OpenSoundControlUdpServer (final IHost host, final IOpenSoundControlCallback callback)
+    {
+        this.host = host;
+        this.callback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void start (final int port) throws IOException
+    {
+        this.close ();
+
+        final DatagramChannel newChannel = DatagramChannel.open ();
+        try
+        {
+            newChannel.configureBlocking (false);
+            newChannel.bind (new InetSocketAddress (port));
+        }
+        catch (final IOException ex)
+        {
+            newChannel.close ();
+            throw ex;
+        }
+        this.channel = newChannel;
+
+        if (!this.isPolling)
+        {
+            this.isPolling = true;
+            this.host.scheduleTask (this.pollTask, POLL_INTERVAL);
+        }
+    }
+
+
+    /**
+     * Receive and handle all pending packets. Does nothing if the server is not started. Malformed
+     * packets are logged and dropped.
+     *
+     * @throws IOException Could not receive from the channel
+     */
+    public void poll () throws IOException
+    {
+        if (this.channel == null)
+            return;
+
+        while (true)
+        {
+            this.buffer.clear ();
+            final SocketAddress sender = this.channel.receive (this.buffer);
+            if (sender == null)
+                return;
+            this.buffer.flip ();
+            try
+            {
+                this.decoder.decode (this.buffer, sender instanceof InetSocketAddress ? (InetSocketAddress) sender : null, this.callback);
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Dropped malformed OSC packet.", ex);
+            }
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        if (this.channel == null)
+            return;
+        this.channel.close ();
+        this.channel = null;
+    }
+
+
+    private void pollChannel ()
+    {
+        if (this.channel == null)
+        {
+            this.isPolling = false;
+            return;
+        }
+
+        try
+        {
+            this.poll ();
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not receive OSC packet.", ex);
+        }
+        this.host.scheduleTask (this.pollTask, POLL_INTERVAL);
+    }
+}
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.scale;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
 import java.util.Arrays;
@@ -118,6 +119,15 @@ public class Scales
     /** Color index when the pad is a note which is not part of the scale. */
     public static final String          SCALE_COLOR_OUT_OF_SCALE = "SCALE_COLOR_OUT_OF_SCALE";
 
+    /** Handle of the color ID when the pad is turned off. */
+    public static final int             HANDLE_OFF               = ColorManager.getHandle (SCALE_COLOR_OFF);
+    /** Handle of the color ID when the pad is the base note of the scale. */
+    public static final int             HANDLE_OCTAVE            = ColorManager.getHandle (SCALE_COLOR_OCTAVE);
+    /** Handle of the color ID when the pad is a note of the scale. */
+    public static final int             HANDLE_NOTE              = ColorManager.getHandle (SCALE_COLOR_NOTE);
+    /** Handle of the color ID when the pad is a note which is not part of the scale. */
+    public static final int             HANDLE_OUT_OF_SCALE      = ColorManager.getHandle (SCALE_COLOR_OUT_OF_SCALE);
+
     /** Number of octaves which can be transposed up and down. */
     public static final int             OCTAVE_RANGE             = 4;
     /** Number of octaves which can be transposed up and down in the piano layout. */
@@ -690,6 +700,28 @@ public class Scales
     }
 
 
+    /**
+     * Get the handle of the color ID for the given note respecting the note map.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The handle of the color ID, see ColorManager.getHandle
+     */
+    public int getColorHandle (final int [] noteMap, final int note)
+    {
+        final int midiNote = noteMap[note];
+        if (midiNote == -1)
+            return Scales.HANDLE_OFF;
+        // Add 12 to prevent negative values
+        final int n = (12 + midiNote - Scales.OFFSETS[this.scaleOffset]) % 12;
+        if (n == 0)
+            return Scales.HANDLE_OCTAVE;
+        if (!this.isChromatic ())
+            return Scales.HANDLE_NOTE;
+        return this.isInScale (n) ? Scales.HANDLE_NOTE : Scales.HANDLE_OUT_OF_SCALE;
+    }
+
+
     /**
      * Test if the note is part of the selected scale.
      *
@@ -0,0 +1,381 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2019
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+
+/**
+ * Executes the flush tasks of all surfaces and displays with a small pool of threads. Tasks are
+ * executed in slots. A slot keeps only the latest task, which was not yet started. The tasks of a
+ * slot are never executed in parallel. If several slots are waiting, the one with the highest
+ * priority runs first, e.g. the lights which react to the user input before the text displays.
+ * Since there are only a few threads, the tasks must not block, e.g. by waiting for a USB transfer.
+ * Therefore, graphics displays which are sent via USB use their own sender thread.
+ * <p>
+ * The threads are started with the first slot. They are stopped after the last slot is closed and
+ * all waiting tasks are executed. Each slot must be closed when its owner is shut down. On closing,
+ * a slot reports its metrics (executed and coalesced tasks, latency) to its host.
+ * <p>
+ * The host provides the scheduler (see {@link IHost#getFlushScheduler()}). The hosts of the DAWs
+ * share one scheduler. A scheduler without threads executes the tasks immediately in the calling
+ * thread, e.g. to measure a flush as a whole.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FlushScheduler
+{
+    /** The priority for flushing the lights (and everything else) of a surface. */
+    public static final int           PRIORITY_LIGHTS = 0;
+    /** The priority for sending text to a display. */
+    public static final int           PRIORITY_TEXT   = 1;
+
+    private static final int          POOL_SIZE       = 2;
+
+    private static FlushScheduler     shared;
+
+    private final int                 poolSize;
+    private final List<Slot>          slots           = new ArrayList<> ();
+    private final PriorityQueue<Slot> queue           = new PriorityQueue<> ( (s1, s2) -> s1.priority == s2.priority ? Long.compare (s1.sequence, s2.sequence) : Integer.compare (s1.priority, s2.priority));
+    private long                      sequence;
+    private int                       runningThreads;
+
+
+    /**
+     * Get the scheduler which is shared by all surfaces and displays.
+     *
+     * @return The scheduler
+     */
+    public static synchronized FlushScheduler getShared ()
+    {
+        if (shared == null)
+            shared = new FlushScheduler (POOL_SIZE);
+        return shared;
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param poolSize The number of threads to execute the tasks, 0 to execute the tasks
+     *            immediately in the calling thread
+     */
+    public FlushScheduler (final int poolSize)
+    {
+        this.poolSize = poolSize;
+    }
+
+
+    /**
+     * Create a new slot. Starts the threads if they are not running.
+     *
+     * @param host The host for reporting errors and the metrics of the slot
+     * @param name The name of the slot, e.g. "MCU Display 1", used for reporting the metrics
+     * @param priority The priority of the slot, e.g. PRIORITY_TEXT
+     * @return The slot
+     */
+    public synchronized Slot createSlot (final IHost host, final String name, final int priority)
+    {
+        final Slot slot = new Slot (this, host, name, priority);
+        if (this.poolSize == 0)
+            return slot;
+
+        this.slots.add (slot);
+
+        // Threads which are still running after the last slot was closed keep running
+        for (int i = this.runningThreads; i < this.poolSize; i++)
+        {
+            final Thread thread = new Thread (this::work, "Flush Scheduler " + (i + 1));
+            thread.setDaemon (true);
+            thread.start ();
+        }
+        this.runningThreads = this.poolSize;
+        return slot;
+    }
+
+
+    private synchronized void closeSlot (final Slot slot)
+    {
+        // Wake up the threads to stop them after the last slot
+        if (this.slots.remove (slot) && this.slots.isEmpty ())
+            this.notifyAll ();
+    }
+
+
+    private void execute (final Slot slot, final Runnable task)
+    {
+        if (this.poolSize == 0)
+        {
+            synchronized (this)
+            {
+                if (slot.isClosed)
+                    return;
+                slot.executed++;
+            }
+            run (slot, task);
+            return;
+        }
+
+        synchronized (this)
+        {
+            this.schedule (slot, task);
+        }
+    }
+
+
+    private void schedule (final Slot slot, final Runnable task)
+    {
+        if (slot.isClosed)
+            return;
+
+        if (slot.pendingTask == null)
+            slot.pendingSince = System.nanoTime ();
+        else
+            slot.coalesced++;
+        slot.pendingTask = task;
+
+        if (!slot.isQueued && !slot.isRunning)
+            this.enqueue (slot);
+    }
+
+
+    private void enqueue (final Slot slot)
+    {
+        slot.isQueued = true;
+        slot.sequence = this.sequence++;
+        this.queue.add (slot);
+        this.notifyAll ();
+    }
+
+
+    /**
+     * The loop of the threads. Waits for the next slot and executes its task.
+     */
+    private void work ()
+    {
+        while (true)
+        {
+            final Slot slot;
+            final Runnable task;
+            synchronized (this)
+            {
+                while (this.queue.isEmpty ())
+                {
+                    if (this.slots.isEmpty ())
+                    {
+                        this.runningThreads--;
+                        return;
+                    }
+                    try
+                    {
+                        this.wait ();
+                    }
+                    catch (final InterruptedException ex)
+                    {
+                        Thread.currentThread ().interrupt ();
+                        this.runningThreads--;
+                        return;
+                    }
+                }
+
+                slot = this.queue.poll ();
+                slot.isQueued = false;
+                task = slot.pendingTask;
+                slot.pendingTask = null;
+                slot.isRunning = true;
+                slot.executed++;
+                final long latency = System.nanoTime () - slot.pendingSince;
+                slot.totalLatency += latency;
+                slot.maxLatency = Math.max (slot.maxLatency, latency);
+            }
+
+            run (slot, task);
+
+            synchronized (this)
+            {
+                slot.isRunning = false;
+                if (slot.pendingTask != null)
+                    this.enqueue (slot);
+            }
+        }
+    }
+
+
+    /**
+     * Execute a task of a slot. Errors are reported to the host of the slot.
+     *
+     * @param slot The slot
+     * @param task The task
+     */
+    private static void run (final Slot slot, final Runnable task)
+    {
+        try
+        {
+            task.run ();
+        }
+        catch (final RuntimeException ex)
+        {
+            slot.host.error ("Crash in flush task of " + slot.name + ".", ex);
+        }
+    }
+
+
+    /** A slot which executes only the latest of its tasks. */
+    public static class Slot
+    {
+        private final FlushScheduler scheduler;
+        private final IHost          host;
+        private final String         name;
+        private final int            priority;
+
+        // All following fields are guarded by the scheduler
+        private Runnable             pendingTask;
+        private long                 pendingSince;
+        private long                 sequence;
+        private boolean              isQueued;
+        private boolean              isRunning;
+        private boolean              isClosed;
+        private long                 executed;
+        private long                 coalesced;
+        private long                 totalLatency;
+        private long                 maxLatency;
+
+
+        Slot (final FlushScheduler scheduler, final IHost host, final String name, final int priority)
+        {
+            this.scheduler = scheduler;
+            this.host = host;
+            this.name = name;
+            this.priority = priority;
+        }
+
+
+        /**
+         * Execute a task. Replaces the task which is still waiting for its execution, if any.
+         * Does nothing if the slot is closed.
+         *
+         * @param task The task
+         */
+        public void execute (final Runnable task)
+        {
+            this.scheduler.execute (this, task);
+        }
+
+
+        /**
+         * Close the slot. No further tasks are accepted, the waiting task is still executed. The
+         * metrics of the slot are reported to its host.
+         */
+        public void close ()
+        {
+            synchronized (this.scheduler)
+            {
+                if (this.isClosed)
+                    return;
+                this.isClosed = true;
+            }
+            this.scheduler.closeSlot (this);
+            this.reportMetrics ();
+        }
+
+
+        /**
+         * Print the metrics of the slot to the console of the host. Nothing is printed for slots
+         * which never executed a task.
+         */
+        private void reportMetrics ()
+        {
+            final long executedTasks = this.getExecuted ();
+            if (executedTasks == 0)
+                return;
+            this.host.println ("Flush slot " + this.name + ": " + executedTasks + " executed, " + this.getCoalesced () + " coalesced, latency average " + this.getAverageLatency () / 1000 + " us, maximum " + this.getMaxLatency () / 1000 + " us");
+        }
+
+
+        /**
+         * Returns true if the slot is closed.
+         *
+         * @return True if closed
+         */
+        public boolean isClosed ()
+        {
+            synchronized (this.scheduler)
+            {
+                return this.isClosed;
+            }
+        }
+
+
+        /**
+         * Get the name of the slot.
+         *
+         * @return The name
+         */
+        public String getName ()
+        {
+            return this.name;
+        }
+
+
+        /**
+         * Get the number of executed tasks.
+         *
+         * @return The number of tasks
+         */
+        public long getExecuted ()
+        {
+            synchronized (this.scheduler)
+            {
+                return this.executed;
+            }
+        }
+
+
+        /**
+         * Get the number of tasks which were replaced by a newer task before they were executed.
+         *
+         * @return The number of tasks
+         */
+        public long getCoalesced ()
+        {
+            synchronized (this.scheduler)
+            {
+                return this.coalesced;
+            }
+        }
+
+
+        /**
+         * Get the average time between handing over a task and its start.
+         *
+         * @return The time in nanoseconds
+         */
+        public long getAverageLatency ()
+        {
+            synchronized (this.scheduler)
+            {
+                return this.executed == 0 ? 0 : this.totalLatency / this.executed;
+            }
+        }
+
+
+        /**
+         * Get the longest time between handing over a task and its start.
+         *
+         * @return The time in nanoseconds
+         */
+        public long getMaxLatency ()
+        {
+            synchronized (this.scheduler)
+            {
+                return this.maxLatency;
+            }
+        }
+    }
+}
@@ -163,6 +163,18 @@ public class KeyManager implements NoteObserver
     }
 
 
+    /**
+     * Get the handle of the color ID to use for a pad with respect to the current scale settings.
+     *
+     * @param pad The midi note of the pad
+     * @return The handle of the color ID, see ColorManager.getHandle
+     */
+    public int getColorHandle (final int pad)
+    {
+        return this.scales.getColorHandle (this.noteMap, pad);
+    }
+
+
     /**
      * Get the mapped note from the current note matrix.
      *
@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.utils;
 
+import java.util.Objects;
+
+
 /**
  * Helper class for storing a pair of values.
  *
@@ -95,4 +98,25 @@ public class Pair<T1, T2>
     {
         this.value = value;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode ()
+    {
+        return Objects.hash (this.key, this.value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals (final Object obj)
+    {
+        if (this == obj)
+            return true;
+        if (obj == null || this.getClass () != obj.getClass ())
+            return false;
+        final Pair<?, ?> other = (Pair<?, ?>) obj;
+        return Objects.equals (this.key, other.key) && Objects.equals (this.value, other.value);
+    }
 }
@@ -62,43 +62,7 @@ public class StringUtils
         {
             final char c = name.charAt (i);
             if (c > 127)
-            {
-                switch (c)
-                {
-                    case 'Ä':
-                        str.append ("Ae");
-                        break;
-                    case 'ä':
-                        str.append ("ae");
-                        break;
-                    case 'Ö':
-                    case '\u0152':
-                        str.append ("Oe");
-                        break;
-                    case 'ö':
-                    case '\u0153':
-                        str.append ("oe");
-                        break;
-                    case 'Ü':
-                        str.append ("Ue");
-                        break;
-                    case 'ü':
-                        str.append ("ue");
-                        break;
-                    case 'ß':
-                        str.append ("ss");
-                        break;
-                    case 'é':
-                        str.append ("e");
-                        break;
-                    case '→':
-                        str.append ("->");
-                        break;
-                    default:
-                        str.append ("?");
-                        break;
-                }
-            }
+                str.append (getASCIIReplacement (c));
             else
                 str.append (c);
         }
@@ -106,6 +70,42 @@ public class StringUtils
     }
 
 
+    /**
+     * Get the replacement of a non-ASCII character, e.g. an umlaut.
+     *
+     * @param c The character to replace, must be larger than 127
+     * @return The replacement, at least one character
+     */
+    public static String getASCIIReplacement (final char c)
+    {
+        switch (c)
+        {
+            case 'Ä':
+                return "Ae";
+            case 'ä':
+                return "ae";
+            case 'Ö':
+            case '\u0152':
+                return "Oe";
+            case 'ö':
+            case '\u0153':
+                return "oe";
+            case 'Ü':
+                return "Ue";
+            case 'ü':
+                return "ue";
+            case 'ß':
+                return "ss";
+            case 'é':
+                return "e";
+            case '→':
+                return "->";
+            default:
+                return "?";
+        }
+    }
+
+
     /**
      * Shortens a text to the given length.
      *
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.ICursorDevice;
@@ -45,6 +46,15 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     /** The color ID for the off state. */
     public static final String COLOR_PAD_OFF         = "COLOR_PAD_OFF";
 
+    // Handles of the colors, which are used for each pad on each flush
+    protected static final int HANDLE_PAD_RECORD     = ColorManager.getHandle (COLOR_PAD_RECORD);
+    protected static final int HANDLE_PAD_PLAY       = ColorManager.getHandle (COLOR_PAD_PLAY);
+    protected static final int HANDLE_PAD_SELECTED   = ColorManager.getHandle (COLOR_PAD_SELECTED);
+    protected static final int HANDLE_PAD_MUTED      = ColorManager.getHandle (COLOR_PAD_MUTED);
+    protected static final int HANDLE_PAD_CONTENT    = ColorManager.getHandle (COLOR_PAD_HAS_CONTENT);
+    protected static final int HANDLE_PAD_NO_CONTENT = ColorManager.getHandle (COLOR_PAD_NO_CONTENT);
+    protected static final int HANDLE_PAD_OFF        = ColorManager.getHandle (COLOR_PAD_OFF);
+
     protected static final int DRUM_START_KEY        = 36;
     protected static final int GRID_COLUMNS          = 8;
 
@@ -224,46 +234,48 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     }
 
 
-    protected String getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    protected int getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
     {
+        final ColorManager colorManager = this.model.getColorManager ();
         final int offsetY = this.scales.getDrumOffset ();
 
         // Playing note?
         if (this.keyManager.isKeyPressed (offsetY + index))
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return colorManager.getColor (isRecording ? HANDLE_PAD_RECORD : HANDLE_PAD_PLAY);
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return colorManager.getColor (HANDLE_PAD_SELECTED);
         // Exists and active?
         final IChannel drumPad = primary.getDrumPadBank ().getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return colorManager.getColor (this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? HANDLE_PAD_OFF : HANDLE_PAD_NO_CONTENT);
         // Muted or soloed?
         if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return colorManager.getColor (HANDLE_PAD_MUTED);
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return DAWColors.getColorIndex (drumPad.getColor ());
+        return this.model.getColorManager ().getColor (DAWColors.getColorHandle (drumPad.getColor ()));
     }
 
 
-    protected String getStepColor (final int isSet, final boolean hilite)
+    protected int getStepColor (final int isSet, final boolean hilite)
     {
+        final ColorManager colorManager = this.model.getColorManager ();
         switch (isSet)
         {
             // Note continues
             case INoteClip.NOTE_CONTINUE:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT_CONT;
+                return colorManager.getColor (hilite ? HANDLE_HILITE_CONTENT : HANDLE_CONTENT_CONT);
             // Note starts
             case INoteClip.NOTE_START:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT;
+                return colorManager.getColor (hilite ? HANDLE_HILITE_CONTENT : HANDLE_CONTENT);
             // Empty
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return colorManager.getColor (hilite ? HANDLE_HILITE_NO_CONTENT : HANDLE_NO_CONTENT);
         }
     }
 
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IDrumPadBank;
@@ -171,30 +172,32 @@ public abstract class AbstractDrumView64<S extends IControlSurface<C>, C extends
     }
 
 
-    private String getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    private int getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
     {
+        final ColorManager colorManager = this.model.getColorManager ();
+
         // Playing note?
         if (this.pressedKeys[this.offsetY + index] > 0)
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return colorManager.getColor (isRecording ? AbstractDrumView.HANDLE_PAD_RECORD : AbstractDrumView.HANDLE_PAD_PLAY);
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return colorManager.getColor (AbstractDrumView.HANDLE_PAD_SELECTED);
 
         // Exists and active?
         final IChannel drumPad = primary.getDrumPadBank ().getItem (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return colorManager.getColor (this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.HANDLE_PAD_OFF : AbstractDrumView.HANDLE_PAD_NO_CONTENT);
         // Muted or soloed?
         if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return colorManager.getColor (AbstractDrumView.HANDLE_PAD_MUTED);
 
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return DAWColors.getColorIndex (drumPad.getColor ());
+        return this.model.getColorManager ().getColor (DAWColors.getColorHandle (drumPad.getColor ()));
     }
 
 
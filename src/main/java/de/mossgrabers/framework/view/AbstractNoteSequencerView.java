@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -185,22 +186,23 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
      * @param hilite The step should be highlighted
      * @param note The note of the step
      * @param track A track from which to use the color
-     * @return The color
+     * @return The color index
      */
-    protected String getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
+    protected int getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
     {
+        final ColorManager colorManager = this.model.getColorManager ();
         switch (isSet)
         {
             // Note continues
             case 1:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT_CONT;
+                return colorManager.getColor (hilite ? HANDLE_HILITE_CONTENT : HANDLE_CONTENT_CONT);
             // Note starts
             case 2:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT;
+                return colorManager.getColor (hilite ? HANDLE_HILITE_CONTENT : HANDLE_CONTENT);
             // Empty
             default:
                 if (hilite)
-                    return COLOR_STEP_HILITE_NO_CONTENT;
+                    return colorManager.getColor (HANDLE_HILITE_NO_CONTENT);
                 return this.getColor (note, this.useTrackColor ? track : null);
         }
     }
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
@@ -117,6 +118,7 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
             return;
 
         final ITrack selectedTrack = this.useTrackColor ? this.model.getSelectedTrack () : null;
+        final ColorManager colorManager = this.model.getColorManager ();
 
         final INoteClip clip = this.getClip ();
         final int length = (int) Math.floor (clip.getLoopLength () / RESOLUTIONS[this.selectedIndex]);
@@ -132,15 +134,15 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
 
             for (int y = 0; y < this.numDisplayRows; y++)
             {
-                String colorID = y == 0 ? this.getColor (x, selectedTrack) : AbstractSequencerView.COLOR_NO_CONTENT;
+                int color = y == 0 ? this.getColor (x, selectedTrack) : colorManager.getColor (HANDLE_NO_CONTENT);
                 if (isOn)
                 {
                     if (y == distance)
-                        colorID = AbstractSequencerView.COLOR_CONTENT;
+                        color = colorManager.getColor (HANDLE_CONTENT);
                     if (left <= distance && y == left || left > distance && y == sum - left)
-                        colorID = AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT;
+                        color = colorManager.getColor (HANDLE_HILITE_NO_CONTENT);
                 }
-                padGrid.lightEx (x, this.numDisplayRows - 1 - y, colorID);
+                padGrid.lightEx (x, this.numDisplayRows - 1 - y, color);
             }
         }
     }
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.INoteClip;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -48,6 +49,16 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
     /** The color for selected transposition. */
     public static final String    COLOR_TRANSPOSE_SELECTED     = "COLOR_TRANSPOSE_SELECTED";
 
+    // Handles of the colors, which are used for each pad on each flush
+    protected static final int    HANDLE_HILITE_NO_CONTENT     = ColorManager.getHandle (COLOR_STEP_HILITE_NO_CONTENT);
+    protected static final int    HANDLE_HILITE_CONTENT        = ColorManager.getHandle (COLOR_STEP_HILITE_CONTENT);
+    protected static final int    HANDLE_NO_CONTENT            = ColorManager.getHandle (COLOR_NO_CONTENT);
+    protected static final int    HANDLE_CONTENT               = ColorManager.getHandle (COLOR_CONTENT);
+    protected static final int    HANDLE_CONTENT_CONT          = ColorManager.getHandle (COLOR_CONTENT_CONT);
+    protected static final int    HANDLE_PAGE                  = ColorManager.getHandle (COLOR_PAGE);
+    protected static final int    HANDLE_ACTIVE_PAGE           = ColorManager.getHandle (COLOR_ACTIVE_PAGE);
+    protected static final int    HANDLE_SELECTED_PAGE         = ColorManager.getHandle (COLOR_SELECTED_PAGE);
+
     /** Resolution values. */
     public static final double [] RESOLUTIONS                  =
     {
@@ -229,19 +240,21 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param playPage The page which contains the currently played step
      * @param selectedPage The page selected fpr editing
      * @param page The page for which to get the color
-     * @return The color to use
+     * @return The color index to use
      */
-    protected String getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
+    protected int getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
     {
+        final ColorManager colorManager = this.model.getColorManager ();
+
         if (page == playPage)
-            return AbstractSequencerView.COLOR_ACTIVE_PAGE;
+            return colorManager.getColor (HANDLE_ACTIVE_PAGE);
 
         if (page == selectedPage)
-            return AbstractSequencerView.COLOR_SELECTED_PAGE;
+            return colorManager.getColor (HANDLE_SELECTED_PAGE);
 
         if (page < loopStartPage || page >= loopEndPage)
-            return AbstractSequencerView.COLOR_NO_CONTENT;
+            return colorManager.getColor (HANDLE_NO_CONTENT);
 
-        return AbstractSequencerView.COLOR_PAGE;
+        return colorManager.getColor (HANDLE_PAGE);
     }
 }
\ No newline at end of file
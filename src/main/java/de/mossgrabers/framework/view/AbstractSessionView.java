@@ -7,6 +7,8 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.LightAnimation;
+import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ISceneBank;
@@ -232,7 +234,7 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
                 SessionColor color = y < maxY ? rowColor : this.clipColorHasNoContent;
                 if (selX == x && selY == y)
                     color = this.clipColorIsPlaying;
-                this.surface.getPadGrid ().lightEx (x, y, color.getColor (), color.getBlink (), color.isFast ());
+                this.lightPad (x, y, color);
             }
         }
     }
@@ -271,8 +273,26 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
      */
     protected void drawPad (final ISlot slot, final int x, final int y, final boolean isArmed)
     {
-        final SessionColor color = this.getPadColor (slot, isArmed);
-        this.surface.getPadGrid ().lightEx (x, y, color.getColor (), color.getBlink (), color.isFast ());
+        this.lightPad (x, y, this.getPadColor (slot, isArmed));
+    }
+
+
+    /**
+     * Light a pad with a session color. Animated colors are handed to the animator of the pad
+     * grid, which keeps them running without further redraws.
+     *
+     * @param x The x index on the grid
+     * @param y The y index on the grid
+     * @param color The color
+     */
+    protected void lightPad (final int x, final int y, final SessionColor color)
+    {
+        final PadGrid padGrid = this.surface.getPadGrid ();
+        final LightAnimation animation = color.getAnimation ();
+        if (animation == null)
+            padGrid.lightEx (x, y, color.getColor (), color.getBlink (), color.isFast ());
+        else
+            padGrid.animateEx (x, y, animation);
     }
 
 
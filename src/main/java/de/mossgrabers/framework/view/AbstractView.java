@@ -14,12 +14,13 @@ import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.Mode;
+import de.mossgrabers.framework.observer.ObserverManagement;
+import de.mossgrabers.framework.observer.ObserverSubscriptions.Subscription;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.utils.KeyManager;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 
 /**
@@ -43,10 +44,12 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
 
     private AftertouchCommand                     aftertouchCommand;
     private PitchbendCommand                      pitchbendCommand;
+    private Subscription                          observerSubscription;
 
-    private final Map<Integer, TriggerCommand>    triggerCommands    = new HashMap<> ();
-    private final Map<Integer, TriggerCommand>    noteCommands       = new HashMap<> ();
-    private final Map<Integer, ContinuousCommand> continuousCommands = new HashMap<> ();
+    // The commands indexed by their command ID
+    private TriggerCommand []                     triggerCommands    = new TriggerCommand [0];
+    private TriggerCommand []                     noteCommands       = new TriggerCommand [0];
+    private ContinuousCommand []                  continuousCommands = new ContinuousCommand [0];
 
     protected boolean                             canScrollLeft;
     protected boolean                             canScrollRight;
@@ -100,6 +103,27 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        if (this.observerSubscription != null)
+            this.observerSubscription.setActive (enable);
+    }
+
+
+    /**
+     * Declare the model areas, which the view reads. Their observers are disabled until the view
+     * (or another one which reads them) is activated.
+     *
+     * @param areas The model areas, e.g. the arranger or the groove
+     */
+    protected void setObserverDependencies (final ObserverManagement... areas)
+    {
+        this.observerSubscription = this.model.getObserverSubscriptions ().createSubscription (areas);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void selectTrack (final int index)
@@ -190,7 +214,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerTriggerCommand (final Integer commandID, final TriggerCommand command)
     {
-        this.triggerCommands.put (commandID, command);
+        this.triggerCommands = ensureSize (this.triggerCommands, commandID);
+        this.triggerCommands[commandID.intValue ()] = command;
     }
 
 
@@ -198,7 +223,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeTriggerCommand (final Integer commandID, final ButtonEvent event)
     {
-        final TriggerCommand triggerCommand = this.triggerCommands.get (commandID);
+        final TriggerCommand triggerCommand = lookup (this.triggerCommands, commandID);
         if (triggerCommand != null)
             triggerCommand.execute (event);
     }
@@ -208,7 +233,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public TriggerCommand getTriggerCommand (final Integer commandID)
     {
-        return this.triggerCommands.get (commandID);
+        return lookup (this.triggerCommands, commandID);
     }
 
 
@@ -216,7 +241,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerContinuousCommand (final Integer commandID, final ContinuousCommand command)
     {
-        this.continuousCommands.put (commandID, command);
+        this.continuousCommands = ensureSize (this.continuousCommands, commandID);
+        this.continuousCommands[commandID.intValue ()] = command;
     }
 
 
@@ -224,7 +250,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public ContinuousCommand getContinuousCommand (final Integer commandID)
     {
-        return this.continuousCommands.get (commandID);
+        return lookup (this.continuousCommands, commandID);
     }
 
 
@@ -232,7 +258,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeContinuousCommand (final Integer commandID, final int value)
     {
-        final ContinuousCommand continuousCommand = this.continuousCommands.get (commandID);
+        final ContinuousCommand continuousCommand = lookup (this.continuousCommands, commandID);
         if (continuousCommand != null)
             continuousCommand.execute (value);
     }
@@ -242,7 +268,8 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerNoteCommand (final Integer commandID, final TriggerCommand command)
     {
-        this.noteCommands.put (commandID, command);
+        this.noteCommands = ensureSize (this.noteCommands, commandID);
+        this.noteCommands[commandID.intValue ()] = command;
     }
 
 
@@ -250,7 +277,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeNoteCommand (final Integer commandID, final int value)
     {
-        final TriggerCommand command = this.noteCommands.get (commandID);
+        final TriggerCommand command = lookup (this.noteCommands, commandID);
         if (command != null)
             command.execute (value == 0 ? ButtonEvent.UP : ButtonEvent.DOWN);
     }
@@ -260,21 +287,56 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public TriggerCommand getNoteCommand (final Integer commandID)
     {
-        return this.noteCommands.get (commandID);
+        return lookup (this.noteCommands, commandID);
+    }
+
+
+    /**
+     * Get the command registered for a command ID.
+     *
+     * @param commands The commands indexed by their ID
+     * @param commandID The ID of the command, might be null
+     * @param <T> The type of the commands
+     * @return The command or null if none is registered for the ID
+     */
+    private static <T> T lookup (final T [] commands, final Integer commandID)
+    {
+        if (commandID == null)
+            return null;
+        final int index = commandID.intValue ();
+        return index >= 0 && index < commands.length ? commands[index] : null;
+    }
+
+
+    /**
+     * Grows the array of commands if it is too small to store a command with the given ID.
+     *
+     * @param commands The commands indexed by their ID
+     * @param commandID The ID of the command to store
+     * @param <T> The type of the commands
+     * @return The given array or a larger copy of it
+     */
+    private static <T> T [] ensureSize (final T [] commands, final Integer commandID)
+    {
+        final int index = commandID.intValue ();
+        return index < commands.length ? commands : Arrays.copyOf (commands, index + 1);
     }
 
 
     /**
-     * Get the ID of the color to use for a pad with respect to the current scale settings.
+     * Get the index of the color to use for a pad with respect to the current scale settings.
      *
      * @param pad The midi note of the pad
      * @param track A track to use the track color for coloring the octave notes, set to null to use
      *            the default color
-     * @return The color ID
+     * @return The color index
      */
-    protected String getColor (final int pad, final ITrack track)
+    protected int getColor (final int pad, final ITrack track)
     {
-        return replaceOctaveColorWithTrackColor (track, this.keyManager.getColor (pad));
+        int handle = this.keyManager.getColorHandle (pad);
+        if (handle == Scales.HANDLE_OCTAVE && track != null)
+            handle = DAWColors.getColorHandle (track.getColor ());
+        return this.model.getColorManager ().getColor (handle);
     }
 
 
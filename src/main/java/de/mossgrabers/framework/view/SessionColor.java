@@ -4,6 +4,9 @@
 
 package de.mossgrabers.framework.view;
 
+import de.mossgrabers.framework.controller.grid.LightAnimation;
+
+
 /**
  * The Session view.
  *
@@ -12,9 +15,10 @@ package de.mossgrabers.framework.view;
 /** Wrapper class for clip colors. */
 public class SessionColor
 {
-    private int     color;
-    private int     blink;
-    private boolean fast;
+    private int            color;
+    private int            blink;
+    private boolean        fast;
+    private LightAnimation animation;
 
 
     /**
@@ -32,6 +36,19 @@ public class SessionColor
     }
 
 
+    /**
+     * Constructor for a color which is animated by the light animator, e.g. a pulse synchronized
+     * to the beats of the transport.
+     *
+     * @param animation The animation, the main color is its first frame
+     */
+    public SessionColor (final LightAnimation animation)
+    {
+        this (animation.getColor (0, 0), -1, false);
+        this.animation = animation;
+    }
+
+
     /**
      * Get the main color.
      *
@@ -63,4 +80,15 @@ public class SessionColor
     {
         return this.fast;
     }
+
+
+    /**
+     * Get the animation of the color.
+     *
+     * @return The animation or null if the color is not animated
+     */
+    public LightAnimation getAnimation ()
+    {
+        return this.animation;
+    }
 }
\ No newline at end of file
@@ -8,16 +8,18 @@ import de.mossgrabers.framework.command.core.AftertouchCommand;
 import de.mossgrabers.framework.command.core.ContinuousCommand;
 import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.observer.ObserverManagement;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 
 /**
  * Interface to a view. A view contains a grid of pads and a number of buttons to which commands can
- * be assigned.
+ * be assigned. The observers of the model areas a view reads are enabled by the view manager only
+ * while the view is active.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public interface View
+public interface View extends ObserverManagement
 {
     /**
      * Get the name of the view.
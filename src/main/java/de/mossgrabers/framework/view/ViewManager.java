@@ -42,7 +42,7 @@ public class ViewManager
         this.views.put (viewId, view);
 
         // Make sure it is off until used
-        view.onDeactivate ();
+        deactivate (view);
     }
 
 
@@ -68,7 +68,7 @@ public class ViewManager
         // Deactivate current view
         View view = this.getActiveView ();
         if (view != null)
-            view.onDeactivate ();
+            deactivate (view);
 
         // Set the new view
         this.previousViewId = this.activeViewId;
@@ -78,6 +78,7 @@ public class ViewManager
         if (view == null)
             throw new FrameworkException ("Trying to activate view that does not exist: " + viewId);
 
+        view.enableObservers (true);
         view.onActivate ();
 
         // Notify all view change listeners
@@ -243,4 +244,16 @@ public class ViewManager
     {
         return position >= 0 ? this.preferredViews.get (Integer.valueOf (position)) : null;
     }
+
+
+    /**
+     * Deactivate the view and disable the observers it reads.
+     *
+     * @param view The view
+     */
+    private static void deactivate (final View view)
+    {
+        view.onDeactivate ();
+        view.enableObservers (false);
+    }
 }